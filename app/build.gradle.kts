@@ -32,9 +32,41 @@ java {
     }
 }
 
+// The Vector API is still incubating (modern/streams/vector). Only the main compile needs the module; at run time
+// it is opt-in, since every JVM that resolves it prints an incubator warning: ./gradlew runVector, or -PvectorModule
+// on the other run tasks. Without it AmountKernels.best() falls back to the scalar kernel.
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+val vectorJvmArgs = if (project.hasProperty("vectorModule")) vectorModule else emptyList()
+
 application {
     // Default main class (can be overridden with -Pmain=...)
     mainClass = project.findProperty("main") as String? ?: "playground.modern.ModernMain"
+    applicationDefaultJvmArgs = listOf("--enable-preview")
+}
+
+// Route B uses preview APIs (e.g. StructuredTaskScope), so compile and run everything with preview enabled
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--enable-preview")
+}
+
+tasks.named<JavaCompile>("compileJava") {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+tasks.withType<JavaExec>().configureEach {
+    jvmArgs("--enable-preview")
+    jvmArgs(vectorJvmArgs)
+    // Demo knobs given to Gradle as system properties reach the demo JVM, e.g.
+    //   ./gradlew runModern -Dplayground.import.rows=50000000
+    systemProperties(providers.systemPropertiesPrefixedBy("playground.").get())
+    // Demo output sink: console (default), async or null, e.g. ./gradlew runModern -PoutputSink=async
+    project.findProperty("outputSink")?.let { systemProperty("playground.output", it.toString()) }
+    // Fixed root seed for RandomData.current() / Util.random*, e.g. ./gradlew runModern -Pseed=42
+    project.findProperty("seed")?.let { systemProperty("playground.seed", it.toString()) }
+}
+
+tasks.withType<Test>().configureEach {
+    jvmArgs("--enable-preview")
 }
 
 // Task to run the Modern (Route A) main class
@@ -53,6 +85,133 @@ tasks.register<JavaExec>("runJdk25") {
     mainClass.set("playground.jdk25.Jdk25Main")
 }
 
+// Headless runner over both registries, e.g.
+//   ./gradlew runBatch -Pdemos="Stream*,Counter Benchmark" -Piterations=5 -Pwarmup=1 -Pformat=csv -Poutput=build/perf/demos.csv
+tasks.register<JavaExec>("runBatch") {
+    group = "application"
+    description = "Run demos non-interactively and report wall/CPU time, allocation and GC counts as JSON or CSV"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("playground.common.batch.BatchRunner")
+    val batchArgs = mutableListOf<String>()
+    listOf("route", "demos", "iterations", "warmup", "format", "output").forEach { key ->
+        project.findProperty(key)?.let { batchArgs += listOf("--$key", it.toString()) }
+    }
+    if (project.hasProperty("verbose")) batchArgs += "--verbose"
+    args(batchArgs)
+}
+
+// Concurrent, isolated run of many demos with a per-demo CPU/allocation/peak-thread report, e.g.
+//   ./gradlew runParallel -Pdemos="Concurrency*,Stream*" -Ptimeout=120 -PshowOutput
+tasks.register<JavaExec>("runParallel") {
+    group = "application"
+    description = "Run demos concurrently, each with its own captured output, executor and timeout"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("playground.common.batch.ParallelRunner")
+    val parallelArgs = mutableListOf<String>()
+    listOf("route", "demos", "parallelism", "timeout").forEach { key ->
+        project.findProperty(key)?.let { parallelArgs += listOf("--$key", it.toString()) }
+    }
+    if (project.hasProperty("showOutput")) parallelArgs += "--show-output"
+    args(parallelArgs)
+}
+
+// The Vector API demo with jdk.incubator.vector resolved, e.g. ./gradlew runVector
+tasks.register<JavaExec>("runVector") {
+    group = "application"
+    description = "Run the Vector API aggregation demo with the incubating jdk.incubator.vector module"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("playground.common.batch.BatchRunner")
+    args("--route", "modern", "--demos", "Vector API Aggregation", "--iterations", "1", "--warmup", "0", "--verbose")
+    if (!project.hasProperty("vectorModule")) jvmArgs(vectorModule)
+}
+
+// Startup cache for the interactive routes, trained on every registered demo (StartupTraining):
+//   ./gradlew aotTrain [-PtrainDemos="Stream*,Clean*"]    JDK 25 AOT cache   -> build/aot/playground.aot
+//   ./gradlew cdsTrain [-PtrainDemos=...]                 dynamic AppCDS     -> build/aot/playground.jsa
+//   ./gradlew runModern -PstartupCache[=aot|cds]          launch with it (retrained when the jar changes)
+//   ./gradlew startupBenchmark [-PstartupCache=cds] [-Proute=modern] [-Pruns=5] [-Pdemo=1]
+// A cache is only used with the exact class path and JVM flags it was trained with, so everything here
+// runs from the jars rather than build/classes.
+val startupCacheKind = (project.findProperty("startupCache") as String?)?.ifEmpty { "aot" }
+val startupClasspath = files(tasks.jar, configurations.runtimeClasspath)
+
+data class StartupCache(val task: String, val file: String, val createFlag: String, val useFlag: String, val benchmarkOption: String)
+
+val startupCaches = mapOf(
+    "aot" to StartupCache("aotTrain", "aot/playground.aot", "-XX:AOTCacheOutput=", "-XX:AOTCache=", "--aot-cache"),
+    "cds" to StartupCache("cdsTrain", "aot/playground.jsa", "-XX:ArchiveClassesAtExit=", "-XX:SharedArchiveFile=", "--cds-archive"))
+
+fun startupCache(kind: String): StartupCache =
+    startupCaches[kind] ?: throw GradleException("Unknown startupCache '$kind', expected one of ${startupCaches.keys}")
+
+startupCaches.forEach { (kind, cache) ->
+    tasks.register<JavaExec>(cache.task) {
+        group = "application"
+        description = "Run every demo once to train the ${if (kind == "aot") "JDK 25 AOT cache" else "dynamic AppCDS archive"} build/${cache.file}"
+        classpath = startupClasspath
+        mainClass.set("playground.common.batch.StartupTraining")
+        val archive = layout.buildDirectory.file(cache.file)
+        outputs.file(archive)
+        project.findProperty("trainDemos")?.let { args(it.toString()) }
+        jvmArgs(cache.createFlag + archive.get().asFile.absolutePath)
+        doFirst { archive.get().asFile.parentFile.mkdirs() }
+    }
+}
+
+if (startupCacheKind != null) {
+    val cache = startupCache(startupCacheKind)
+    listOf("runModern", "runJdk25").forEach { name ->
+        tasks.named<JavaExec>(name) {
+            dependsOn(cache.task)
+            classpath = startupClasspath
+            jvmArgs(cache.useFlag + layout.buildDirectory.file(cache.file).get().asFile.absolutePath)
+        }
+    }
+}
+
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "application"
+    description = "Measure time to first menu and first demo output of fresh JVMs, without and with the startup cache"
+    val cache = startupCache(startupCacheKind ?: "aot")
+    dependsOn(cache.task)
+    classpath = startupClasspath
+    mainClass.set("playground.common.batch.StartupBenchmark")
+    val benchmarkArgs = mutableListOf(cache.benchmarkOption, layout.buildDirectory.file(cache.file).get().asFile.absolutePath)
+    listOf("route", "runs", "demo").forEach { key ->
+        project.findProperty(key)?.let { benchmarkArgs += listOf("--$key", it.toString()) }
+    }
+    args(benchmarkArgs)
+}
+
+// Performance regression gate (PerfSuite): fixed benchmarks over stream collectors, counters and the order use
+// case, compared with perf/baseline.csv; fails on a slowdown beyond tolerance, report in build/reports/perf.
+//   ./gradlew perfGate [-PperfBenchmarks="counters.*"] [-Ptolerance=15] [-Pforks=2] [-Psamples=8]
+//   ./gradlew perfGate -PupdateBaseline                   accept the current numbers
+//   ./gradlew check -PperfGate                            also gate `check` (opt-in: numbers are per machine)
+// Without a baseline file the first run records one and passes.
+val perfGate = tasks.register<JavaExec>("perfGate") {
+    group = "verification"
+    description = "Run the benchmark suite and fail if a hot path got slower than its baseline allows"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("playground.modern.perf.PerfSuite")
+    // Fixed heap so GC sizing does not drift between runs
+    jvmArgs("-Xms512m", "-Xmx512m")
+    val report = layout.buildDirectory.file("reports/perf/perf-gate.md")
+    outputs.upToDateWhen { false }
+    val gateArgs = mutableListOf(
+        "--baseline", layout.projectDirectory.file("perf/baseline.csv").asFile.absolutePath,
+        "--report", report.get().asFile.absolutePath)
+    mapOf("perfBenchmarks" to "benchmarks", "tolerance" to "tolerance", "forks" to "forks", "samples" to "samples").forEach { (property, option) ->
+        project.findProperty(property)?.let { gateArgs += listOf("--$option", it.toString()) }
+    }
+    if (project.hasProperty("updateBaseline")) gateArgs += "--update-baseline"
+    args(gateArgs)
+}
+
+if (project.hasProperty("perfGate")) {
+    tasks.named("check") { dependsOn(perfGate) }
+}
+
 tasks.named<Test>("test") {
     // Use JUnit Platform for unit tests.
     useJUnitPlatform()
@@ -1,5 +1,7 @@
 package playground.common;
 
+import playground.common.output.Output;
+
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
@@ -45,9 +47,9 @@ public class CliMenu {
     }
 
     private void printDemos() {
-        var demos = registry.demos();
+        var demos = registry.descriptors();
         for (int i = 0; i < demos.size(); i++) {
-            Demo demo = demos.get(i);
+            DemoDescriptor demo = demos.get(i);
             System.out.printf("  [%d] %s%n", i + 1, demo.name());
             System.out.printf("      %s%n", demo.description());
         }
@@ -87,7 +89,7 @@ public class CliMenu {
             return false;
         }
 
-        var demoOpt = registry.get(choice - 1);
+        var demoOpt = registry.descriptor(choice - 1);
         if (demoOpt.isEmpty()) {
             System.out.println("  Invalid choice. Try again.");
             return true;
@@ -97,15 +99,19 @@ public class CliMenu {
         return true;
     }
 
-    private void runDemo(Demo demo) {
+    private void runDemo(DemoDescriptor demo) {
         System.out.println();
         System.out.println("───────────────────────────────────────────────────────────────");
         System.out.println("  Running: " + demo.name());
         System.out.println("───────────────────────────────────────────────────────────────");
         try {
-            demo.run();
+            // First selection loads the demo class
+            demo.demo().run();
+            // Let an asynchronous sink catch up before the prompt
+            Output.flush();
             readAnyChoice();
         } catch (Exception e) {
+            Output.flush();
             System.err.println("  Error running demo: " + e.getMessage());
             e.printStackTrace();
         }
@@ -0,0 +1,24 @@
+package playground.common;
+
+import java.util.List;
+
+/**
+ * Service provider listing the demos of one route, discovered with {@link java.util.ServiceLoader} through
+ * {@code META-INF/services/playground.common.DemoCatalog}.
+ * <p>
+ * A catalog only describes demos ({@link DemoDescriptor#lazy}) and must not reference their classes, so
+ * that building the menu loads no demo code. A route may have several catalogs; they are registered in
+ * service file order.
+ */
+public interface DemoCatalog {
+
+    /**
+     * Returns the route this catalog contributes to, e.g. {@code "modern"} or {@code "jdk25"}.
+     */
+    String route();
+
+    /**
+     * Returns the demos of this catalog in menu order.
+     */
+    List<DemoDescriptor> demos();
+}
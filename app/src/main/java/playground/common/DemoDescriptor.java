@@ -0,0 +1,80 @@
+package playground.common;
+
+import java.util.Objects;
+
+/**
+ * What the menu needs to know about a demo before it runs: name, description and the class to load.
+ * The demo class is loaded and instantiated on the first call to {@link #demo()} and reused afterwards,
+ * so listing a route costs the same however many demos it has.
+ */
+public final class DemoDescriptor {
+
+    private final String name;
+    private final String description;
+    private final String className;
+    private Demo demo;
+
+    private DemoDescriptor(String name, String description, String className, Demo demo) {
+        this.name = Objects.requireNonNull(name);
+        this.description = Objects.requireNonNull(description);
+        this.className = Objects.requireNonNull(className);
+        this.demo = demo;
+    }
+
+    /**
+     * A demo loaded on demand; {@code className} must name a public class with a public no-arg constructor.
+     */
+    public static DemoDescriptor lazy(String className, String name, String description) {
+        return new DemoDescriptor(name, description, className, null);
+    }
+
+    /**
+     * An already constructed demo.
+     */
+    public static DemoDescriptor of(Demo demo) {
+        return new DemoDescriptor(demo.name(), demo.description(), demo.getClass().getName(), demo);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public String className() {
+        return className;
+    }
+
+    /**
+     * Returns true once the demo has been instantiated.
+     */
+    public synchronized boolean isLoaded() {
+        return demo != null;
+    }
+
+    /**
+     * Returns the demo, loading and instantiating its class on first use.
+     *
+     * @throws IllegalStateException if the class cannot be loaded or instantiated
+     */
+    public synchronized Demo demo() {
+        if (demo == null) {
+            try {
+                demo = Class.forName(className, true, DemoDescriptor.class.getClassLoader())
+                        .asSubclass(Demo.class)
+                        .getConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalStateException("Cannot load demo '" + name + "' (" + className + ")", e);
+            }
+        }
+        return demo;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + className + (isLoaded() ? ", loaded)" : ")");
+    }
+}
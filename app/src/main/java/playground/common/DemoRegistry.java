@@ -4,25 +4,44 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.ServiceLoader;
 
 /**
  * Registry for collecting and managing demos.
- * Maintains an ordered list of registered demos.
+ * Maintains an ordered list of demo descriptors; a demo's class is only loaded when it is selected.
  */
 public class DemoRegistry {
 
     private final String routeName;
-    private final List<Demo> demos = new ArrayList<>();
+    private final List<DemoDescriptor> descriptors = new ArrayList<>();
 
     public DemoRegistry(String routeName) {
         this.routeName = routeName;
     }
 
     /**
-     * Registers a demo to this registry.
+     * Registers an already constructed demo to this registry.
      */
     public void register(Demo demo) {
-        demos.add(demo);
+        descriptors.add(DemoDescriptor.of(demo));
+    }
+
+    /**
+     * Registers a demo descriptor to this registry.
+     */
+    public void register(DemoDescriptor descriptor) {
+        descriptors.add(descriptor);
+    }
+
+    /**
+     * Registers the demos of every {@link DemoCatalog} on the class path whose route is {@code route}.
+     */
+    public void registerCatalogs(String route) {
+        for (DemoCatalog catalog : ServiceLoader.load(DemoCatalog.class, DemoCatalog.class.getClassLoader())) {
+            if (catalog.route().equals(route)) {
+                catalog.demos().forEach(this::register);
+            }
+        }
     }
 
     /**
@@ -33,33 +52,40 @@ public class DemoRegistry {
     }
 
     /**
-     * Returns an unmodifiable list of all registered demos.
+     * Returns an unmodifiable list of all registered descriptors, without loading any demo.
      */
-    public List<Demo> demos() {
-        return Collections.unmodifiableList(demos);
+    public List<DemoDescriptor> descriptors() {
+        return Collections.unmodifiableList(descriptors);
     }
 
     /**
-     * Returns the demo at the given index.
+     * Returns the descriptor at the given index.
      */
-    public Optional<Demo> get(int index) {
-        if (index >= 0 && index < demos.size()) {
-            return Optional.of(demos.get(index));
+    public Optional<DemoDescriptor> descriptor(int index) {
+        if (index >= 0 && index < descriptors.size()) {
+            return Optional.of(descriptors.get(index));
         }
         return Optional.empty();
     }
 
+    /**
+     * Returns the demo at the given index, loading it if needed.
+     */
+    public Optional<Demo> get(int index) {
+        return descriptor(index).map(DemoDescriptor::demo);
+    }
+
     /**
      * Returns the number of registered demos.
      */
     public int size() {
-        return demos.size();
+        return descriptors.size();
     }
 
     /**
      * Returns true if no demos are registered.
      */
     public boolean isEmpty() {
-        return demos.isEmpty();
+        return descriptors.isEmpty();
     }
 }
@@ -0,0 +1,12 @@
+package playground.common;
+
+/**
+ * A top-level route (Route A, Route B): a demo whose {@link #run()} opens a menu over its own registry.
+ */
+public interface Route extends Demo {
+
+    /**
+     * Returns the registry holding this route's demos, for runners that don't go through the menu.
+     */
+    DemoRegistry registry();
+}
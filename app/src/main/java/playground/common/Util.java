@@ -1,15 +1,17 @@
 package playground.common;
 
-import java.util.Random;
+import playground.common.output.Output;
+import playground.common.random.RandomData;
+
 import java.util.function.Supplier;
 
 /**
  * Utility helpers for demos: timing, printing, and random data.
+ * Printing goes through the current {@link Output} sink; random data comes from the calling thread's
+ * {@link RandomData}, so demos generating data on many threads do not contend on a shared generator.
  */
 public final class Util {
 
-    private static final Random RANDOM = new Random();
-
     private Util() {
         // Utility class - no instantiation
     }
@@ -27,7 +29,7 @@ public final class Util {
             runnable.run();
         } finally {
             long duration = System.nanoTime() - start;
-            System.out.printf("  [%s] completed in %.3f ms%n", label, duration / 1_000_000.0);
+            Output.printf("  [%s] completed in %.3f ms%n", label, duration / 1_000_000.0);
         }
     }
 
@@ -49,7 +51,7 @@ public final class Util {
             return supplier.get();
         } finally {
             long duration = System.nanoTime() - start;
-            System.out.printf("  [%s] completed in %.3f ms%n", label, duration / 1_000_000.0);
+            Output.printf("  [%s] completed in %.3f ms%n", label, duration / 1_000_000.0);
         }
     }
 
@@ -61,30 +63,30 @@ public final class Util {
      * Prints a section header.
      */
     public static void section(String title) {
-        System.out.println();
-        System.out.println("── " + title + " ──");
+        Output.println();
+        Output.println("── " + title + " ──");
     }
 
     /**
      * Prints a subsection header.
      */
     public static void subsection(String title) {
-        System.out.println();
-        System.out.println("  " + title + ":");
+        Output.println();
+        Output.println("  " + title + ":");
     }
 
     /**
      * Prints a key-value pair.
      */
     public static void print(String key, Object value) {
-        System.out.printf("    %-30s : %s%n", key, value);
+        Output.printf("    %-30s : %s%n", key, value);
     }
 
     /**
      * Prints a horizontal rule.
      */
     public static void rule() {
-        System.out.println("───────────────────────────────────────────────────────────────");
+        Output.println("───────────────────────────────────────────────────────────────");
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -95,14 +97,14 @@ public final class Util {
      * Returns a random int between min (inclusive) and max (inclusive).
      */
     public static int randomInt(int min, int max) {
-        return RANDOM.nextInt(max - min + 1) + min;
+        return RandomData.current().nextInt(min, max);
     }
 
     /**
-     * Returns a random long between min and max.
+     * Returns a random long between min (inclusive) and max (inclusive).
      */
     public static long randomLong(long min, long max) {
-        return RANDOM.nextLong(min, max + 1);
+        return RandomData.current().nextLong(min, max);
     }
 
     /**
@@ -110,21 +112,13 @@ public final class Util {
      */
     @SafeVarargs
     public static <T> T randomOf(T... elements) {
-        if (elements.length == 0) {
-            throw new IllegalArgumentException("Cannot pick a random element from an empty array.");
-        }
-        return elements[RANDOM.nextInt(elements.length)];
+        return RandomData.current().pick(elements);
     }
 
     /**
-     * Generates a random string of given length.
+     * Generates a random alphanumeric string of given length.
      */
     public static String randomString(int length) {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(chars.charAt(RANDOM.nextInt(chars.length())));
-        }
-        return sb.toString();
+        return RandomData.current().nextString(length);
     }
 }
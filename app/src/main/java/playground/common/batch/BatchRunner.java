@@ -0,0 +1,270 @@
+package playground.common.batch;
+
+import playground.common.Demo;
+import playground.common.DemoDescriptor;
+import playground.common.DemoRegistry;
+import playground.common.Route;
+import playground.common.output.NullSink;
+import playground.common.output.Output;
+import playground.common.output.OutputSink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Non-interactive runner over the demo registries: selects demos by name or glob, runs each one
+ * {@code warmup} times unmeasured and {@code iterations} times measured ({@link RunSample}), and writes
+ * the results as JSON or CSV.
+ * <p>
+ * Usage (or {@code ./gradlew runBatch -Pdemos=... -Piterations=...}):
+ * <pre>
+ *   BatchRunner [--route modern,jdk25] [--demos "Stream*,Counter Benchmark"] [--iterations 3] [--warmup 1]
+ *               [--format json|csv] [--output build/perf/demos.json] [--verbose] [--list]
+ * </pre>
+ * Demo output is discarded unless {@code --verbose} (the {@link Output} sink is a {@link NullSink} meanwhile, so
+ * demos printing through it don't even format); progress goes to stderr and the report to
+ * {@code --output} (stdout by default). Globs match demo names case-insensitively ({@code *}, {@code ?}).
+ * The process exits with 1 if any demo failed.
+ */
+public final class BatchRunner {
+
+    // Route aliases -> route main classes; loaded by name so common/ does not depend on the routes.
+    private static final Map<String, String> ROUTES = Map.of(
+            "modern", "playground.modern.ModernMain",
+            "jdk25", "playground.jdk25.Jdk25Main");
+    static final List<String> ROUTE_ORDER = List.of("modern", "jdk25");
+
+    private final int warmup;
+    private final int iterations;
+    private final boolean verbose;
+
+    public BatchRunner(int warmup, int iterations, boolean verbose) {
+        if (warmup < 0) throw new IllegalArgumentException("warmup must be >= 0");
+        if (iterations <= 0) throw new IllegalArgumentException("iterations must be > 0");
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.verbose = verbose;
+    }
+
+    /**
+     * Runs every demo in {@code demos} in order and returns one result per demo.
+     */
+    public List<DemoResult> run(String route, List<DemoDescriptor> demos) {
+        List<DemoResult> results = new ArrayList<>(demos.size());
+        for (DemoDescriptor demo : demos) {
+            results.add(run(route, demo));
+        }
+        return results;
+    }
+
+    /**
+     * Runs one demo; loading its class happens here, so a demo that fails to load is reported like one that throws.
+     */
+    public DemoResult run(String route, DemoDescriptor descriptor) {
+        List<RunSample> samples = new ArrayList<>(iterations);
+        try {
+            Demo demo = descriptor.demo();
+            for (int i = 0; i < warmup; i++) {
+                progress(route, descriptor, "warmup " + (i + 1) + "/" + warmup);
+                runQuietly(demo::run);
+            }
+            for (int i = 0; i < iterations; i++) {
+                progress(route, descriptor, "run " + (i + 1) + "/" + iterations);
+                samples.add(quietly(() -> RunSample.measure(demo::run)));
+            }
+            return new DemoResult(route, descriptor.name(), warmup, samples, null);
+        } catch (Exception e) {
+            System.err.printf("[batch] %s / %s failed: %s%n", route, descriptor.name(), e);
+            return new DemoResult(route, descriptor.name(), warmup, samples, String.valueOf(e));
+        }
+    }
+
+    /**
+     * Demos of {@code registry} whose names match any of the globs, in registry order; none of them is loaded yet.
+     */
+    public static List<DemoDescriptor> select(DemoRegistry registry, List<String> globs) {
+        List<Pattern> patterns = globs.stream().map(BatchRunner::globToPattern).toList();
+        return registry.descriptors().stream()
+                .filter(demo -> patterns.stream().anyMatch(p -> p.matcher(demo.name()).matches()))
+                .toList();
+    }
+
+    /**
+     * Instantiates a route by alias ({@code modern}, {@code jdk25}) or fully qualified class name.
+     */
+    public static Route loadRoute(String nameOrClass) {
+        String className = ROUTES.getOrDefault(nameOrClass.toLowerCase(Locale.ROOT), nameOrClass);
+        try {
+            return (Route) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Unknown route: " + nameOrClass, e);
+        }
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[batch] " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        List<DemoResult> results = new ArrayList<>();
+        BatchRunner runner = new BatchRunner(options.warmup, options.iterations, options.verbose);
+        for (String routeName : options.routes) {
+            Route route = loadRoute(routeName);
+            List<DemoDescriptor> selected = select(route.registry(), options.demos);
+            if (options.list) {
+                selected.forEach(demo -> System.out.println(routeName + "\t" + demo.name()));
+                continue;
+            }
+            results.addAll(runner.run(routeName, selected));
+        }
+        if (options.list) {
+            System.exit(0);
+        }
+        if (results.isEmpty()) {
+            System.err.println("[batch] No demo matched " + options.demos);
+            System.exit(2);
+        }
+
+        write(results, options.format, options.output);
+        // Demos may leave non-daemon threads behind; don't let them keep the JVM alive.
+        System.exit(results.stream().allMatch(DemoResult::ok) ? 0 : 1);
+    }
+
+    /**
+     * Writes {@code results} to {@code output}, or to stdout if {@code output} is null.
+     */
+    public static void write(List<DemoResult> results, ReportFormat format, Path output) {
+        if (output == null) {
+            format.write(results, new PrintWriter(System.out, true, StandardCharsets.UTF_8));
+            return;
+        }
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+                format.write(results, out);
+            }
+            System.err.println("[batch] Wrote " + results.size() + " result(s) to " + output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T quietly(Supplier<T> task) {
+        if (verbose) {
+            try {
+                return task.get();
+            } finally {
+                // Queued output of an asynchronous sink belongs to this run, but outside its measurement
+                Output.flush();
+            }
+        }
+        PrintStream original = System.out;
+        OutputSink originalSink = Output.use(NullSink.INSTANCE);
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return task.get();
+        } finally {
+            System.setOut(original);
+            Output.use(originalSink);
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        quietly(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private static void progress(String route, DemoDescriptor demo, String step) {
+        System.err.printf("[batch] %s / %s: %s%n", route, demo.name(), step);
+    }
+
+    /**
+     * Case-insensitive pattern for a name glob ({@code *} any run of characters, {@code ?} one character).
+     */
+    public static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.trim().toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    // ─────────────────────────────────────────────────────────────────
+    // Command line
+    // ─────────────────────────────────────────────────────────────────
+
+    private record Options(
+            List<String> routes,
+            List<String> demos,
+            int iterations,
+            int warmup,
+            ReportFormat format,
+            Path output,
+            boolean verbose,
+            boolean list) {
+
+        static Options parse(String[] args) {
+            List<String> routes = ROUTE_ORDER;
+            List<String> demos = List.of("*");
+            int iterations = 3;
+            int warmup = 1;
+            ReportFormat format = ReportFormat.JSON;
+            Path output = null;
+            boolean verbose = false;
+            boolean list = false;
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--route" -> routes = split(value(args, ++i, arg));
+                    case "--demos" -> demos = split(value(args, ++i, arg));
+                    case "--iterations" -> iterations = Integer.parseInt(value(args, ++i, arg));
+                    case "--warmup" -> warmup = Integer.parseInt(value(args, ++i, arg));
+                    case "--format" -> format = ReportFormat.parse(value(args, ++i, arg));
+                    case "--output" -> output = Path.of(value(args, ++i, arg));
+                    case "--verbose" -> verbose = true;
+                    case "--list" -> list = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return new Options(routes, demos, iterations, warmup, Objects.requireNonNull(format), output, verbose, list);
+        }
+
+        private static String value(String[] args, int i, String option) {
+            if (i >= args.length) throw new IllegalArgumentException(option + " needs a value");
+            return args[i];
+        }
+
+        private static List<String> split(String csv) {
+            return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package playground.common.batch;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * All measured runs of one demo. {@code error} is set if a run threw; the runs before it are kept.
+ */
+public record DemoResult(String route, String name, int warmup, List<RunSample> samples, String error) {
+
+    public DemoResult {
+        Objects.requireNonNull(route);
+        Objects.requireNonNull(name);
+        samples = List.copyOf(samples);
+    }
+
+    public boolean ok() {
+        return error == null;
+    }
+
+    /**
+     * Median of one metric across the measured runs, or -1 if there are none.
+     */
+    public long median(ToLongFunction<RunSample> metric) {
+        if (samples.isEmpty()) {
+            return -1;
+        }
+        long[] values = samples.stream().mapToLong(metric).toArray();
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+}
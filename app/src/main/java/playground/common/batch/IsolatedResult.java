@@ -0,0 +1,38 @@
+package playground.common.batch;
+
+import java.util.Objects;
+
+/**
+ * One demo run by {@link ParallelRunner} in isolation.
+ *
+ * @param wallNanos      from submission to completion, failure or timeout
+ * @param cpuNanos       CPU time of the demo's platform threads (sampled; see {@link ParallelRunner}), -1 if unsupported
+ * @param allocatedBytes heap allocated by the same threads, -1 if unsupported
+ * @param peakThreads    most live platform threads seen in the demo's thread group at once
+ * @param output         everything the demo printed to {@code System.out}/{@code System.err}
+ * @param error          why the demo failed or timed out, null if it completed
+ */
+public record IsolatedResult(
+        String route,
+        String name,
+        Status status,
+        long wallNanos,
+        long cpuNanos,
+        long allocatedBytes,
+        int peakThreads,
+        String output,
+        String error) {
+
+    public enum Status { OK, FAILED, TIMED_OUT }
+
+    public IsolatedResult {
+        Objects.requireNonNull(route);
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(output);
+    }
+
+    public boolean ok() {
+        return status == Status.OK;
+    }
+}
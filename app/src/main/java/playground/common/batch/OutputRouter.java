@@ -0,0 +1,95 @@
+package playground.common.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+
+/**
+ * Replaces {@code System.out} and {@code System.err} with streams that write to the buffer bound to the
+ * calling thread, so demos running side by side each capture their own output. The binding is inherited
+ * by threads (platform and virtual) that a bound thread starts; threads without a binding, such as
+ * common-pool workers, still write to the original streams. {@link #close()} restores the originals.
+ */
+final class OutputRouter implements AutoCloseable {
+
+    private static final InheritableThreadLocal<ByteArrayOutputStream> TARGET = new InheritableThreadLocal<>();
+
+    private final PrintStream originalOut;
+    private final PrintStream originalErr;
+
+    private OutputRouter() {
+        this.originalOut = System.out;
+        this.originalErr = System.err;
+    }
+
+    static OutputRouter install() {
+        OutputRouter router = new OutputRouter();
+        System.setOut(new PrintStream(new Routed(router.originalOut), true, router.charset()));
+        System.setErr(new PrintStream(new Routed(router.originalErr), true, router.originalErr.charset()));
+        return router;
+    }
+
+    /**
+     * Charset the routed {@code System.out} encodes with; captured bytes decode with it.
+     */
+    Charset charset() {
+        return originalOut.charset();
+    }
+
+    /**
+     * Sends the calling thread's output, and that of threads it starts from now on, to {@code buffer}.
+     */
+    void bind(ByteArrayOutputStream buffer) {
+        TARGET.set(buffer);
+    }
+
+    void unbind() {
+        TARGET.remove();
+    }
+
+    @Override
+    public void close() {
+        System.out.flush();
+        System.err.flush();
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    private static final class Routed extends OutputStream {
+
+        private final OutputStream fallback;
+
+        Routed(OutputStream fallback) {
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ByteArrayOutputStream target = TARGET.get();
+            if (target != null) {
+                target.write(b);
+            } else {
+                fallback.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteArrayOutputStream target = TARGET.get();
+            if (target != null) {
+                target.write(b, off, len);
+            } else {
+                fallback.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (TARGET.get() == null) {
+                fallback.flush();
+            }
+        }
+    }
+}
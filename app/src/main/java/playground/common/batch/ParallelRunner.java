@@ -0,0 +1,317 @@
+package playground.common.batch;
+
+import playground.common.DemoDescriptor;
+import playground.common.Route;
+import playground.common.output.ConsoleSink;
+import playground.common.output.Output;
+import playground.common.output.OutputSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs demos concurrently, each in isolation: its own thread group and single-thread executor, its own
+ * captured output ({@link OutputRouter}) and its own timeout. Suite wall time approaches that of the longest
+ * demo instead of the sum, which pays off for demos that mostly sleep or wait (the visibility demos, for example).
+ * CPU-bound benchmark demos compete for the same cores, so their numbers are not comparable to a solo run.
+ * <p>
+ * Per demo it reports CPU time, allocated bytes and peak thread count of the platform threads in the demo's
+ * thread group. These come from {@code ThreadMXBean}, sampled every {@value #SAMPLE_MILLIS} ms and once more
+ * when the demo's thread ends. Threads that live shorter than a sample interval are under-counted. Virtual
+ * threads and common-pool workers don't belong to the group and are not counted.
+ * <p>
+ * Usage (or {@code ./gradlew runParallel -Pdemos=... -Ptimeout=...}):
+ * <pre>
+ *   ParallelRunner [--route modern,jdk25] [--demos "Stream*,Concurrency*"] [--parallelism 0] [--timeout 300]
+ *                  [--show-output]
+ * </pre>
+ * {@code --parallelism 0} (the default) starts every selected demo at once; {@code --timeout} is in seconds per
+ * demo. A demo that times out is interrupted and abandoned. The process exits with 1 if any demo failed or timed out.
+ */
+public final class ParallelRunner {
+
+    private static final long SAMPLE_MILLIS = 5;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int parallelism;
+    private final Duration timeout;
+
+    public ParallelRunner(int parallelism, Duration timeout) {
+        if (parallelism < 0) throw new IllegalArgumentException("parallelism must be >= 0");
+        if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be > 0");
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Runs the demos of one route concurrently and returns one result per demo, in input order.
+     */
+    public List<IsolatedResult> run(String route, List<DemoDescriptor> demos) {
+        return runAll(demos.stream().map(demo -> new Selected(route, demo)).toList());
+    }
+
+    private List<IsolatedResult> runAll(List<Selected> selected) {
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+        int lanes = parallelism == 0 ? selected.size() : Math.min(parallelism, selected.size());
+        if (THREADS.isThreadAllocatedMemorySupported()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        List<Accounting> active = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(daemon("parallel-sampler"));
+        ExecutorService launcher = Executors.newFixedThreadPool(lanes, daemon("parallel-launcher"));
+        // Capture is per calling thread, so output must be written by the demo's threads, not an async writer
+        OutputSink originalSink = Output.use(ConsoleSink.INSTANCE);
+        try (OutputRouter router = OutputRouter.install()) {
+            sampler.scheduleAtFixedRate(() -> active.forEach(Accounting::sample), 0, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+            List<Future<IsolatedResult>> futures = new ArrayList<>(selected.size());
+            for (Selected s : selected) {
+                futures.add(launcher.submit(() -> runIsolated(s, router, active)));
+            }
+            List<IsolatedResult> results = new ArrayList<>(selected.size());
+            for (Future<IsolatedResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for demos", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Launcher failed", e.getCause());
+        } finally {
+            launcher.shutdownNow();
+            sampler.shutdownNow();
+            Output.use(originalSink);
+        }
+    }
+
+    private IsolatedResult runIsolated(Selected selected, OutputRouter router, List<Accounting> active) {
+        DemoDescriptor descriptor = selected.demo();
+        ThreadGroup group = new ThreadGroup("demo-" + descriptor.name());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Accounting accounting = new Accounting(group);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(group, runnable, group.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        System.err.printf("[parallel] %s / %s: started%n", selected.route(), descriptor.name());
+
+        active.add(accounting);
+        long start = System.nanoTime();
+        Future<?> future = executor.submit(() -> {
+            router.bind(output);
+            try {
+                descriptor.demo().run();
+            } finally {
+                accounting.sampleCurrentThread();
+                router.unbind();
+            }
+        });
+
+        IsolatedResult.Status status = IsolatedResult.Status.OK;
+        String error = null;
+        try {
+            future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            status = IsolatedResult.Status.TIMED_OUT;
+            error = "timed out after " + timeout.toSeconds() + " s";
+        } catch (ExecutionException e) {
+            status = IsolatedResult.Status.FAILED;
+            error = String.valueOf(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            status = IsolatedResult.Status.FAILED;
+            error = "interrupted";
+        }
+        long wall = System.nanoTime() - start;
+        executor.shutdownNow();
+        active.remove(accounting);
+        accounting.sample();
+
+        System.err.printf("[parallel] %s / %s: %s in %d ms%n", selected.route(), descriptor.name(),
+                status, wall / 1_000_000);
+        return new IsolatedResult(selected.route(), descriptor.name(), status, wall, accounting.cpuNanos(),
+                accounting.allocatedBytes(), accounting.peakThreads(), output.toString(router.charset()), error);
+    }
+
+    /**
+     * Prints one row per demo and the suite totals; {@code suiteWallNanos} is the elapsed time of the whole run.
+     */
+    public static void report(List<IsolatedResult> results, long suiteWallNanos, PrintStream out) {
+        out.printf("%-6s | %-32s | %-9s | %9s | %9s | %10s | %8s | %6s%n",
+                "route", "demo", "status", "wall ms", "cpu ms", "alloc MB", "peak thr", "lines");
+        long sum = 0;
+        IsolatedResult longest = null;
+        for (IsolatedResult r : results) {
+            out.printf("%-6s | %-32.32s | %-9s | %9.1f | %9s | %10s | %8d | %6d%n",
+                    r.route(), r.name(), r.status(), r.wallNanos() / 1e6,
+                    r.cpuNanos() < 0 ? "n/a" : String.format("%.1f", r.cpuNanos() / 1e6),
+                    r.allocatedBytes() < 0 ? "n/a" : String.format("%.1f", r.allocatedBytes() / (1024.0 * 1024.0)),
+                    r.peakThreads(), r.output().lines().count());
+            sum += r.wallNanos();
+            if (longest == null || r.wallNanos() > longest.wallNanos()) {
+                longest = r;
+            }
+        }
+        if (longest != null) {
+            out.printf("%nSuite wall %.1f ms | sum of demo walls %.1f ms | longest demo %.1f ms (%s)%n",
+                    suiteWallNanos / 1e6, sum / 1e6, longest.wallNanos() / 1e6, longest.name());
+        }
+        results.stream().filter(r -> !r.ok()).forEach(r -> out.printf("  %s / %s: %s%n", r.route(), r.name(), r.error()));
+    }
+
+    public static void main(String[] args) {
+        List<String> routes = BatchRunner.ROUTE_ORDER;
+        List<String> demos = List.of("*");
+        int parallelism = 0;
+        Duration timeout = Duration.ofSeconds(300);
+        boolean showOutput = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--route" -> routes = split(value(args, ++i));
+                    case "--demos" -> demos = split(value(args, ++i));
+                    case "--parallelism" -> parallelism = Integer.parseInt(value(args, ++i));
+                    case "--timeout" -> timeout = Duration.ofSeconds(Long.parseLong(value(args, ++i)));
+                    case "--show-output" -> showOutput = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("[parallel] " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        List<Selected> selected = new ArrayList<>();
+        for (String routeName : routes) {
+            Route route = BatchRunner.loadRoute(routeName);
+            BatchRunner.select(route.registry(), demos).forEach(demo -> selected.add(new Selected(routeName, demo)));
+        }
+        if (selected.isEmpty()) {
+            System.err.println("[parallel] No demo matched " + demos);
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        List<IsolatedResult> results = new ParallelRunner(parallelism, timeout).runAll(selected);
+        long suiteWall = System.nanoTime() - start;
+
+        if (showOutput) {
+            for (IsolatedResult r : results) {
+                System.out.println("═══ " + r.route() + " / " + r.name() + " (" + r.status() + ") ═══");
+                System.out.print(r.output());
+                System.out.println();
+            }
+        }
+        report(results, suiteWall, System.out);
+        // Timed-out demos are abandoned, not stopped; don't let them keep the JVM alive.
+        System.exit(results.stream().allMatch(IsolatedResult::ok) ? 0 : 1);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static List<String> split(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException(args[i - 1] + " needs a value");
+        return args[i];
+    }
+
+    private record Selected(String route, DemoDescriptor demo) {
+    }
+
+    /**
+     * Last CPU time and allocation seen per thread of one demo's group, plus its peak thread count.
+     */
+    private static final class Accounting {
+
+        private final ThreadGroup group;
+        private final Map<Long, long[]> perThread = new HashMap<>();
+        private int peakThreads;
+
+        Accounting(ThreadGroup group) {
+            this.group = group;
+        }
+
+        synchronized void sample() {
+            Thread[] threads = new Thread[group.activeCount() + 16];
+            int live = group.enumerate(threads, true);
+            peakThreads = Math.max(peakThreads, live);
+            for (int i = 0; i < live; i++) {
+                long id = threads[i].threadId();
+                record(id, THREADS.getThreadCpuTime(id), THREADS.getThreadAllocatedBytes(id));
+            }
+        }
+
+        /**
+         * Exact final numbers for the demo's own thread, taken by that thread just before it finishes.
+         */
+        synchronized void sampleCurrentThread() {
+            record(Thread.currentThread().threadId(),
+                    THREADS.getCurrentThreadCpuTime(), THREADS.getCurrentThreadAllocatedBytes());
+        }
+
+        private void record(long id, long cpu, long allocated) {
+            if (cpu < 0 && allocated < 0) {
+                return; // thread ended between enumerate and the MXBean call, or accounting is off
+            }
+            long[] last = perThread.computeIfAbsent(id, k -> new long[] { -1, -1 });
+            last[0] = Math.max(last[0], cpu);
+            last[1] = Math.max(last[1], allocated);
+        }
+
+        synchronized long cpuNanos() {
+            return sum(0);
+        }
+
+        synchronized long allocatedBytes() {
+            return sum(1);
+        }
+
+        synchronized int peakThreads() {
+            return peakThreads;
+        }
+
+        private long sum(int column) {
+            long total = 0;
+            boolean any = false;
+            for (long[] last : perThread.values()) {
+                if (last[column] >= 0) {
+                    total += last[column];
+                    any = true;
+                }
+            }
+            return any ? total : -1;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package playground.common.batch;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Machine-readable output of a {@link BatchRunner} run.
+ * <p>
+ * JSON holds one object per demo with the medians and every sample; CSV holds one row per measured run
+ * (or a single row without metrics for a demo that failed before its first measured run).
+ */
+public enum ReportFormat {
+
+    JSON {
+        @Override
+        public void write(List<DemoResult> results, PrintWriter out) {
+            out.println("{");
+            out.printf("  \"javaVersion\": %s,%n", quote(System.getProperty("java.version")));
+            out.println("  \"demos\": [");
+            for (int i = 0; i < results.size(); i++) {
+                DemoResult result = results.get(i);
+                out.println("    {");
+                out.printf("      \"route\": %s,%n", quote(result.route()));
+                out.printf("      \"name\": %s,%n", quote(result.name()));
+                out.printf("      \"status\": %s,%n", quote(result.ok() ? "ok" : "failed"));
+                out.printf("      \"error\": %s,%n", result.ok() ? "null" : quote(result.error()));
+                out.printf("      \"warmup\": %d,%n", result.warmup());
+                out.printf("      \"iterations\": %d,%n", result.samples().size());
+                out.print("      \"median\": ");
+                out.print(medians(result));
+                out.println(",");
+                out.println("      \"samples\": [");
+                for (int s = 0; s < result.samples().size(); s++) {
+                    out.print("        ");
+                    out.print(sample(result.samples().get(s)));
+                    out.println(s + 1 < result.samples().size() ? "," : "");
+                }
+                out.println("      ]");
+                out.println(i + 1 < results.size() ? "    }," : "    }");
+            }
+            out.println("  ]");
+            out.println("}");
+            out.flush();
+        }
+
+        private String sample(RunSample s) {
+            return String.format(Locale.ROOT,
+                    "{\"wallNanos\": %d, \"cpuNanos\": %d, \"threadCpuNanos\": %d, \"allocatedBytes\": %d, \"gcCount\": %d, \"gcMillis\": %d}",
+                    s.wallNanos(), s.cpuNanos(), s.threadCpuNanos(), s.allocatedBytes(), s.gcCount(), s.gcMillis());
+        }
+
+        private String medians(DemoResult r) {
+            return String.format(Locale.ROOT,
+                    "{\"wallNanos\": %d, \"cpuNanos\": %d, \"threadCpuNanos\": %d, \"allocatedBytes\": %d, \"gcCount\": %d, \"gcMillis\": %d}",
+                    r.median(RunSample::wallNanos), r.median(RunSample::cpuNanos), r.median(RunSample::threadCpuNanos),
+                    r.median(RunSample::allocatedBytes), r.median(RunSample::gcCount), r.median(RunSample::gcMillis));
+        }
+
+        private String quote(String s) {
+            StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '"' -> sb.append("\\\"");
+                    case '\\' -> sb.append("\\\\");
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> sb.append("\\r");
+                    case '\t' -> sb.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            sb.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            sb.append(c);
+                        }
+                    }
+                }
+            }
+            return sb.append('"').toString();
+        }
+    },
+
+    CSV {
+        private static final List<ToLongFunction<RunSample>> COLUMNS = List.of(
+                RunSample::wallNanos, RunSample::cpuNanos, RunSample::threadCpuNanos,
+                RunSample::allocatedBytes, RunSample::gcCount, RunSample::gcMillis);
+
+        @Override
+        public void write(List<DemoResult> results, PrintWriter out) {
+            out.println("route,demo,iteration,status,wall_ns,cpu_ns,thread_cpu_ns,allocated_bytes,gc_count,gc_ms");
+            for (DemoResult result : results) {
+                String prefix = escape(result.route()) + "," + escape(result.name()) + ",";
+                for (int i = 0; i < result.samples().size(); i++) {
+                    StringBuilder row = new StringBuilder(prefix).append(i + 1).append(",ok");
+                    for (ToLongFunction<RunSample> column : COLUMNS) {
+                        row.append(',').append(column.applyAsLong(result.samples().get(i)));
+                    }
+                    out.println(row);
+                }
+                if (!result.ok()) {
+                    out.println(prefix + (result.samples().size() + 1) + "," + escape("failed: " + result.error()) + ",,,,,,");
+                }
+            }
+            out.flush();
+        }
+
+        private String escape(String s) {
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) {
+                return s;
+            }
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+    };
+
+    public abstract void write(List<DemoResult> results, PrintWriter out);
+
+    public static ReportFormat parse(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,69 @@
+package playground.common.batch;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Resource usage of one demo run, as deltas of process-wide counters taken around {@link Runnable#run()}.
+ *
+ * @param wallNanos      elapsed {@code System.nanoTime()}
+ * @param cpuNanos       CPU time of the whole process (every thread the demo started), -1 if unsupported
+ * @param threadCpuNanos CPU time of the calling thread only, -1 if unsupported
+ * @param allocatedBytes heap allocated by all threads, including ones that ended during the run, -1 if unsupported
+ * @param gcCount        collections across all collectors
+ * @param gcMillis       accumulated collection time across all collectors
+ */
+public record RunSample(
+        long wallNanos,
+        long cpuNanos,
+        long threadCpuNanos,
+        long allocatedBytes,
+        long gcCount,
+        long gcMillis) {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.OperatingSystemMXBean OS =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    /**
+     * Runs {@code task} on the calling thread and returns what it cost; exceptions from the task propagate.
+     */
+    public static RunSample measure(Runnable task) {
+        Snapshot before = Snapshot.take();
+        long start = System.nanoTime();
+        task.run();
+        long wall = System.nanoTime() - start;
+        Snapshot after = Snapshot.take();
+
+        return new RunSample(
+                wall,
+                delta(before.processCpu, after.processCpu),
+                delta(before.threadCpu, after.threadCpu),
+                delta(before.allocated, after.allocated),
+                after.gcCount - before.gcCount,
+                after.gcMillis - before.gcMillis);
+    }
+
+    private static long delta(long before, long after) {
+        return before < 0 || after < 0 ? -1 : after - before;
+    }
+
+    private record Snapshot(long processCpu, long threadCpu, long allocated, long gcCount, long gcMillis) {
+
+        static Snapshot take() {
+            long count = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return new Snapshot(
+                    OS.getProcessCpuTime(),
+                    THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1,
+                    THREADS.isThreadAllocatedMemorySupported() ? THREADS.getTotalThreadAllocatedBytes() : -1,
+                    count,
+                    millis);
+        }
+    }
+}
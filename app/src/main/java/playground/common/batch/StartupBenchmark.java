@@ -0,0 +1,172 @@
+package playground.common.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark for the interactive routes: launches {@code ModernMain}/{@code Jdk25Main} in fresh JVMs,
+ * picks a demo from the menu through stdin, and measures from process launch to
+ * <ul>
+ *   <li><b>first menu</b> - the menu prompt is printed</li>
+ *   <li><b>first demo output</b> - the first line the chosen demo prints</li>
+ * </ul>
+ * once without an application cache and once per cache given, with the same class path as this JVM.
+ * <p>
+ * Usage (or {@code ./gradlew startupBenchmark}, which trains the cache first):
+ * <pre>
+ *   StartupBenchmark [--route modern,jdk25] [--runs 5] [--demo 1] [--aot-cache build/aot/playground.aot]
+ *                    [--cds-archive build/aot/playground.jsa]
+ * </pre>
+ * Caches only apply if they were created with the same class path and JVM flags ({@code --enable-preview}, plus
+ * {@code --add-modules jdk.incubator.vector} when this JVM has it);
+ * a mismatched cache is ignored by the JVM and then simply measures like the baseline.
+ */
+public final class StartupBenchmark {
+
+    private static final String MENU_PROMPT = "Enter number to run demo";
+    private static final String DEMO_HEADER = "Running: ";
+    private static final long TIMEOUT_SECONDS = 60;
+    // Added to Gradle's JVMs only with -PvectorModule (build.gradle.kts); then the caches are trained with it too
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private record Mode(String name, List<String> jvmArgs) {
+    }
+
+    /**
+     * One launch; -1 if the marker was never seen.
+     */
+    private record Launch(long menuNanos, long firstOutputNanos) {
+    }
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        List<String> routes = BatchRunner.ROUTE_ORDER;
+        int runs = 5;
+        int demo = 1;
+        List<Mode> modes = new ArrayList<>(List.of(new Mode("no cache", List.of())));
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--route" -> routes = Arrays.stream(value(args, ++i).split(",")).map(String::trim).toList();
+                case "--runs" -> runs = Integer.parseInt(value(args, ++i));
+                case "--demo" -> demo = Integer.parseInt(value(args, ++i));
+                case "--aot-cache" -> addCache(modes, "AOT cache", "-XX:AOTCache=", value(args, ++i));
+                case "--cds-archive" -> addCache(modes, "AppCDS", "-XX:SharedArchiveFile=", value(args, ++i));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.printf("%-8s | %-10s | %18s | %25s%n", "route", "mode", "first menu (ms)", "first demo output (ms)");
+        System.out.printf("%-8s | %-10s | %18s | %25s%n", "", "", "median / best", "median / best");
+        for (String route : routes) {
+            String mainClass = BatchRunner.loadRoute(route).getClass().getName();
+            long baselineOutput = -1;
+            for (Mode mode : modes) {
+                launch(mode, mainClass, demo); // unmeasured: warms the page cache, not the JVM
+                long[] menu = new long[runs];
+                long[] output = new long[runs];
+                for (int r = 0; r < runs; r++) {
+                    Launch launch = launch(mode, mainClass, demo);
+                    menu[r] = launch.menuNanos();
+                    output[r] = launch.firstOutputNanos();
+                }
+                long medianOutput = median(output);
+                if (baselineOutput < 0) {
+                    baselineOutput = medianOutput;
+                }
+                String speedup = baselineOutput > 0 && medianOutput > 0 && mode != modes.getFirst()
+                        ? String.format("  (%.2fx)", (double) baselineOutput / medianOutput)
+                        : "";
+                System.out.printf("%-8s | %-10s | %8s / %7s | %13s / %9s%s%n", route, mode.name(),
+                        millis(median(menu)), millis(best(menu)), millis(medianOutput), millis(best(output)), speedup);
+            }
+        }
+    }
+
+    private static void addCache(List<Mode> modes, String name, String flag, String file) {
+        if (!Files.isRegularFile(Path.of(file))) {
+            System.err.println("[startup] " + name + " not found, skipped: " + file);
+            return;
+        }
+        modes.add(new Mode(name, List.of(flag + file)));
+    }
+
+    private static Launch launch(Mode mode, String mainClass, int demo) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("--enable-preview");
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            command.addAll(List.of("--add-modules", VECTOR_MODULE));
+        }
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), mainClass));
+
+        long start = System.nanoTime();
+        Process process;
+        try {
+            process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CompletableFuture.delayedExecutor(TIMEOUT_SECONDS, TimeUnit.SECONDS).execute(process::destroyForcibly);
+
+        long menu = -1;
+        long firstOutput = -1;
+        try (OutputStream stdin = process.getOutputStream();
+             BufferedReader stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            // Choose the demo, leave it with enter, then exit from the menu.
+            stdin.write((demo + "\n\n0\n").getBytes(StandardCharsets.UTF_8));
+            stdin.flush();
+
+            int linesAfterHeader = -1;
+            String line;
+            while ((line = stdout.readLine()) != null) {
+                if (menu < 0 && line.contains(MENU_PROMPT)) {
+                    menu = System.nanoTime() - start;
+                } else if (menu >= 0 && linesAfterHeader < 0 && line.contains(DEMO_HEADER)) {
+                    linesAfterHeader = 0;
+                } else if (linesAfterHeader >= 0 && ++linesAfterHeader == 2) {
+                    // Line 1 after the header is CliMenu's separator; line 2 is the demo's own output.
+                    firstOutput = System.nanoTime() - start;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // The child was killed by the timeout; the markers not seen stay -1.
+        } finally {
+            process.destroyForcibly();
+        }
+        return new Launch(menu, firstOutput);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long best(long[] values) {
+        return Arrays.stream(values).filter(v -> v >= 0).min().orElse(-1);
+    }
+
+    private static String millis(long nanos) {
+        return nanos < 0 ? "n/a" : String.format("%.1f", nanos / 1e6);
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException(args[i - 1] + " needs a value");
+        return args[i];
+    }
+}
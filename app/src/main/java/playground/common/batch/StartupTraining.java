@@ -0,0 +1,72 @@
+package playground.common.batch;
+
+import playground.common.DemoDescriptor;
+import playground.common.Route;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Training workload for a startup cache (JDK 25 AOT cache or a dynamic AppCDS archive): for every route it
+ * renders the interactive menu once and then runs each selected demo once, so the classes and linkage that
+ * {@code runModern}/{@code runJdk25} need end up in the cache written at exit.
+ * <p>
+ * Usage (or {@code ./gradlew aotTrain [-PtrainDemos=...]}):
+ * <pre>
+ *   java -XX:AOTCacheOutput=build/aot/playground.aot -cp ... playground.common.batch.StartupTraining ["Stream*,Clean*"]
+ * </pre>
+ * The optional argument is a comma-separated list of demo globs (see {@link BatchRunner}); the default is every demo.
+ * Demo output is discarded and failures are reported but do not fail the training run.
+ */
+public final class StartupTraining {
+
+    private StartupTraining() {
+    }
+
+    public static void main(String[] args) {
+        List<String> globs = args.length > 0
+                ? Arrays.stream(args[0].split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList()
+                : List.of("*");
+
+        BatchRunner runner = new BatchRunner(0, 1, false);
+        long start = System.nanoTime();
+        int trained = 0;
+        int failed = 0;
+        for (String routeName : BatchRunner.ROUTE_ORDER) {
+            Route route = BatchRunner.loadRoute(routeName);
+            showMenu(route);
+            List<DemoDescriptor> demos = BatchRunner.select(route.registry(), globs);
+            for (DemoResult result : runner.run(routeName, demos)) {
+                trained++;
+                if (!result.ok()) {
+                    failed++;
+                }
+            }
+        }
+        System.err.printf("[training] %d demo(s) run, %d failed, in %d ms%n",
+                trained, failed, (System.nanoTime() - start) / 1_000_000);
+        // The cache is written at VM exit; demos may leave non-daemon threads behind.
+        System.exit(0);
+    }
+
+    /**
+     * Runs the route's menu loop exactly as {@code main} would, answering "0" (exit) to the prompt.
+     */
+    private static void showMenu(Route route) {
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        System.setIn(new ByteArrayInputStream("0\n".getBytes(StandardCharsets.UTF_8)));
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            route.run();
+        } finally {
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package playground.common.output;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Writes straight through on the calling thread. {@link #INSTANCE} writes to {@code System.out}, looked up on every
+ * call so redirections ({@code System.setOut}) apply; it is the default sink and keeps output in program order.
+ * {@link #to(PrintStream)} writes to a fixed stream instead, e.g. a file a benchmark writes to without touching
+ * the process-wide {@code System.out}.
+ */
+public final class ConsoleSink implements OutputSink {
+
+    public static final ConsoleSink INSTANCE = new ConsoleSink(null);
+
+    private final PrintStream target;
+
+    private ConsoleSink(PrintStream target) {
+        this.target = target;
+    }
+
+    public static ConsoleSink to(PrintStream target) {
+        return new ConsoleSink(Objects.requireNonNull(target));
+    }
+
+    @Override
+    public void println(String line) {
+        out().println(line);
+    }
+
+    @Override
+    public void println() {
+        out().println();
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+        out().printf(format, args);
+    }
+
+    @Override
+    public void flush() {
+        out().flush();
+    }
+
+    private PrintStream out() {
+        return target != null ? target : System.out;
+    }
+}
@@ -0,0 +1,28 @@
+package playground.common.output;
+
+/**
+ * Discards everything without formatting it, for benchmark runs where only the timings matter.
+ */
+public final class NullSink implements OutputSink {
+
+    public static final NullSink INSTANCE = new NullSink();
+
+    private NullSink() {
+    }
+
+    @Override
+    public void println(String line) {
+    }
+
+    @Override
+    public void println() {
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+    }
+
+    @Override
+    public void flush() {
+    }
+}
@@ -0,0 +1,80 @@
+package playground.common.output;
+
+import java.util.Locale;
+
+/**
+ * The process-wide {@link OutputSink} that demo helpers ({@code Util}, {@code Harness}) and demos print through.
+ * <p>
+ * The initial sink comes from {@code -Dplayground.output}:
+ * <ul>
+ *   <li>{@code console} (default) - {@link ConsoleSink}, synchronous and in order with direct {@code System.out} calls</li>
+ *   <li>{@code async} - {@code playground.modern.output.AsyncBufferedSink}: callers only enqueue; formatting and I/O
+ *       happen on a background writer thread</li>
+ *   <li>{@code null} - {@link NullSink}</li>
+ * </ul>
+ * Runners swap the sink with {@link #use(OutputSink)}, e.g. to a {@link NullSink} while measuring.
+ */
+public final class Output {
+
+    public static final String PROPERTY = "playground.output";
+
+    // Loaded by name so common/ does not depend on the routes.
+    private static final String ASYNC_SINK = "playground.modern.output.AsyncBufferedSink";
+
+    private static volatile OutputSink sink = forName(System.getProperty(PROPERTY, "console"));
+
+    private Output() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Returns the current sink.
+     */
+    public static OutputSink sink() {
+        return sink;
+    }
+
+    /**
+     * Flushes the current sink, replaces it with {@code next} and returns the previous one.
+     */
+    public static synchronized OutputSink use(OutputSink next) {
+        OutputSink previous = sink;
+        previous.flush();
+        sink = next;
+        return previous;
+    }
+
+    /**
+     * Creates the sink for a {@code -Dplayground.output} value.
+     */
+    public static OutputSink forName(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "console" -> ConsoleSink.INSTANCE;
+            case "null" -> NullSink.INSTANCE;
+            case "async" -> {
+                try {
+                    yield (OutputSink) Class.forName(ASYNC_SINK).getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot create " + ASYNC_SINK, e);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown " + PROPERTY + ": " + name + " (console, async, null)");
+        };
+    }
+
+    public static void println(String line) {
+        sink.println(line);
+    }
+
+    public static void println() {
+        sink.println();
+    }
+
+    public static void printf(String format, Object... args) {
+        sink.printf(format, args);
+    }
+
+    public static void flush() {
+        sink.flush();
+    }
+}
@@ -0,0 +1,27 @@
+package playground.common.output;
+
+/**
+ * Destination for demo output. Calls don't need to write through: a sink may buffer, format later on another
+ * thread, or drop everything, so arguments to {@link #printf} must not be mutated after the call.
+ * {@link #flush()} returns once everything accepted so far has been written.
+ */
+public interface OutputSink extends AutoCloseable {
+
+    void println(String line);
+
+    default void println() {
+        println("");
+    }
+
+    void printf(String format, Object... args);
+
+    void flush();
+
+    /**
+     * Flushes and releases the sink; the default just flushes.
+     */
+    @Override
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,227 @@
+package playground.common.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random test data from a {@link SplittableGenerator} ({@value #ALGORITHM}).
+ * <p>
+ * An instance is <b>not</b> thread-safe. Each thread uses its own instance, so generating in parallel shares
+ * nothing and scales with the number of threads:
+ * <ul>
+ *   <li>{@link #current()} - a per-thread instance split from a process-wide root; the root is seeded from
+ *       {@code -Dplayground.seed} if set. Threads get their splits in first-use order, so only single-threaded
+ *       sequences are reproducible this way.</li>
+ *   <li>{@link #seeded(long)} plus {@link #split(int)} - reproducible parallel data: split once per worker up front,
+ *       then hand split {@code i} to worker {@code i}.</li>
+ * </ul>
+ * Bulk methods ({@link #fill(long[], long, long)}, {@link #nextStrings(int, int, char[])}) write into caller-owned
+ * arrays, and {@link #nextString(int)} allocates only the resulting {@code String}.
+ */
+public final class RandomData {
+
+    public static final String SEED_PROPERTY = "playground.seed";
+    static final String ALGORITHM = "L64X128MixRandom";
+
+    private static final char[] ALPHANUMERIC =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final int CHAR_BITS = 6; // 2^6 = 64 >= 62 symbols; 62 and 63 are rejected
+    private static final int CHARS_PER_LONG = Long.SIZE / CHAR_BITS;
+
+    // Guarded by itself: only touched when a thread first asks for its instance.
+    private static final SplittableGenerator ROOT = rootGenerator();
+    private static final ThreadLocal<RandomData> CURRENT = ThreadLocal.withInitial(RandomData::splitRoot);
+
+    private final SplittableGenerator generator;
+    private char[] scratch = new char[32];
+
+    private RandomData(SplittableGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Returns the calling thread's instance.
+     */
+    public static RandomData current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns a new instance whose sequence is fully determined by {@code seed}.
+     */
+    public static RandomData seeded(long seed) {
+        return new RandomData(create(seed));
+    }
+
+    /**
+     * Returns a new, statistically independent instance split off this one (advances this one).
+     */
+    public RandomData split() {
+        return new RandomData(generator.split());
+    }
+
+    /**
+     * Returns {@code count} instances split off this one, e.g. one per worker of a parallel fixture build.
+     */
+    public List<RandomData> split(int count) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        List<RandomData> splits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            splits.add(split());
+        }
+        return splits;
+    }
+
+    /**
+     * Returns the underlying generator, for the rest of the {@link RandomGenerator} API.
+     */
+    public RandomGenerator generator() {
+        return generator;
+    }
+
+    // ─────────────────────────────────────────────────────────────────
+    // Single values
+    // ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Returns an int between min (inclusive) and max (inclusive).
+     */
+    public int nextInt(int min, int max) {
+        if (min > max) throw new IllegalArgumentException("min > max: " + min + " > " + max);
+        return (int) nextLong(min, max);
+    }
+
+    /**
+     * Returns a long between min (inclusive) and max (inclusive).
+     */
+    public long nextLong(long min, long max) {
+        if (min > max) throw new IllegalArgumentException("min > max: " + min + " > " + max);
+        if (max < Long.MAX_VALUE) {
+            return generator.nextLong(min, max + 1);
+        }
+        return min == Long.MIN_VALUE ? generator.nextLong() : generator.nextLong(min - 1, max) + 1;
+    }
+
+    /**
+     * Returns a random element of {@code elements}.
+     */
+    @SafeVarargs
+    public final <T> T pick(T... elements) {
+        if (elements.length == 0) {
+            throw new IllegalArgumentException("Cannot pick a random element from an empty array.");
+        }
+        return elements[generator.nextInt(elements.length)];
+    }
+
+    /**
+     * Returns a random element of {@code elements}.
+     */
+    public <T> T pick(List<T> elements) {
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("Cannot pick a random element from an empty list.");
+        }
+        return elements.get(generator.nextInt(elements.size()));
+    }
+
+    /**
+     * Returns a random alphanumeric string ({@code [A-Za-z0-9]}) of the given length.
+     */
+    public String nextString(int length) {
+        if (length < 0) throw new IllegalArgumentException("length must be >= 0");
+        if (scratch.length < length) {
+            scratch = new char[Math.max(length, scratch.length * 2)];
+        }
+        fillAlphanumeric(scratch, 0, length);
+        return new String(scratch, 0, length);
+    }
+
+    // ─────────────────────────────────────────────────────────────────
+    // Bulk
+    // ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Fills {@code target} with uniformly distributed longs.
+     */
+    public void fill(long[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = generator.nextLong();
+        }
+    }
+
+    /**
+     * Fills {@code target} with longs between min (inclusive) and max (inclusive).
+     */
+    public void fill(long[] target, long min, long max) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextLong(min, max);
+        }
+    }
+
+    /**
+     * Fills {@code target} with ints between min (inclusive) and max (inclusive).
+     */
+    public void fill(int[] target, int min, int max) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextInt(min, max);
+        }
+    }
+
+    /**
+     * Writes {@code count} alphanumeric strings of {@code length} chars back to back: string {@code i} occupies
+     * {@code [i * length, (i + 1) * length)}. Returns {@code buffer} if it is large enough, otherwise a new array,
+     * so callers can keep reusing whatever comes back.
+     */
+    public char[] nextStrings(int count, int length, char[] buffer) {
+        if (count < 0 || length < 0) throw new IllegalArgumentException("count and length must be >= 0");
+        int size = Math.multiplyExact(count, length);
+        char[] target = buffer != null && buffer.length >= size ? buffer : new char[size];
+        fillAlphanumeric(target, 0, size);
+        return target;
+    }
+
+    /**
+     * Fills every slot of {@code target} with a new alphanumeric string of {@code length} chars.
+     */
+    public void nextStrings(String[] target, int length) {
+        Objects.requireNonNull(target);
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextString(length);
+        }
+    }
+
+    /**
+     * Up to ten chars per {@code nextLong()}: 6 bits per char, values 62 and 63 skipped to stay uniform.
+     */
+    private void fillAlphanumeric(char[] target, int from, int to) {
+        int i = from;
+        while (i < to) {
+            long bits = generator.nextLong();
+            for (int c = 0; c < CHARS_PER_LONG && i < to; c++) {
+                int symbol = (int) (bits & 0x3F);
+                bits >>>= CHAR_BITS;
+                if (symbol < ALPHANUMERIC.length) {
+                    target[i++] = ALPHANUMERIC[symbol];
+                }
+            }
+        }
+    }
+
+    private static RandomData splitRoot() {
+        synchronized (ROOT) {
+            return new RandomData(ROOT.split());
+        }
+    }
+
+    private static SplittableGenerator rootGenerator() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? create(seed) : SplittableGenerator.of(ALGORITHM);
+    }
+
+    private static SplittableGenerator create(long seed) {
+        return RandomGeneratorFactory.<SplittableGenerator>of(ALGORITHM).create(seed);
+    }
+}
@@ -0,0 +1,46 @@
+package playground.jdk25;
+
+import playground.common.DemoCatalog;
+import playground.common.DemoDescriptor;
+
+import java.util.List;
+
+/**
+ * Route B demos in menu order. Classes are named, not referenced, so none of them loads until selected;
+ * names and descriptions must match the demos' own {@code name()} and {@code description()}.
+ */
+public final class Jdk25DemoCatalog implements DemoCatalog {
+
+    public static final String ROUTE = "jdk25";
+
+    @Override
+    public String route() {
+        return ROUTE;
+    }
+
+    @Override
+    public List<DemoDescriptor> demos() {
+        return List.of(
+                DemoDescriptor.lazy("playground.jdk25.structured.StructuredConcurrencyDemo",
+                        "Structured Concurrency",
+                        "Fan out risk scorers with StructuredTaskScope: slowest-not-sum latency, fail-fast, deadline"),
+                DemoDescriptor.lazy("playground.jdk25.virtualthreads.VirtualThreadsDemo",
+                        "Virtual Threads Lab",
+                        "Platform pool vs virtual thread per task vs ForkJoinPool on blocking work, 100 to 1M tasks"),
+                DemoDescriptor.lazy("playground.jdk25.scopedvalues.ScopedValuesDemo",
+                        "Scoped Values",
+                        "Request context via ScopedValue: forks inherit it; footprint/read cost vs ThreadLocal at 1M virtual threads"),
+                DemoDescriptor.lazy("playground.jdk25.jfr.JfrObservabilityDemo",
+                        "JFR Observability",
+                        "Custom JFR events on order/payment/stream hot paths, live latency histograms via RecordingStream"),
+                DemoDescriptor.lazy("playground.jdk25.virtualthreads.PinningDemo",
+                        "Virtual Thread Pinning",
+                        "Blocking in synchronized on virtual threads: JDK 21-23 pinned-carrier throughput vs JDK 24+ (JEP 491)"),
+                DemoDescriptor.lazy("playground.jdk25.runtime.CompactHeadersDemo",
+                        "Compact Object Headers",
+                        "Heap footprint of 1M Transactions with 12-byte vs compact 8-byte object headers (JEP 519), one JVM each"),
+                DemoDescriptor.lazy("playground.jdk25.runtime.GcPauseDemo",
+                        "ZGC vs G1 Pauses",
+                        "GC pause times and order latency percentiles of G1 vs generational ZGC under a fixed order-ingestion load")));
+    }
+}
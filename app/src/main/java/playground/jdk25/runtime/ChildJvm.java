@@ -0,0 +1,119 @@
+package playground.jdk25.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Runs a {@code main} class of this application in a fresh JVM with extra flags, for comparisons that need a
+ * JVM-wide setting (object layout, garbage collector) to differ between runs.
+ * <p>
+ * The child shares this JVM's java binary and class path and gets {@code --enable-preview} plus {@code flags}.
+ * It reports its measurements as {@code key=value} lines on stdout; other lines are ignored.
+ */
+public final class ChildJvm
+{
+   /**
+    * @param values  the child's {@code key=value} lines, in order
+    * @param stderr  the child's stderr, e.g. the JVM's reason for rejecting a flag
+    */
+   public record Result(int exitCode, Map<String, String> values, String stderr)
+   {
+      public boolean ok()
+      {
+         return exitCode == 0;
+      }
+
+      public long longValue(String key)
+      {
+         return Long.parseLong(require(key));
+      }
+
+      public double doubleValue(String key)
+      {
+         return Double.parseDouble(require(key));
+      }
+
+      private String require(String key)
+      {
+         String value = values.get(key);
+         if (value == null) throw new IllegalStateException("Child JVM did not report '" + key + "'");
+         return value;
+      }
+
+      /**
+       * First line of stderr, or the exit code if there is none.
+       */
+      public String failure()
+      {
+         return stderr.isBlank() ? "exit code " + exitCode : stderr.strip().lines().findFirst().orElse("");
+      }
+   }
+
+   private ChildJvm()
+   {
+   }
+
+   public static Result run(Class<?> mainClass, List<String> flags, List<String> args, Duration timeout)
+   {
+      List<String> command = new ArrayList<>();
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.add("--enable-preview");
+      command.addAll(flags);
+      command.addAll(List.of("-cp", System.getProperty("java.class.path"), mainClass.getName()));
+      command.addAll(args);
+
+      try
+      {
+         Process process = new ProcessBuilder(command).start();
+         // Both pipes are drained concurrently, so a chatty child cannot block on a full pipe before the timeout
+         CompletableFuture<String> stdout = CompletableFuture.supplyAsync(() -> read(process.inputReader(StandardCharsets.UTF_8)));
+         CompletableFuture<String> stderr = CompletableFuture.supplyAsync(() -> read(process.errorReader(StandardCharsets.UTF_8)));
+         if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS))
+         {
+            process.destroyForcibly();
+            throw new IllegalStateException(mainClass.getSimpleName() + " child JVM timed out after " + timeout.toSeconds() + " s");
+         }
+         Map<String, String> values = new LinkedHashMap<>();
+         stdout.join().lines().forEach(line -> {
+            int eq = line.indexOf('=');
+            if (eq > 0)
+            {
+               values.put(line.substring(0, eq).strip(), line.substring(eq + 1).strip());
+            }
+         });
+         return new Result(process.exitValue(), values, stderr.join());
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for the child JVM", e);
+      }
+   }
+
+   private static String read(BufferedReader reader)
+   {
+      try (reader)
+      {
+         return String.join(System.lineSeparator(), reader.lines().toList());
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+}
@@ -0,0 +1,165 @@
+package playground.jdk25.runtime;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+import playground.modern.streams.models.Transaction;
+import playground.modern.streams.models.TransactionFixtures;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Heap footprint of {@code -Dplayground.headers.count} (default 1,000,000) {@link Transaction}s, with the
+ * classic 12-byte object header and with JDK 25's compact 8-byte header (JEP 519, {@code -XX:+UseCompactObjectHeaders}).
+ * <p>
+ * The header layout is fixed at JVM start, so each variant runs in its own child JVM ({@link ChildJvm}) with the
+ * same heap and collector. The child reports the heap retained by the list after a full GC, plus instance counts
+ * and shallow bytes per class from the {@code GC.class_histogram} diagnostic command.
+ */
+public class CompactHeadersDemo implements Demo
+{
+   private static final int COUNT = Integer.getInteger("playground.headers.count", 1_000_000);
+   private static final List<String> COMMON_FLAGS = List.of("-Xms1g", "-Xmx1g", "-XX:+UseSerialGC");
+   private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+   // Histogram rows reported by the child: what one Transaction and its fields are made of
+   private static final Map<String, String> CLASSES = classes();
+
+   private static Map<String, String> classes()
+   {
+      Map<String, String> classes = new LinkedHashMap<>();
+      classes.put(Transaction.class.getName(), "Transaction");
+      classes.put("java.lang.String", "String");
+      classes.put("[B", "byte[]");
+      classes.put("java.time.Instant", "Instant");
+      return classes;
+   }
+
+   @Override
+   public String name()
+   {
+      return "Compact Object Headers";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Heap footprint of 1M Transactions with 12-byte vs compact 8-byte object headers (JEP 519), one JVM each";
+   }
+
+   @Override
+   public void run()
+   {
+      Util.section("Compact Object Headers (JEP 519)");
+      Util.print("transactions", COUNT + " (-Dplayground.headers.count)");
+      Util.print("child JVM flags", String.join(" ", COMMON_FLAGS));
+
+      ChildJvm.Result legacy = measure("-XX:-UseCompactObjectHeaders");
+      ChildJvm.Result compact = measure("-XX:+UseCompactObjectHeaders");
+      if (!legacy.ok() || !compact.ok())
+      {
+         Output.println();
+         Output.println("  Could not run both variants on this JVM (" + System.getProperty("java.vm.version") + "):");
+         Output.println("    legacy : " + (legacy.ok() ? "ok" : legacy.failure()));
+         Output.println("    compact: " + (compact.ok() ? "ok" : compact.failure()));
+         Util.rule();
+         return;
+      }
+
+      Util.subsection("Retained heap");
+      Output.printf("    %-22s | %14s | %14s | %8s%n", "", "12-byte header", "compact header", "change");
+      row("heap retained (MB)", legacy.longValue("retained") / 1e6, compact.longValue("retained") / 1e6, "%14.1f");
+      row("bytes per transaction", (double) legacy.longValue("retained") / COUNT,
+            (double) compact.longValue("retained") / COUNT, "%14.1f");
+
+      Util.subsection("Shallow size per instance (GC.class_histogram)");
+      Output.printf("    %-22s | %14s | %14s | %8s%n", "", "12-byte header", "compact header", "change");
+      for (String label : CLASSES.values())
+      {
+         row(label + " (" + legacy.longValue(label + ".count") / COUNT + " per tx)",
+               shallow(legacy, label), shallow(compact, label), "%14.1f");
+      }
+
+      Output.println();
+      Output.println("  Takeaways:");
+      Output.println("  - Every object pays its header; small objects (records, Strings, boxed values) pay the most relative to size.");
+      Output.println("  - Compact headers fold the class pointer into the 8-byte mark word: 4 bytes less per object and array.");
+      Output.println("  - Objects are 8-byte aligned, so a class only shrinks when the saved 4 bytes cross an alignment step.");
+      Output.println("  - Off by default in JDK 25; enable with -XX:+UseCompactObjectHeaders and measure your own heap.");
+      Util.rule();
+   }
+
+   private static ChildJvm.Result measure(String headerFlag)
+   {
+      List<String> flags = new ArrayList<>(COMMON_FLAGS);
+      flags.add(headerFlag);
+      return ChildJvm.run(CompactHeadersDemo.class, flags, List.of(String.valueOf(COUNT)), TIMEOUT);
+   }
+
+   private static double shallow(ChildJvm.Result result, String label)
+   {
+      return (double) result.longValue(label + ".bytes") / result.longValue(label + ".count");
+   }
+
+   private static void row(String label, double before, double after, String format)
+   {
+      Output.printf("    %-22s | " + format + " | " + format + " | %+7.1f%%%n",
+            label, before, after, (after - before) / before * 100);
+   }
+
+   /**
+    * Child side: builds the transactions and prints {@code key=value} lines for {@link ChildJvm}.
+    */
+   public static void main(String[] args) throws JMException
+   {
+      int count = Integer.parseInt(args[0]);
+      long before = usedAfterGc();
+      List<Transaction> txs = TransactionFixtures.randomTransactions(count, 42);
+      long after = usedAfterGc();
+
+      HotSpotDiagnosticMXBean hotspot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+      System.out.println("compactHeaders=" + hotspot.getVMOption("UseCompactObjectHeaders").getValue());
+      System.out.println("retained=" + (after - before));
+      histogram();
+      Reference.reachabilityFence(txs);
+   }
+
+   private static long usedAfterGc()
+   {
+      for (int i = 0; i < 2; i++)
+      {
+         System.gc();
+      }
+      return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+   }
+
+   /**
+    * Parses {@code GC.class_histogram} rows ({@code "  1:  1000000  48000000  java.lang.String (java.base@25)"}).
+    */
+   private static void histogram() throws JMException
+   {
+      String text = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+            new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+            new Object[] { new String[0] }, new String[] { String[].class.getName() });
+      for (String line : text.lines().toList())
+      {
+         String[] cells = line.strip().split("\\s+");
+         if (cells.length >= 4 && cells[0].endsWith(":") && CLASSES.containsKey(cells[3]))
+         {
+            String label = CLASSES.get(cells[3]);
+            System.out.println(label + ".count=" + cells[1]);
+            System.out.println(label + ".bytes=" + cells[2]);
+         }
+      }
+   }
+}
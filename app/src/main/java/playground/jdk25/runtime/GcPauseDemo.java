@@ -0,0 +1,300 @@
+package playground.jdk25.runtime;
+
+import com.sun.management.OperatingSystemMXBean;
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+import playground.modern.clean_arch.application.FakePaymentGateway;
+import playground.modern.clean_arch.application.OrderRepository;
+import playground.modern.clean_arch.application.PlaceOrderCommand;
+import playground.modern.clean_arch.application.PlaceOrderUseCase;
+import playground.modern.clean_arch.domain.Money;
+import playground.modern.clean_arch.domain.Order;
+import playground.modern.clean_arch.domain.OrderId;
+import playground.modern.clean_arch.domain.OrderItem;
+import playground.modern.clean_arch.domain.OrderPolicy;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * G1 vs generational ZGC under the same order-ingestion load: ingest threads place orders through
+ * {@link PlaceOrderUseCase} at a fixed rate into a repository that keeps the most recent orders live, so the old
+ * generation stays full while young garbage streams through.
+ * <p>
+ * Each collector runs in its own child JVM ({@link ChildJvm}) with the same fixed heap. The child reports GC pauses
+ * from JFR ({@code jdk.GCPhasePause}), GC cycles ({@code jdk.GarbageCollection}), process CPU time, and the latency
+ * of every order measured from its scheduled start, so a pause that delays the following orders shows up in their
+ * latency too (no coordinated omission).
+ * <p>
+ * Tunables: {@code -Dplayground.gc.seconds} (default 10), {@code -Dplayground.gc.rate} (orders/s, default 10,000),
+ * {@code -Dplayground.gc.window} (live orders, default 400,000).
+ */
+public class GcPauseDemo implements Demo
+{
+   private static final int SECONDS = Integer.getInteger("playground.gc.seconds", 10);
+   private static final int RATE = Integer.getInteger("playground.gc.rate", 10_000);
+   private static final int WINDOW = Integer.getInteger("playground.gc.window", 400_000);
+   private static final int INGEST_THREADS = 2;
+   private static final List<String> COMMON_FLAGS = List.of("-Xms1g", "-Xmx1g");
+
+   private record Collector(String label, String flag)
+   {
+   }
+
+   private static final List<Collector> COLLECTORS = List.of(
+         new Collector("G1", "-XX:+UseG1GC"),
+         new Collector("ZGC (generational)", "-XX:+UseZGC"));
+
+   @Override
+   public String name()
+   {
+      return "ZGC vs G1 Pauses";
+   }
+
+   @Override
+   public String description()
+   {
+      return "GC pause times and order latency percentiles of G1 vs generational ZGC under a fixed order-ingestion load";
+   }
+
+   @Override
+   public void run()
+   {
+      Util.section("Generational ZGC vs G1 under order ingestion");
+      Util.print("load", RATE + " orders/s for " + SECONDS + " s on " + INGEST_THREADS + " threads");
+      Util.print("live set", WINDOW + " most recent orders");
+      Util.print("child JVM flags", String.join(" ", COMMON_FLAGS) + " + collector");
+
+      List<ChildJvm.Result> results = new ArrayList<>();
+      for (Collector collector : COLLECTORS)
+      {
+         Output.println("    running " + collector.label() + " ...");
+         List<String> flags = new ArrayList<>(COMMON_FLAGS);
+         flags.add(collector.flag());
+         ChildJvm.Result result = ChildJvm.run(GcPauseDemo.class, flags,
+               List.of(String.valueOf(SECONDS), String.valueOf(RATE), String.valueOf(WINDOW)),
+               Duration.ofSeconds(SECONDS * 6L + 60));
+         if (!result.ok())
+         {
+            Output.println("    " + collector.label() + " failed: " + result.failure());
+            Util.rule();
+            return;
+         }
+         results.add(result);
+      }
+
+      Output.println();
+      Output.printf("    %-26s", "");
+      COLLECTORS.forEach(c -> Output.printf(" | %18s", c.label()));
+      Output.println();
+      row(results, "GC cycles", "gc.count", "%18d");
+      row(results, "GC pauses", "pause.count", "%18d");
+      row(results, "pause total (ms)", "pause.total.us", 1e-3);
+      row(results, "pause p50 (us)", "pause.p50.us", 1);
+      row(results, "pause p99 (us)", "pause.p99.us", 1);
+      row(results, "pause max (us)", "pause.max.us", 1);
+      row(results, "order latency p50 (us)", "latency.p50.us", 1);
+      row(results, "order latency p99 (us)", "latency.p99.us", 1);
+      row(results, "order latency p99.9 (us)", "latency.p999.us", 1);
+      row(results, "order latency max (us)", "latency.max.us", 1);
+      row(results, "orders/s achieved", "throughput", 1);
+      row(results, "process CPU (s)", "cpu.ms", 1e-3);
+
+      Output.println();
+      Output.println("  Takeaways:");
+      Output.println("  - G1 pauses for young collections and scales them with the live data it copies; ZGC pauses only to");
+      Output.println("    flip phases and marks/relocates concurrently, so its pauses stay well below a millisecond.");
+      Output.println("  - Tail latency follows the longest pause: every order scheduled during a pause waits for it.");
+      Output.println("  - Concurrent collection is paid in CPU and headroom instead: compare the CPU row and the live set vs -Xmx.");
+      Util.rule();
+   }
+
+   private static void row(List<ChildJvm.Result> results, String label, String key, String format)
+   {
+      Output.printf("    %-26s", label);
+      results.forEach(r -> Output.printf(" | " + format, r.longValue(key)));
+      Output.println();
+   }
+
+   private static void row(List<ChildJvm.Result> results, String label, String key, double scale)
+   {
+      Output.printf("    %-26s", label);
+      results.forEach(r -> Output.printf(" | %,18.2f", r.doubleValue(key) * scale));
+      Output.println();
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // Child JVM
+   // ─────────────────────────────────────────────────────────────────
+
+   /**
+    * Child side: {@code <seconds> <orders/s> <window>}; prints {@code key=value} lines for {@link ChildJvm}.
+    */
+   public static void main(String[] args) throws IOException, InterruptedException
+   {
+      int seconds = Integer.parseInt(args[0]);
+      int rate = Integer.parseInt(args[1]);
+      int window = Integer.parseInt(args[2]);
+
+      WindowedOrderRepository repository = new WindowedOrderRepository(window);
+      PlaceOrderUseCase useCase = new PlaceOrderUseCase(repository, new FakePaymentGateway(50_000), new OrderPolicy());
+
+      // Fill the live set first (unmeasured), so the old generation is already populated
+      for (int i = 0; i < window; i++)
+      {
+         useCase.handle(command(i));
+      }
+
+      try (Recording recording = new Recording())
+      {
+         recording.enable("jdk.GCPhasePause").withThreshold(Duration.ZERO);
+         recording.enable("jdk.GarbageCollection").withThreshold(Duration.ZERO);
+         recording.start();
+
+         long cpuStart = processCpuNanos();
+         long[][] latencies = new long[INGEST_THREADS][];
+         long intervalNanos = 1_000_000_000L * INGEST_THREADS / rate;
+         int perThread = (int) ((long) rate * seconds / INGEST_THREADS);
+         long t0 = System.nanoTime() + 10_000_000;
+         List<Thread> workers = new ArrayList<>();
+         for (int t = 0; t < INGEST_THREADS; t++)
+         {
+            int thread = t;
+            latencies[t] = new long[perThread];
+            // Threads interleave their schedules: thread t starts t/threads of an interval later
+            long first = t0 + intervalNanos * t / INGEST_THREADS;
+            workers.add(Thread.ofPlatform().name("ingest-" + t).start(
+                  () -> ingest(useCase, first, intervalNanos, latencies[thread], thread)));
+         }
+         for (Thread worker : workers)
+         {
+            worker.join();
+         }
+         long elapsed = System.nanoTime() - t0;
+         long cpu = processCpuNanos() - cpuStart;
+         recording.stop();
+
+         Path file = Files.createTempFile("playground-gc-", ".jfr");
+         try
+         {
+            recording.dump(file);
+            report(RecordingFile.readAllEvents(file), latencies, perThread * INGEST_THREADS, elapsed, cpu);
+         }
+         finally
+         {
+            Files.deleteIfExists(file);
+         }
+      }
+   }
+
+   private static void ingest(PlaceOrderUseCase useCase, long first, long intervalNanos, long[] latencies, int thread)
+   {
+      for (int i = 0; i < latencies.length; i++)
+      {
+         long scheduled = first + i * intervalNanos;
+         long wait = scheduled - System.nanoTime();
+         if (wait > 0)
+         {
+            LockSupport.parkNanos(wait);
+         }
+         useCase.handle(command(thread * latencies.length + i));
+         latencies[i] = System.nanoTime() - scheduled;
+      }
+   }
+
+   private static PlaceOrderCommand command(int i)
+   {
+      List<OrderItem> items = new ArrayList<>(3);
+      for (int line = 0; line < 1 + i % 3; line++)
+      {
+         items.add(new OrderItem("SKU-" + (i % 1_000) + "-" + line, "Item " + i + "/" + line,
+               Money.of("SEK", 100 + i % 900), 1 + line));
+      }
+      return new PlaceOrderCommand("cust-" + i % 10_000, items, "tok_" + i);
+   }
+
+   private static void report(List<RecordedEvent> events, long[][] latencies, int orders, long elapsedNanos, long cpuNanos)
+   {
+      long[] pauses = events.stream().filter(e -> e.getEventType().getName().equals("jdk.GCPhasePause"))
+            .mapToLong(e -> e.getDuration().toNanos()).sorted().toArray();
+      long cycles = events.stream().filter(e -> e.getEventType().getName().equals("jdk.GarbageCollection")).count();
+      long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+
+      System.out.println("gc.count=" + cycles);
+      System.out.println("pause.count=" + pauses.length);
+      System.out.println("pause.total.us=" + Arrays.stream(pauses).sum() / 1_000.0);
+      System.out.println("pause.p50.us=" + percentile(pauses, 0.50) / 1_000.0);
+      System.out.println("pause.p99.us=" + percentile(pauses, 0.99) / 1_000.0);
+      System.out.println("pause.max.us=" + percentile(pauses, 1.0) / 1_000.0);
+      System.out.println("latency.p50.us=" + percentile(all, 0.50) / 1_000.0);
+      System.out.println("latency.p99.us=" + percentile(all, 0.99) / 1_000.0);
+      System.out.println("latency.p999.us=" + percentile(all, 0.999) / 1_000.0);
+      System.out.println("latency.max.us=" + percentile(all, 1.0) / 1_000.0);
+      System.out.println("throughput=" + orders / (elapsedNanos / 1e9));
+      System.out.println("cpu.ms=" + cpuNanos / 1_000_000.0);
+   }
+
+   private static long percentile(long[] sorted, double p)
+   {
+      if (sorted.length == 0)
+      {
+         return 0;
+      }
+      return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+   }
+
+   private static long processCpuNanos()
+   {
+      return ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class).getProcessCpuTime();
+   }
+
+   /**
+    * Keeps the last {@code capacity} saved orders reachable; older ones become garbage as new ones arrive.
+    */
+   private static final class WindowedOrderRepository implements OrderRepository
+   {
+      private final AtomicReferenceArray<Order> window;
+      private final AtomicLong next = new AtomicLong();
+
+      WindowedOrderRepository(int capacity)
+      {
+         this.window = new AtomicReferenceArray<>(capacity);
+      }
+
+      @Override
+      public void save(Order order)
+      {
+         window.set((int) (next.getAndIncrement() % window.length()), order);
+      }
+
+      @Override
+      public Optional<Order> findById(OrderId id)
+      {
+         for (int i = 0; i < window.length(); i++)
+         {
+            Order order = window.get(i);
+            if (order != null && order.id().equals(id))
+            {
+               return Optional.of(order);
+            }
+         }
+         return Optional.empty();
+      }
+   }
+}
@@ -0,0 +1,20 @@
+package playground.jdk25.scopedvalues;
+
+
+/**
+ * Ways to make a {@code RequestContext} visible to code running on many virtual threads.
+ */
+public enum ContextCarrier
+{
+   /** Each thread {@code set}s its own value into its thread-local map, and {@code remove}s it afterwards. */
+   THREAD_LOCAL,
+
+   /** The parent sets the value once; every child thread copies the parent's inheritable map at creation. */
+   INHERITABLE_THREAD_LOCAL,
+
+   /** Each thread binds the value with {@code ScopedValue.where(..).call(..)}; no per-thread map. */
+   SCOPED_VALUE,
+
+   /** The parent binds once; {@code StructuredTaskScope} forks inherit the binding without copying. */
+   SCOPED_VALUE_FORKED
+}
@@ -0,0 +1,14 @@
+package playground.jdk25.scopedvalues;
+
+import java.time.Duration;
+
+
+/**
+ * One {@link ContextPropagationBenchmark} run.
+ *
+ * @param heapBytesPerThread retained heap with all threads alive and parked (after GC), above the baseline
+ * @param nanosPerRead       average cost of one context read inside a thread
+ */
+public record ContextCost(ContextCarrier carrier, int threads, long heapBytesPerThread, double nanosPerRead, Duration elapsed)
+{
+}
@@ -0,0 +1,172 @@
+package playground.jdk25.scopedvalues;
+
+import playground.modern.clean_arch.application.RequestContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+
+/**
+ * Footprint and read cost of carrying one {@link RequestContext} through {@code threads} virtual
+ * threads with each {@link ContextCarrier}.
+ * <p>
+ * Every thread installs/inherits the context, reads it {@code readsPerThread} times (timed), then parks
+ * until all threads have done the same. While all of them are parked the heap is measured after a GC,
+ * so the per-thread number includes the virtual thread itself plus whatever the carrier retains for it
+ * (thread-local map and entry, copied inheritable map, or nothing). The same context instance is used
+ * everywhere so only the propagation mechanism differs.
+ */
+public final class ContextPropagationBenchmark
+{
+   private static final ThreadLocal<RequestContext> THREAD_LOCAL = new ThreadLocal<>();
+   private static final InheritableThreadLocal<RequestContext> INHERITABLE = new InheritableThreadLocal<>();
+
+   private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+   private final RequestContext context;
+   private final int readsPerThread;
+
+   public ContextPropagationBenchmark(RequestContext context, int readsPerThread)
+   {
+      if (readsPerThread <= 0) throw new IllegalArgumentException("readsPerThread must be > 0");
+      this.context = Objects.requireNonNull(context);
+      this.readsPerThread = readsPerThread;
+   }
+
+   public ContextCost run(ContextCarrier carrier, int threads) throws InterruptedException
+   {
+      if (threads <= 0) throw new IllegalArgumentException("threads must be > 0");
+
+      Run run = new Run(threads);
+      System.gc();
+      long baseline = memory.getHeapMemoryUsage().getUsed();
+      long t0 = System.nanoTime();
+
+      switch (carrier)
+      {
+         case THREAD_LOCAL -> startEach(run, () -> {
+            THREAD_LOCAL.set(context);
+            try
+            {
+               body(run, THREAD_LOCAL::get);
+            }
+            finally
+            {
+               THREAD_LOCAL.remove();
+            }
+         }, baseline);
+         case INHERITABLE_THREAD_LOCAL -> {
+            INHERITABLE.set(context); // copied into every thread created below
+            try
+            {
+               startEach(run, () -> body(run, INHERITABLE::get), baseline);
+            }
+            finally
+            {
+               INHERITABLE.remove();
+            }
+         }
+         case SCOPED_VALUE -> startEach(run, () -> RequestContext.callWith(context, () -> {
+            body(run, RequestContext::current);
+            return null;
+         }), baseline);
+         case SCOPED_VALUE_FORKED -> forkAll(run, baseline);
+      }
+
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - t0);
+      return new ContextCost(carrier, threads, run.retainedBytes / threads,
+            (double) run.readNanos.sum() / ((long) threads * readsPerThread), elapsed);
+   }
+
+   private void startEach(Run run, Runnable task, long baseline) throws InterruptedException
+   {
+      for (int i = 0; i < run.threads; i++)
+      {
+         Thread.ofVirtual().start(task);
+      }
+      measureWhileParked(run, baseline);
+      run.done.await();
+   }
+
+   private void forkAll(Run run, long baseline) throws InterruptedException
+   {
+      // the scope owner binds once; all forks inherit that binding
+      InterruptedException failure = RequestContext.callWith(context, () -> {
+         try (var scope = StructuredTaskScope.open(StructuredTaskScope.Joiner.<Void>awaitAll()))
+         {
+            for (int i = 0; i < run.threads; i++)
+            {
+               scope.fork(() -> body(run, RequestContext::current));
+            }
+            measureWhileParked(run, baseline);
+            scope.join();
+            return null;
+         }
+         catch (InterruptedException e)
+         {
+            return e;
+         }
+      });
+      if (failure != null)
+      {
+         throw failure;
+      }
+   }
+
+   private void measureWhileParked(Run run, long baseline) throws InterruptedException
+   {
+      run.parked.await();
+      System.gc();
+      run.retainedBytes = Math.max(0, memory.getHeapMemoryUsage().getUsed() - baseline);
+      run.release.countDown();
+   }
+
+   private void body(Run run, Supplier<RequestContext> read)
+   {
+      long sink = 0;
+      long t0 = System.nanoTime();
+      for (int i = 0; i < readsPerThread; i++)
+      {
+         sink += read.get().deadline().getNano();
+      }
+      run.readNanos.add(System.nanoTime() - t0);
+      run.sink.add(sink);
+
+      run.parked.countDown();
+      try
+      {
+         run.release.await();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+      finally
+      {
+         run.done.countDown();
+      }
+   }
+
+   private static final class Run
+   {
+      final int threads;
+      final CountDownLatch parked;
+      final CountDownLatch release = new CountDownLatch(1);
+      final CountDownLatch done;
+      final LongAdder readNanos = new LongAdder();
+      final LongAdder sink = new LongAdder(); // keeps the reads from being optimized away
+      volatile long retainedBytes;
+
+      Run(int threads)
+      {
+         this.threads = threads;
+         this.parked = new CountDownLatch(threads);
+         this.done = new CountDownLatch(threads);
+      }
+   }
+}
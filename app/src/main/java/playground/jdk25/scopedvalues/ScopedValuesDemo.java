@@ -0,0 +1,134 @@
+package playground.jdk25.scopedvalues;
+
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+import playground.modern.clean_arch.application.FakePaymentGateway;
+import playground.modern.clean_arch.application.InMemoryOrderRepository;
+import playground.modern.clean_arch.application.PlaceOrderCommand;
+import playground.modern.clean_arch.application.PlaceOrderResult;
+import playground.modern.clean_arch.application.PlaceOrderUseCase;
+import playground.modern.clean_arch.application.RequestContext;
+import playground.modern.clean_arch.domain.Money;
+import playground.modern.clean_arch.domain.OrderItem;
+import playground.modern.clean_arch.domain.OrderPolicy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.StructuredTaskScope;
+
+
+/**
+ * {@link RequestContext} on virtual threads: binding at the entry point, inheritance by
+ * {@link StructuredTaskScope} forks, and the cost of ScopedValue vs ThreadLocal vs InheritableThreadLocal
+ * at {@code -Dplayground.scoped.threads} (default 1,000,000) virtual threads.
+ */
+public class ScopedValuesDemo implements Demo
+{
+   private static final int THREADS = Integer.getInteger("playground.scoped.threads", 1_000_000);
+   private static final int READS_PER_THREAD = 100;
+
+   @Override
+   public String name()
+   {
+      return "Scoped Values";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Request context via ScopedValue: forks inherit it; footprint/read cost vs ThreadLocal at 1M virtual threads";
+   }
+
+   @Override
+   public void run()
+   {
+      Util.section("Scoped Values: request context propagation");
+
+      Util.subsection("Bound at the entry point, read in the payment gateway and repository");
+      placeOrders();
+
+      Util.subsection("Inherited by StructuredTaskScope forks, not by plain threads");
+      inheritance();
+
+      Util.subsection("Footprint and read cost at " + THREADS + " virtual threads");
+      benchmark();
+
+      Output.println();
+      Output.println("  Takeaways:");
+      Output.println("  - ThreadLocal gives every thread its own map + entry; inheritable ones are copied into every child.");
+      Output.println("  - A ScopedValue binding lives in the caller's frame; forks share it, nothing is copied per thread.");
+      Output.println("  - Bindings are immutable and end with the scope, so there is no remove() to forget.");
+      Util.rule();
+   }
+
+   private static void placeOrders()
+   {
+      InMemoryOrderRepository repo = new InMemoryOrderRepository();
+      PlaceOrderUseCase useCase = new PlaceOrderUseCase(repo, new FakePaymentGateway(5_000), new OrderPolicy());
+      PlaceOrderCommand cmd = new PlaceOrderCommand("cust-100",
+            List.of(new OrderItem("SKU-1", "Toothbrush", Money.of("SEK", 2990), 1)), "tok_ok_123");
+
+      try (var scope = StructuredTaskScope.open())
+      {
+         // each request runs on its own virtual thread and binds its own context at the entry point
+         for (int i = 1; i <= 3; i++)
+         {
+            RequestContext context = RequestContext.of(cmd.customerId(), "trace-" + i, Duration.ofSeconds(1));
+            scope.fork(() -> {
+               PlaceOrderResult result = RequestContext.callWith(context, () -> useCase.handle(cmd));
+               Output.println("    " + result.status() + " order " + result.orderId() + " saved under "
+                     + repo.traceIdOf(result.orderId()).orElse("?"));
+            });
+         }
+         scope.join();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private static void inheritance()
+   {
+      RequestContext context = RequestContext.of("cust-200", "trace-fork", Duration.ofSeconds(1));
+      RequestContext.callWith(context, () -> {
+         try (var scope = StructuredTaskScope.open(StructuredTaskScope.Joiner.<String>awaitAllSuccessfulOrThrow()))
+         {
+            var fraud = scope.fork(() -> "fraud check sees " + RequestContext.current().traceId());
+            var stock = scope.fork(() -> "stock check sees " + RequestContext.current().traceId());
+            scope.join();
+            Output.println("    " + fraud.get());
+            Output.println("    " + stock.get());
+
+            Thread plain = Thread.ofVirtual().start(() ->
+                  Output.println("    plain virtual thread sees " + RequestContext.find().map(RequestContext::traceId).orElse("nothing")));
+            plain.join();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+         }
+         return null;
+      });
+   }
+
+   private static void benchmark()
+   {
+      ContextPropagationBenchmark benchmark = new ContextPropagationBenchmark(
+            RequestContext.of("cust-300", "trace-bench", Duration.ofMinutes(1)), READS_PER_THREAD);
+      try
+      {
+         for (ContextCarrier carrier : ContextCarrier.values())
+         {
+            ContextCost cost = benchmark.run(carrier, THREADS);
+            Output.printf("    %-24s | heap/thread=%5d B | read=%5.1f ns | %6d ms%n",
+                  cost.carrier(), cost.heapBytesPerThread(), cost.nanosPerRead(), cost.elapsed().toMillis());
+         }
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+}
@@ -0,0 +1,78 @@
+package playground.jdk25.structured;
+
+import playground.modern.result.ResultDemo.CustomerProfile;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.StructuredTaskScope;
+
+
+/**
+ * Runs all {@link RiskScorer}s concurrently (one virtual thread each) inside a {@link StructuredTaskScope}
+ * and folds their scores into a risk bucket.
+ * <p>
+ * - latency is that of the slowest scorer, not the sum
+ * - the first hard failure cancels the other scorers ({@link ScoreJoiner})
+ * - the whole evaluation is bounded by {@code deadline}; on timeout every scorer is cancelled
+ * <p>
+ * Requires {@code --enable-preview} on JDK 25 (structured concurrency is a preview API).
+ */
+public final class RiskEvaluationService
+{
+   private static final Result<String, DomainError> LOW = Result.ok("LOW_RISK");
+   private static final Result<String, DomainError> MEDIUM = Result.ok("MEDIUM_RISK");
+   private static final Result<String, DomainError> HIGH = Result.ok("HIGH_RISK");
+
+   private final List<RiskScorer> scorers;
+   private final Duration deadline;
+
+   public RiskEvaluationService(List<RiskScorer> scorers, Duration deadline)
+   {
+      Objects.requireNonNull(scorers);
+      Objects.requireNonNull(deadline);
+      if (scorers.isEmpty()) throw new IllegalArgumentException("scorers must not be empty");
+      if (deadline.isNegative() || deadline.isZero()) throw new IllegalArgumentException("deadline must be > 0");
+
+      this.scorers = List.copyOf(scorers);
+      this.deadline = deadline;
+   }
+
+   public Result<String, DomainError> evaluate(CustomerProfile profile)
+   {
+      Objects.requireNonNull(profile);
+
+      try (var scope = StructuredTaskScope.open(new ScoreJoiner(),
+            cf -> cf.withTimeout(deadline).withName("risk-evaluation")))
+      {
+         for (RiskScorer scorer : scorers)
+         {
+            scope.fork(() -> new ScoreOutcome(scorer.name(), scorer.required(), scorer.score(profile)));
+         }
+         return scope.join().flatMap(this::bucket);
+      }
+      catch (StructuredTaskScope.TimeoutException e)
+      {
+         return Result.err(new DomainError.ComputationError("Risk evaluation exceeded deadline of " + deadline.toMillis() + " ms"));
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         return Result.err(new DomainError.ComputationError("Risk evaluation interrupted"));
+      }
+   }
+
+   /**
+    * Maps the scores to a bucket by their average over the scorers that produced one, so an optional
+    * scorer that fails neither lowers nor raises the risk.
+    */
+   private Result<String, DomainError> bucket(ScoreJoiner.Scores scores)
+   {
+      int average = scores.average();
+      if (average < 30) return LOW;
+      if (average < 60) return MEDIUM;
+      return HIGH;
+   }
+}
@@ -0,0 +1,29 @@
+package playground.jdk25.structured;
+
+import playground.modern.result.ResultDemo.CustomerProfile;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+
+/**
+ * One pluggable risk check (credit, fraud, history, ...). Implementations are expected to block
+ * on I/O, which is cheap on the virtual threads {@link RiskEvaluationService} runs them on.
+ */
+public interface RiskScorer
+{
+   String name();
+
+   /**
+    * Returns a score in [0, 100] (higher is riskier), or a {@link DomainError} if the check fails.
+    */
+   Result<Integer, DomainError> score(CustomerProfile profile) throws InterruptedException;
+
+   /**
+    * Whether a failure of this scorer fails the whole evaluation (a "hard" failure).
+    * Optional scorers that fail simply don't contribute to the total.
+    */
+   default boolean required()
+   {
+      return true;
+   }
+}
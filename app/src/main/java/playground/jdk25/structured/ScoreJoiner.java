@@ -0,0 +1,82 @@
+package playground.jdk25.structured;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Failure;
+import playground.modern.result.models.Result;
+
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Sums scorer outcomes and cancels the scope on the first hard failure.
+ * <p>
+ * Each subtask yields a {@link ScoreOutcome}; a failed outcome from a required scorer (or a subtask that
+ * threw) records the first error and returns {@code true} from {@link #onComplete}, which cancels
+ * the remaining siblings. A failed optional scorer is skipped: it adds nothing to the total and is not
+ * counted as a contributor, so it cannot pull the average down.
+ */
+final class ScoreJoiner implements Joiner<ScoreOutcome, Result<ScoreJoiner.Scores, DomainError>>
+{
+   /**
+    * Sum of the scores that were produced and how many scorers produced one.
+    */
+   record Scores(int total, int contributors)
+   {
+      int average()
+      {
+         return total / contributors;
+      }
+   }
+
+   private final AtomicInteger total = new AtomicInteger();
+   private final AtomicInteger contributors = new AtomicInteger();
+   private final AtomicReference<DomainError> firstError = new AtomicReference<>();
+
+   @Override
+   public boolean onComplete(Subtask<? extends ScoreOutcome> subtask)
+   {
+      return switch (subtask.state())
+      {
+         case SUCCESS -> accept(subtask.get());
+         case FAILED -> fail(new DomainError.ComputationError("Scorer crashed: " + subtask.exception()));
+         case UNAVAILABLE -> false;
+      };
+   }
+
+   @Override
+   public Result<Scores, DomainError> result()
+   {
+      DomainError error = firstError.get();
+      if (error != null)
+      {
+         return Result.err(error);
+      }
+      // Called after join(): every subtask has completed, so both counters are final
+      int count = contributors.get();
+      if (count == 0)
+      {
+         return Result.err(new DomainError.ComputationError("No scorer produced a score"));
+      }
+      return Result.ok(new Scores(total.get(), count));
+   }
+
+   private boolean accept(ScoreOutcome outcome)
+   {
+      if (outcome.result() instanceof Failure<Integer, DomainError> f)
+      {
+         return outcome.required() && fail(f.error());
+      }
+      total.addAndGet(outcome.result().getOrThrow());
+      contributors.incrementAndGet();
+      return false;
+   }
+
+   private boolean fail(DomainError error)
+   {
+      firstError.compareAndSet(null, error);
+      return true;
+   }
+}
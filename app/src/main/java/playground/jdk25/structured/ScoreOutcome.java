@@ -0,0 +1,16 @@
+package playground.jdk25.structured;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.util.Objects;
+
+
+record ScoreOutcome(String scorer, boolean required, Result<Integer, DomainError> result)
+{
+   ScoreOutcome
+   {
+      Objects.requireNonNull(scorer);
+      Objects.requireNonNull(result);
+   }
+}
@@ -0,0 +1,31 @@
+package playground.jdk25.structured;
+
+import playground.modern.result.ResultDemo.CustomerProfile;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * A scorer that simulates a slow remote call with {@link Thread#sleep(Duration)} and then applies a rule.
+ */
+public record SimulatedScorer(String name, Duration latency, boolean required,
+                              Function<CustomerProfile, Result<Integer, DomainError>> rule) implements RiskScorer
+{
+   public SimulatedScorer
+   {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(latency);
+      Objects.requireNonNull(rule);
+   }
+
+   @Override
+   public Result<Integer, DomainError> score(CustomerProfile profile) throws InterruptedException
+   {
+      Thread.sleep(latency);
+      return rule.apply(profile);
+   }
+}
@@ -0,0 +1,99 @@
+package playground.jdk25.structured;
+
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+import playground.modern.result.ResultDemo.CustomerProfile;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.time.Duration;
+import java.util.List;
+
+
+public class StructuredConcurrencyDemo implements Demo
+{
+   private static final Duration DEADLINE = Duration.ofMillis(500);
+
+   @Override
+   public String name()
+   {
+      return "Structured Concurrency";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Fan out risk scorers with StructuredTaskScope: slowest-not-sum latency, fail-fast, deadline";
+   }
+
+   @Override
+   public void run()
+   {
+      RiskScorer credit = new SimulatedScorer("credit", Duration.ofMillis(200), true,
+            p -> Result.okInt(p.salary() < 30_000 ? 70 : 20));
+      RiskScorer fraud = new SimulatedScorer("fraud", Duration.ofMillis(120), true,
+            p -> p.age() < 21
+                  ? Result.err(new DomainError.ValidationError("age", "Fraud check requires age >= 21"))
+                  : Result.okInt(10));
+      RiskScorer history = new SimulatedScorer("history", Duration.ofMillis(80), true,
+            p -> Result.okInt(p.age() < 25 ? 60 : 30));
+      RiskScorer slowHistory = new SimulatedScorer("history (slow)", Duration.ofMillis(900), true,
+            p -> Result.okInt(30));
+      RiskScorer flakyOptional = new SimulatedScorer("marketing (optional)", Duration.ofMillis(50), false,
+            p -> Result.err(new DomainError.ComputationError("marketing service unavailable")));
+
+      Util.section("Structured Concurrency: risk scoring fan-out");
+      Util.print("deadline", DEADLINE.toMillis() + " ms");
+      Util.print("scorer latencies", "credit=200ms, fraud=120ms, history=80ms");
+
+      List<RiskScorer> standard = List.of(credit, fraud, history);
+      CustomerProfile adult = new CustomerProfile(40, 45_000);
+
+      Util.subsection("Sequential baseline (sum of latencies)");
+      Util.timedRun("sequential", () -> Output.println("    " + sequential(standard, adult)));
+
+      Util.subsection("All scorers succeed (latency ~ slowest scorer)");
+      evaluate(new RiskEvaluationService(standard, DEADLINE), adult);
+
+      Util.subsection("Hard failure cancels siblings (fraud fails at ~120ms)");
+      evaluate(new RiskEvaluationService(standard, DEADLINE), new CustomerProfile(19, 45_000));
+
+      Util.subsection("Optional scorer failure is ignored");
+      evaluate(new RiskEvaluationService(List.of(credit, fraud, history, flakyOptional), DEADLINE), adult);
+
+      Util.subsection("Deadline exceeded (history takes 900ms)");
+      evaluate(new RiskEvaluationService(List.of(credit, fraud, slowHistory), DEADLINE), adult);
+
+      Util.rule();
+   }
+
+   private static void evaluate(RiskEvaluationService service, CustomerProfile profile)
+   {
+      Result<String, DomainError> result = Util.timed("structured", () -> service.evaluate(profile));
+      Output.println("    " + profile + " -> " + result.fold(e -> "Error: " + e, ok -> ok));
+   }
+
+   private static String sequential(List<RiskScorer> scorers, CustomerProfile profile)
+   {
+      int total = 0;
+      for (RiskScorer scorer : scorers)
+      {
+         try
+         {
+            Result<Integer, DomainError> r = scorer.score(profile);
+            if (r.isFailure())
+            {
+               return "Error from " + scorer.name();
+            }
+            total += r.getOrThrow();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+         }
+      }
+      return "total score " + total;
+   }
+}
@@ -0,0 +1,20 @@
+package playground.jdk25.virtualthreads;
+
+
+/**
+ * One blocking task run by {@link ThreadLab}; the same workload is run on every {@link ExecutorKind}.
+ */
+public sealed interface BlockingWorkload permits SleepWorkload, LockedSleepWorkload, EchoWorkload
+{
+   String name();
+
+   void execute() throws Exception;
+
+   /**
+    * Upper bound on the task count this workload supports (e.g. limited by file descriptors).
+    */
+   default int maxTasks()
+   {
+      return Integer.MAX_VALUE;
+   }
+}
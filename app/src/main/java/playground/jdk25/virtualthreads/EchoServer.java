@@ -0,0 +1,73 @@
+package playground.jdk25.virtualthreads;
+
+import playground.common.output.Output;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+
+
+/**
+ * Loopback echo server with one virtual thread per connection, used by {@link EchoWorkload}.
+ */
+public final class EchoServer implements AutoCloseable
+{
+   private static final int BACKLOG = 4096;
+
+   private final ServerSocket server;
+   private final Thread acceptor;
+
+   public EchoServer() throws IOException
+   {
+      this.server = new ServerSocket(0, BACKLOG, InetAddress.getLoopbackAddress());
+      this.acceptor = Thread.ofVirtual().name("echo-acceptor").start(this::acceptLoop);
+   }
+
+   public int port()
+   {
+      return server.getLocalPort();
+   }
+
+   @Override
+   public void close() throws IOException
+   {
+      server.close();
+      acceptor.interrupt();
+   }
+
+   private void acceptLoop()
+   {
+      while (!server.isClosed())
+      {
+         try
+         {
+            Socket socket = server.accept();
+            Thread.ofVirtual().start(() -> echo(socket));
+         }
+         catch (SocketException e)
+         {
+            return; // closed
+         }
+         catch (IOException e)
+         {
+            Output.println("    echo server accept failed: " + e.getMessage());
+         }
+      }
+   }
+
+   private static void echo(Socket socket)
+   {
+      try (socket; InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream())
+      {
+         in.transferTo(out);
+      }
+      catch (IOException e)
+      {
+         // client went away; nothing to do
+      }
+   }
+}
@@ -0,0 +1,54 @@
+package playground.jdk25.virtualthreads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+
+
+/**
+ * Real blocking I/O: connects to a loopback {@link EchoServer}, writes {@code payloadBytes} and reads
+ * them back. Every in-flight task holds two sockets, so task counts are capped by {@link #maxTasks()}.
+ */
+public record EchoWorkload(int port, int payloadBytes) implements BlockingWorkload
+{
+   private static final int MAX_TASKS = 10_000;
+
+   public EchoWorkload
+   {
+      if (payloadBytes <= 0) throw new IllegalArgumentException("payloadBytes must be > 0");
+   }
+
+   @Override
+   public String name()
+   {
+      return "loopback echo " + payloadBytes + "B";
+   }
+
+   @Override
+   public int maxTasks()
+   {
+      return MAX_TASKS;
+   }
+
+   @Override
+   public void execute() throws IOException
+   {
+      byte[] payload = new byte[payloadBytes];
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port))
+      {
+         OutputStream out = socket.getOutputStream();
+         out.write(payload);
+         out.flush();
+         socket.shutdownOutput();
+
+         InputStream in = socket.getInputStream();
+         int read = in.readNBytes(payload, 0, payloadBytes);
+         if (read != payloadBytes)
+         {
+            throw new IOException("Short echo: " + read + " of " + payloadBytes + " bytes");
+         }
+      }
+   }
+}
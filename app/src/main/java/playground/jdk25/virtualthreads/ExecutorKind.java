@@ -0,0 +1,44 @@
+package playground.jdk25.virtualthreads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * The executors compared by {@link ThreadLab}.
+ */
+public enum ExecutorKind
+{
+   /** Fixed pool of platform threads: concurrency is capped at the pool size, extra tasks queue. */
+   PLATFORM_POOL,
+
+   /** One new virtual thread per task: blocking unmounts the virtual thread and frees its carrier. */
+   VIRTUAL_PER_TASK,
+
+   /** Work-stealing pool sized to the CPUs: a blocked worker is simply lost until the task wakes up. */
+   FORK_JOIN_POOL;
+
+   public ExecutorService create(int platformThreads, int forkJoinParallelism)
+   {
+      return switch (this)
+      {
+         case PLATFORM_POOL -> Executors.newFixedThreadPool(platformThreads);
+         case VIRTUAL_PER_TASK -> Executors.newVirtualThreadPerTaskExecutor();
+         case FORK_JOIN_POOL -> new ForkJoinPool(forkJoinParallelism);
+      };
+   }
+
+   /**
+    * How many tasks can block at the same time, or {@code Integer.MAX_VALUE} if unbounded.
+    */
+   public int maxConcurrency(int platformThreads, int forkJoinParallelism)
+   {
+      return switch (this)
+      {
+         case PLATFORM_POOL -> platformThreads;
+         case VIRTUAL_PER_TASK -> Integer.MAX_VALUE;
+         case FORK_JOIN_POOL -> forkJoinParallelism;
+      };
+   }
+}
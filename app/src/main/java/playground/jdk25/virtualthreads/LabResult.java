@@ -0,0 +1,27 @@
+package playground.jdk25.virtualthreads;
+
+import java.time.Duration;
+
+
+/**
+ * One {@link ThreadLab} run.
+ *
+ * @param heapBytesPerTask    peak heap use above the pre-run baseline, divided by the task count
+ * @param peakPlatformThreads peak live platform threads during the run (virtual threads are not counted)
+ * @param pinnedEvents        {@code jdk.VirtualThreadPinned} JFR events recorded during the run
+ */
+public record LabResult(
+      ExecutorKind executor,
+      String workload,
+      int tasks,
+      Duration elapsed,
+      long heapBytesPerTask,
+      int peakPlatformThreads,
+      long pinnedEvents,
+      long failures)
+{
+   public double tasksPerSecond()
+   {
+      return tasks / (elapsed.toNanos() / 1e9);
+   }
+}
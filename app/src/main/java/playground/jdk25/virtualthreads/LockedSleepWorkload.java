@@ -0,0 +1,40 @@
+package playground.jdk25.virtualthreads;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Simulated I/O while holding a {@link ReentrantLock}: the {@code java.util.concurrent} alternative that was the
+ * advice for avoiding pinning before JDK 24, and the reference {@link SleepWorkload} in {@code synchronized} is
+ * compared against.
+ */
+public record LockedSleepWorkload(Duration latency) implements BlockingWorkload
+{
+   public LockedSleepWorkload
+   {
+      Objects.requireNonNull(latency);
+   }
+
+   @Override
+   public String name()
+   {
+      return "sleep " + latency.toMillis() + "ms holding a ReentrantLock";
+   }
+
+   @Override
+   public void execute() throws InterruptedException
+   {
+      ReentrantLock lock = new ReentrantLock();
+      lock.lock();
+      try
+      {
+         Thread.sleep(latency);
+      }
+      finally
+      {
+         lock.unlock();
+      }
+   }
+}
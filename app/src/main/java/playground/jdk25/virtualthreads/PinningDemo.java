@@ -0,0 +1,78 @@
+package playground.jdk25.virtualthreads;
+
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+
+import java.time.Duration;
+
+
+/**
+ * Virtual threads that block inside {@code synchronized}: before JDK 24 such a thread pinned its carrier, so at most
+ * one blocked task per carrier could make progress; since JEP 491 it unmounts like any other blocked virtual thread.
+ * <p>
+ * The "before" row is reproduced on this JVM: a pinned virtual thread holds its carrier for the whole sleep, which is
+ * exactly a {@link java.util.concurrent.ForkJoinPool} of one worker per carrier running the same task (the
+ * virtual-thread scheduler is such a pool, and it does not compensate for a sleep while pinned). The "after" rows
+ * run {@code -Dplayground.pinning.tasks} (default 10,000) virtual threads sleeping in {@code synchronized}, holding
+ * a {@code ReentrantLock}, and holding nothing; JFR counts {@code jdk.VirtualThreadPinned} for each run.
+ */
+public class PinningDemo implements Demo
+{
+   private static final int TASKS = Integer.getInteger("playground.pinning.tasks", 10_000);
+   private static final Duration SLEEP = Duration.ofMillis(10);
+   // The pinned-equivalent run completes `carriers` tasks per sleep; this many rounds keep it near one second
+   private static final int PINNED_ROUNDS = 100;
+
+   @Override
+   public String name()
+   {
+      return "Virtual Thread Pinning";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Blocking in synchronized on virtual threads: JDK 21-23 pinned-carrier throughput vs JDK 24+ (JEP 491)";
+   }
+
+   @Override
+   public void run()
+   {
+      int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+      ThreadLab lab = new ThreadLab(carriers, carriers);
+
+      Util.section("Virtual threads blocking in synchronized (JEP 491)");
+      Util.print("carriers", carriers + " (virtual-thread scheduler parallelism)");
+      Util.print("task", "sleep " + SLEEP.toMillis() + " ms, holding the lock when there is one");
+
+      LabResult pinned = lab.run(ExecutorKind.FORK_JOIN_POOL, new SleepWorkload(SLEEP, true), carriers * PINNED_ROUNDS);
+      LabResult monitor = lab.run(ExecutorKind.VIRTUAL_PER_TASK, new SleepWorkload(SLEEP, true), TASKS);
+      LabResult lock = lab.run(ExecutorKind.VIRTUAL_PER_TASK, new LockedSleepWorkload(SLEEP), TASKS);
+      LabResult free = lab.run(ExecutorKind.VIRTUAL_PER_TASK, new SleepWorkload(SLEEP, false), TASKS);
+
+      Output.println();
+      Output.printf("    %-34s | %7s | %10s | %7s | %6s | %9s%n", "", "tasks", "tasks/s", "ms", "pinned", "vs before");
+      print("before: pinned carriers (JDK 21-23)", pinned, pinned);
+      print("after: synchronized", monitor, pinned);
+      print("after: ReentrantLock", lock, pinned);
+      print("after: no lock", free, pinned);
+
+      Output.println();
+      Output.println("  Takeaways:");
+      Output.println("  - Pinned, throughput was capped at carriers / latency no matter how many virtual threads were started.");
+      Output.println("  - Since JDK 24 a virtual thread blocked in synchronized releases its carrier: same throughput as ReentrantLock.");
+      Output.println("  - No need to rewrite synchronized blocks to ReentrantLock for virtual threads any more; jdk.VirtualThreadPinned");
+      Output.println("    still reports the remaining cases (blocking under a native frame, e.g. JNI or a class initializer).");
+      Util.rule();
+   }
+
+   private static void print(String label, LabResult r, LabResult before)
+   {
+      // The emulated "before" runs on platform threads, so it has no pinned events to count
+      Output.printf("    %-34s | %7d | %10.0f | %7d | %6s | %8.1fx%s%n",
+            label, r.tasks(), r.tasksPerSecond(), r.elapsed().toMillis(),
+            r == before ? "-" : String.valueOf(r.pinnedEvents()),
+            r.tasksPerSecond() / before.tasksPerSecond(), r.failures() == 0 ? "" : " | failures=" + r.failures());
+   }
+}
@@ -0,0 +1,45 @@
+package playground.jdk25.virtualthreads;
+
+import java.time.Duration;
+import java.util.Objects;
+
+
+/**
+ * Simulated I/O: sleeps for {@code latency}, optionally while holding a monitor.
+ * <p>
+ * Holding a monitor while blocking pinned the virtual thread to its carrier up to JDK 23; since
+ * JDK 24 (JEP 491) {@code synchronized} no longer pins, so on JDK 25 {@code jdk.VirtualThreadPinned}
+ * should stay at zero for this workload.
+ */
+public record SleepWorkload(Duration latency, boolean holdMonitor) implements BlockingWorkload
+{
+   // Every task's monitor is published here so C2 cannot prove it thread-local and elide the lock.
+   private static volatile Object lastMonitor;
+
+   public SleepWorkload
+   {
+      Objects.requireNonNull(latency);
+   }
+
+   @Override
+   public String name()
+   {
+      return "sleep " + latency.toMillis() + "ms" + (holdMonitor ? " in synchronized" : "");
+   }
+
+   @Override
+   public void execute() throws InterruptedException
+   {
+      if (!holdMonitor)
+      {
+         Thread.sleep(latency);
+         return;
+      }
+      Object monitor = new Object();
+      lastMonitor = monitor;
+      synchronized (monitor)
+      {
+         Thread.sleep(latency);
+      }
+   }
+}
@@ -0,0 +1,122 @@
+package playground.jdk25.virtualthreads;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Runs {@code tasks} copies of a {@link BlockingWorkload} on one {@link ExecutorKind} and measures
+ * throughput, heap per task, platform thread count and virtual-thread pinning.
+ * <p>
+ * Heap is sampled every few milliseconds from a separate platform thread; the peak above a
+ * post-GC baseline approximates what the in-flight tasks (thread stacks, queued runnables) cost.
+ * Pinning is counted with a JFR {@link RecordingStream} on {@code jdk.VirtualThreadPinned}
+ * (threshold zero) that lives only for the duration of the run.
+ */
+public final class ThreadLab
+{
+   private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+   private static final long HEAP_SAMPLE_MS = 5;
+
+   private final int platformThreads;
+   private final int forkJoinParallelism;
+   private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+   private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+   public ThreadLab(int platformThreads, int forkJoinParallelism)
+   {
+      if (platformThreads <= 0) throw new IllegalArgumentException("platformThreads must be > 0");
+      if (forkJoinParallelism <= 0) throw new IllegalArgumentException("forkJoinParallelism must be > 0");
+      this.platformThreads = platformThreads;
+      this.forkJoinParallelism = forkJoinParallelism;
+   }
+
+   public int maxConcurrency(ExecutorKind kind)
+   {
+      return kind.maxConcurrency(platformThreads, forkJoinParallelism);
+   }
+
+   public LabResult run(ExecutorKind kind, BlockingWorkload workload, int tasks)
+   {
+      Objects.requireNonNull(kind);
+      Objects.requireNonNull(workload);
+      if (tasks <= 0 || tasks > workload.maxTasks())
+      {
+         throw new IllegalArgumentException("tasks must be in [1, " + workload.maxTasks() + "] for " + workload.name());
+      }
+
+      LongAdder failures = new LongAdder();
+      LongAdder pinned = new LongAdder();
+
+      System.gc();
+      long baseline = memory.getHeapMemoryUsage().getUsed();
+      AtomicLong peak = new AtomicLong(baseline);
+      Thread sampler = Thread.ofPlatform().daemon().name("lab-heap-sampler").start(() -> sampleHeap(peak));
+      threads.resetPeakThreadCount();
+
+      long elapsedNs;
+      try (RecordingStream jfr = new RecordingStream())
+      {
+         jfr.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+         jfr.onEvent(PINNED_EVENT, _ -> pinned.increment());
+         jfr.startAsync();
+
+         long t0 = System.nanoTime();
+         // close() waits for every submitted task, so the elapsed time covers the whole batch
+         try (ExecutorService executor = kind.create(platformThreads, forkJoinParallelism))
+         {
+            for (int i = 0; i < tasks; i++)
+            {
+               executor.execute(() -> {
+                  try
+                  {
+                     workload.execute();
+                  }
+                  catch (InterruptedException e)
+                  {
+                     Thread.currentThread().interrupt();
+                     failures.increment();
+                  }
+                  catch (Exception e)
+                  {
+                     failures.increment();
+                  }
+               });
+            }
+         }
+         elapsedNs = System.nanoTime() - t0;
+         jfr.stop(); // flushes, so every pinned event of this run has been delivered
+      }
+      finally
+      {
+         sampler.interrupt();
+      }
+
+      return new LabResult(kind, workload.name(), tasks, Duration.ofNanos(elapsedNs),
+            Math.max(0, peak.get() - baseline) / tasks, threads.getPeakThreadCount(), pinned.sum(), failures.sum());
+   }
+
+   private void sampleHeap(AtomicLong peak)
+   {
+      while (!Thread.currentThread().isInterrupted())
+      {
+         peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+         try
+         {
+            Thread.sleep(HEAP_SAMPLE_MS);
+         }
+         catch (InterruptedException e)
+         {
+            return;
+         }
+      }
+   }
+}
@@ -0,0 +1,116 @@
+package playground.jdk25.virtualthreads;
+
+import playground.common.Demo;
+import playground.common.Util;
+import playground.common.output.Output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+
+/**
+ * Same blocking workload on a platform thread pool, virtual-thread-per-task and a fork-join pool,
+ * from 100 tasks up to {@code -Dplayground.vthreads.maxTasks} (default 1,000,000).
+ * <p>
+ * Runs whose sleep-bound lower limit ({@code ceil(tasks / concurrency) * latency}) exceeds
+ * {@link #TIME_BUDGET} are skipped and reported as such instead of stalling the menu.
+ */
+public class VirtualThreadsDemo implements Demo
+{
+   private static final int MAX_TASKS = Integer.getInteger("playground.vthreads.maxTasks", 1_000_000);
+   private static final int PLATFORM_THREADS = Integer.getInteger("playground.vthreads.platformThreads", 200);
+   private static final Duration SLEEP = Duration.ofMillis(10);
+   private static final Duration TIME_BUDGET = Duration.ofSeconds(15);
+   private static final int ECHO_PAYLOAD = 512;
+
+   @Override
+   public String name()
+   {
+      return "Virtual Threads Lab";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Platform pool vs virtual thread per task vs ForkJoinPool on blocking work, 100 to 1M tasks";
+   }
+
+   @Override
+   public void run()
+   {
+      int cpus = Runtime.getRuntime().availableProcessors();
+      ThreadLab lab = new ThreadLab(PLATFORM_THREADS, cpus);
+
+      Util.section("Virtual Threads vs Platform Threads");
+      Util.print("platform pool", PLATFORM_THREADS + " threads");
+      Util.print("fork-join pool", cpus + " workers");
+      Util.print("max tasks", MAX_TASKS + " (-Dplayground.vthreads.maxTasks)");
+      Util.print("time budget", TIME_BUDGET.toSeconds() + " s per run (longer runs are skipped)");
+
+      Util.subsection("Simulated I/O: " + new SleepWorkload(SLEEP, false).name());
+      sweep(lab, new SleepWorkload(SLEEP, false));
+
+      Util.subsection("Simulated I/O holding a monitor (pinning check)");
+      sweep(lab, new SleepWorkload(SLEEP, true));
+
+      try (EchoServer server = new EchoServer())
+      {
+         EchoWorkload echo = new EchoWorkload(server.port(), ECHO_PAYLOAD);
+         Util.subsection("Real I/O: " + echo.name() + " (capped at " + echo.maxTasks() + " tasks)");
+         sweep(lab, echo);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+
+      Output.println();
+      Output.println("  Takeaways:");
+      Output.println("  - Pools cap concurrency at their size: throughput = threads / latency, extra tasks just queue.");
+      Output.println("  - Virtual threads make concurrency = tasks; a blocked one costs a heap-allocated stack, not an OS thread.");
+      Output.println("  - ForkJoinPool is for CPU work: every blocking call takes a worker out of the pool.");
+      Output.println("  - Since JDK 24 (JEP 491), blocking inside synchronized no longer pins a virtual thread.");
+      Util.rule();
+   }
+
+   private static void sweep(ThreadLab lab, BlockingWorkload workload)
+   {
+      for (int tasks = 100; tasks <= Math.min(MAX_TASKS, workload.maxTasks()); tasks *= 10)
+      {
+         for (ExecutorKind kind : ExecutorKind.values())
+         {
+            Duration lowerBound = lowerBound(lab, kind, workload, tasks);
+            if (lowerBound.compareTo(TIME_BUDGET) > 0)
+            {
+               Output.printf("    %-16s | tasks=%-9d | skipped (>= %d s)%n", kind, tasks, lowerBound.toSeconds());
+               continue;
+            }
+            print(lab.run(kind, workload, tasks));
+         }
+      }
+   }
+
+   private static Duration lowerBound(ThreadLab lab, ExecutorKind kind, BlockingWorkload workload, int tasks)
+   {
+      if (!(workload instanceof SleepWorkload sleep))
+      {
+         return Duration.ZERO;
+      }
+      long waves = (tasks + lab.maxConcurrency(kind) - 1L) / lab.maxConcurrency(kind);
+      return sleep.latency().multipliedBy(waves);
+   }
+
+   private static void print(LabResult r)
+   {
+      Output.printf("    %-16s | tasks=%-9d | %10.0f tasks/s | %6d ms | heap/task=%6d B | platform threads=%4d | pinned=%d%s%n",
+            r.executor(),
+            r.tasks(),
+            r.tasksPerSecond(),
+            r.elapsed().toMillis(),
+            r.heapBytesPerTask(),
+            r.peakPlatformThreads(),
+            r.pinnedEvents(),
+            r.failures() == 0 ? "" : " | failures=" + r.failures());
+   }
+}
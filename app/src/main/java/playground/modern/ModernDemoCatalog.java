@@ -0,0 +1,88 @@
+package playground.modern;
+
+import playground.common.DemoCatalog;
+import playground.common.DemoDescriptor;
+
+import java.util.List;
+
+/**
+ * Route A demos in menu order. Classes are named, not referenced, so none of them loads until selected;
+ * names and descriptions must match the demos' own {@code name()} and {@code description()}.
+ */
+public final class ModernDemoCatalog implements DemoCatalog {
+
+    public static final String ROUTE = "modern";
+
+    @Override
+    public String route() {
+        return ROUTE;
+    }
+
+    @Override
+    public List<DemoDescriptor> demos() {
+        return List.of(
+                DemoDescriptor.lazy("playground.modern.ModernMain$SetupVerificationDemo",
+                        "Setup Verification",
+                        "Verifies the demo framework is working correctly"),
+                DemoDescriptor.lazy("playground.modern.domainmodel.DomainModelDemo",
+                        "Domain Model Demo",
+                        "Shows how to use records, sealed interfaces, and pattern matching to build a domain model"),
+                DemoDescriptor.lazy("playground.modern.result.ResultDemo",
+                        "ResultDemo",
+                        "Demonstrates functional error handling using Result type with parsing, validation, and computation scenarios"),
+                DemoDescriptor.lazy("playground.modern.result.ResultAllocationDemo",
+                        "Result Allocation Benchmark",
+                        "Bytes allocated per validated row through the Result chain (parse -> validate -> risk bucket)"),
+                DemoDescriptor.lazy("playground.modern.result.ParsingBenchmarkDemo",
+                        "Parsing Benchmark",
+                        "Exception-based parsing vs exception-free NumberParsers on 50% invalid input"),
+                DemoDescriptor.lazy("playground.modern.streams.StreamsDemo",
+                        "Streams Demo",
+                        "Demonstrates Java 17+ stream features like groupingBy, summingLong, and collectors"),
+                DemoDescriptor.lazy("playground.modern.streams.StreamPitfallsDemo",
+                        "Stream Pitfalls",
+                        "Demonstrates common stream pitfalls and how to avoid them."),
+                DemoDescriptor.lazy("playground.modern.streams.ForkJoinAggregationDemo",
+                        "Fork/Join Aggregation",
+                        "RecursiveTask aggregation on an isolated pool vs parallelStream().collect(...)"),
+                DemoDescriptor.lazy("playground.modern.importer.ImportDemo",
+                        "Parallel Import",
+                        "Memory-mapped, chunked, parallel CSV/NDJSON import with a Result per row"),
+                DemoDescriptor.lazy("playground.modern.concurrency.ConcurrencyFundamentals",
+                        "Concurrency Fundamentals",
+                        "Core Java concurrency concepts: visibility, happens-before, atomicity, and contention"),
+                DemoDescriptor.lazy("playground.modern.concurrency.CounterBenchmarkDemo",
+                        "Counter Benchmark",
+                        "Throughput and read cost of each counter implementation at 1/4/16/64 threads"),
+                DemoDescriptor.lazy("playground.modern.concurrency.QueueComparisonDemo",
+                        "Queue Comparison",
+                        "SPSC/MPSC ring buffers vs ArrayBlockingQueue and ConcurrentLinkedQueue"),
+                DemoDescriptor.lazy("playground.modern.concurrency.FalseSharingDemo",
+                        "False Sharing",
+                        "Per-thread slots, packed vs padded to a cache line"),
+                DemoDescriptor.lazy("playground.modern.concurrency.LockBenchmarkDemo",
+                        "Lock Benchmark",
+                        "synchronized vs ReentrantLock vs AdaptiveLock vs StampedLock optimistic reads on mixed read/write load"),
+                DemoDescriptor.lazy("playground.modern.concurrency.LitmusDemo",
+                        "JMM Litmus Tests",
+                        "Message passing and store buffering under plain/volatile/synchronized/release-acquire/opaque"),
+                DemoDescriptor.lazy("playground.modern.concurrency.SchedulerDemo",
+                        "Task Scheduler",
+                        "Priority classes with in-flight/rate limits on virtual threads vs one FIFO queue"),
+                DemoDescriptor.lazy("playground.modern.clean_arch.api.CleanArchDemo",
+                        "Clean Architecture Demo",
+                        "A minimal “Order Processing” system with Domain, Infrastructure, and Application layers + Fake API runner"),
+                DemoDescriptor.lazy("playground.modern.metrics.MetricsDemo",
+                        "Metrics Registry",
+                        "Striped counters, lock-free timers/histograms by name+tags, Prometheus text export to a file or HttpServer"),
+                DemoDescriptor.lazy("playground.modern.output.OutputSinkDemo",
+                        "Output Sinks",
+                        "Caller-side cost of printing: synchronous console vs lock-free async buffered sink vs null sink"),
+                DemoDescriptor.lazy("playground.modern.random.RandomDataDemo",
+                        "Random Data",
+                        "Fixture generation throughput: shared java.util.Random vs per-thread RandomGenerator with bulk fills"),
+                DemoDescriptor.lazy("playground.modern.streams.vector.VectorAggregationDemo",
+                        "Vector API Aggregation",
+                        "Sum/min/max/count/per-category totals in one SIMD pass (jdk.incubator.vector) vs scalar loop and collector"));
+    }
+}
@@ -3,38 +3,22 @@ package playground.modern;
 import playground.common.CliMenu;
 import playground.common.Demo;
 import playground.common.DemoRegistry;
+import playground.common.Route;
 import playground.common.Util;
-import playground.modern.clean_arch.api.CleanArchDemo;
-import playground.modern.concurrency.ConcurrencyFundamentals;
-import playground.modern.domainmodel.DomainModelDemo;
-import playground.modern.result.ResultDemo;
-import playground.modern.streams.StreamPitfallsDemo;
-import playground.modern.streams.StreamsDemo;
-
+import playground.common.output.Output;
 
 /**
  * Main entry point for Route A: Modern Java Approaches.
  * Demonstrates patterns and features that work across Java 17-25.
  */
-public class ModernMain implements Demo {
+public class ModernMain implements Route {
 
     private final DemoRegistry registry;
 
     public ModernMain() {
         this.registry = new DemoRegistry("Route A: Modern Java Approaches");
-        registerDemos();
-    }
-
-    private void registerDemos() {
-        // Demos will be registered here as they are implemented
-        registry.register(new SetupVerificationDemo());
-        registry.register(new DomainModelDemo());
-        registry.register(new ResultDemo());
-        registry.register(new StreamsDemo());
-        registry.register(new StreamPitfallsDemo());
-        registry.register(new ConcurrencyFundamentals());
-        registry.register(new CleanArchDemo());
-        // Add more demos here as they are implemented
+        // Demos are listed in ModernDemoCatalog and only loaded when selected
+        registry.registerCatalogs(ModernDemoCatalog.ROUTE);
     }
 
     @Override
@@ -47,6 +31,11 @@ public class ModernMain implements Demo {
         return "Generic modern Java engineering patterns (portable across Java 17-25)";
     }
 
+    @Override
+    public DemoRegistry registry() {
+        return registry;
+    }
+
     @Override
     public void run() {
         CliMenu menu = new CliMenu(registry);
@@ -67,7 +56,7 @@ public class ModernMain implements Demo {
      * Placeholder demo to verify the setup works.
      * Remove this once real demos are added.
      */
-    private static class SetupVerificationDemo implements Demo {
+    public static class SetupVerificationDemo implements Demo {
 
         @Override
         public String name() {
@@ -82,10 +71,10 @@ public class ModernMain implements Demo {
         @Override
         public void run() {
             Util.section("Setup Verification");
-            System.out.println("  The demo framework is successfully configured!");
-            System.out.println("  Java version: " + System.getProperty("java.version"));
-            System.out.println("  This is a placeholder demo.");
-            System.out.println("  Add real demos to the ModernMain class to get started.");
+            Output.println("  The demo framework is successfully configured!");
+            Output.println("  Java version: " + System.getProperty("java.version"));
+            Output.println("  This is a placeholder demo.");
+            Output.println("  Add real demos to the ModernMain class to get started.");
             Util.rule();
         }
     }
@@ -1,15 +1,19 @@
 package playground.modern.clean_arch.api;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.clean_arch.application.FakePaymentGateway;
 import playground.modern.clean_arch.application.InMemoryOrderRepository;
 import playground.modern.clean_arch.application.PlaceOrderCommand;
 import playground.modern.clean_arch.application.PlaceOrderResult;
 import playground.modern.clean_arch.application.PlaceOrderUseCase;
+import playground.modern.clean_arch.application.RequestContext;
 import playground.modern.clean_arch.domain.OrderItem;
 import playground.modern.clean_arch.domain.OrderPolicy;
 import playground.modern.clean_arch.domain.Money;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 
@@ -47,15 +51,18 @@ public class CleanArchDemo implements Demo
             "tok_ok_123"
       );
 
-      PlaceOrderResult okRes = useCase.handle(okCmd);
-      System.out.println("Scenario 1 result: " + okRes);
+      PlaceOrderResult okRes = handle(useCase, okCmd, RequestContext.of(okCmd.customerId(), "trace-1", Duration.ofSeconds(2)));
+      Output.println("Scenario 1 result: " + okRes);
 
       // Fetch and print stored order
       repo.findById(okRes.orderId()).ifPresent(order ->
-            System.out.println("Stored order: " + order)
+            Output.println("Stored order: " + order)
+      );
+      repo.traceIdOf(okRes.orderId()).ifPresent(traceId ->
+            Output.println("Saved under trace: " + traceId)
       );
 
-      System.out.println("-------------------------------------------------");
+      Output.println("-------------------------------------------------");
 
       // --- Scenario 2: valid by policy but declined by fake gateway ---
       PlaceOrderCommand bigCmd = new PlaceOrderCommand(
@@ -66,11 +73,26 @@ public class CleanArchDemo implements Demo
             "tok_ok_999"
       );
 
-      PlaceOrderResult bigRes = useCase.handle(bigCmd);
-      System.out.println("Scenario 2 result: " + bigRes);
+      PlaceOrderResult bigRes = handle(useCase, bigCmd, RequestContext.of(bigCmd.customerId(), "trace-2", Duration.ofSeconds(2)));
+      Output.println("Scenario 2 result: " + bigRes);
 
       repo.findById(bigRes.orderId()).ifPresent(order ->
-            System.out.println("Stored order: " + order)
+            Output.println("Stored order: " + order)
       );
+
+      Output.println("-------------------------------------------------");
+
+      // --- Scenario 3: request arrives after its deadline -> gateway declines from the request context ---
+      RequestContext late = new RequestContext(okCmd.customerId(), "trace-3", Instant.now().minusMillis(1));
+      PlaceOrderResult lateRes = handle(useCase, okCmd, late);
+      Output.println("Scenario 3 result: " + lateRes);
+   }
+
+   /**
+    * Entry point of one request: binds its {@link RequestContext} for everything the use case calls.
+    */
+   private static PlaceOrderResult handle(PlaceOrderUseCase useCase, PlaceOrderCommand cmd, RequestContext context)
+   {
+      return RequestContext.callWith(context, () -> useCase.handle(cmd));
    }
 }
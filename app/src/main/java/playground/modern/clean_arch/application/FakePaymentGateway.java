@@ -1,6 +1,7 @@
 package playground.modern.clean_arch.application;
 
 import playground.modern.clean_arch.domain.Money;
+import playground.modern.observability.PaymentChargeEvent;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -16,6 +17,20 @@ public final class FakePaymentGateway implements PaymentGateway {
 
    @Override
    public PaymentResult charge(String customerId, Money amount, String paymentToken) {
+      PaymentChargeEvent event = new PaymentChargeEvent();
+      event.begin();
+      PaymentResult result = decide(customerId, amount, paymentToken);
+      if (event.shouldCommit()) {
+         event.customerId = customerId;
+         event.currency = amount.currency();
+         event.amountMinor = amount.minorUnits();
+         event.approved = result.approved();
+         event.commit();
+      }
+      return result;
+   }
+
+   private PaymentResult decide(String customerId, Money amount, String paymentToken) {
       Objects.requireNonNull(customerId);
       Objects.requireNonNull(amount);
       Objects.requireNonNull(paymentToken);
@@ -24,6 +39,12 @@ public final class FakePaymentGateway implements PaymentGateway {
          return new PaymentResult(PaymentResult.Status.DECLINED, "N/A", "Blank payment token");
       }
 
+      // Deep in the adapter, the request context is one scoped-value read away (no extra parameters).
+      RequestContext context = RequestContext.find().orElse(null);
+      if (context != null && context.isExpired()) {
+         return new PaymentResult(PaymentResult.Status.DECLINED, "N/A", "Request deadline exceeded (trace=" + context.traceId() + ")");
+      }
+
       if (amount.minorUnits() <= approveUpToMinor) {
          return new PaymentResult(
                PaymentResult.Status.APPROVED,
@@ -2,6 +2,7 @@ package playground.modern.clean_arch.application;
 
 import playground.modern.clean_arch.domain.Order;
 import playground.modern.clean_arch.domain.OrderId;
+import playground.modern.observability.OrderSaveEvent;
 
 import java.util.Map;
 import java.util.Objects;
@@ -11,11 +12,20 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class InMemoryOrderRepository implements OrderRepository {
 
    private final Map<OrderId, Order> store = new ConcurrentHashMap<>();
+   private final Map<OrderId, String> traceIds = new ConcurrentHashMap<>();
 
    @Override
    public void save(Order order) {
       Objects.requireNonNull(order);
+      OrderSaveEvent event = new OrderSaveEvent();
+      event.begin();
       store.put(order.id(), order);
+      RequestContext.find().ifPresent(context -> traceIds.put(order.id(), context.traceId()));
+      if (event.shouldCommit()) {
+         event.orderId = order.id().value();
+         event.status = order.status().name();
+         event.commit();
+      }
    }
 
    @Override
@@ -23,4 +33,12 @@ public final class InMemoryOrderRepository implements OrderRepository {
       Objects.requireNonNull(id);
       return Optional.ofNullable(store.get(id));
    }
+
+   /**
+    * Trace id of the request that last saved {@code id}, if it was saved inside a {@link RequestContext}.
+    */
+   public Optional<String> traceIdOf(OrderId id) {
+      Objects.requireNonNull(id);
+      return Optional.ofNullable(traceIds.get(id));
+   }
 }
@@ -2,11 +2,22 @@ package playground.modern.clean_arch.application;
 
 import playground.modern.clean_arch.domain.Order;
 import playground.modern.clean_arch.domain.OrderPolicy;
+import playground.modern.metrics.CounterMetric;
+import playground.modern.metrics.MetricsRegistry;
+import playground.modern.metrics.TimerMetric;
+import playground.modern.observability.OrderStageEvent;
 
 import java.util.Objects;
 
 public final class PlaceOrderUseCase {
 
+   // Metric handles resolved once; recording is lock- and allocation-free
+   private static final TimerMetric HANDLE_TIME = MetricsRegistry.global().timer("order_handle_seconds");
+   private static final TimerMetric CHARGE_TIME = MetricsRegistry.global().timer("payment_charge_seconds");
+   private static final CounterMetric ORDERS_PAID = MetricsRegistry.global().counter("orders_placed_total", "status", "paid");
+   private static final CounterMetric ORDERS_DECLINED = MetricsRegistry.global().counter("orders_placed_total", "status", "declined");
+   private static final CounterMetric ORDERS_INVALID = MetricsRegistry.global().counter("orders_placed_total", "status", "invalid");
+
    private final OrderRepository orderRepository;
    private final PaymentGateway paymentGateway;
    private final OrderPolicy policy;
@@ -23,15 +34,31 @@ public final class PlaceOrderUseCase {
 
    public PlaceOrderResult handle(PlaceOrderCommand cmd) {
       Objects.requireNonNull(cmd);
+      long start = HANDLE_TIME.start();
+      try {
+         return place(cmd);
+      } finally {
+         HANDLE_TIME.stop(start);
+      }
+   }
+
+   private PlaceOrderResult place(PlaceOrderCommand cmd) {
 
       // 1) Create order (domain factory)
+      OrderStageEvent createStage = OrderStageEvent.start(OrderStageEvent.CREATE);
       Order created = Order.create(cmd.customerId(), cmd.items());
+      end(createStage, created);
 
       // 2) Domain policy validation
+      OrderStageEvent validateStage = OrderStageEvent.start(OrderStageEvent.VALIDATE);
       boolean isValid = policy.validate(created);
+      end(validateStage, created);
       if (!isValid) {
          Order rejected = created.markAsRejected();
+         OrderStageEvent persistStage = OrderStageEvent.start(OrderStageEvent.PERSIST);
          orderRepository.save(rejected);
+         end(persistStage, rejected);
+         ORDERS_INVALID.inc();
 
          return new PlaceOrderResult(
                rejected.id(),
@@ -44,7 +71,11 @@ public final class PlaceOrderUseCase {
       Order pending = created.markAsPending();
 
       // 4) Charge payment (port)
+      OrderStageEvent chargeStage = OrderStageEvent.start(OrderStageEvent.CHARGE);
+      long chargeStart = CHARGE_TIME.start();
       PaymentResult payment = paymentGateway.charge(pending.customerId(), pending.totalAmount(), cmd.paymentToken());
+      CHARGE_TIME.stop(chargeStart);
+      end(chargeStage, pending);
 
       // 5) Transition state based on payment outcome
       Order finalOrder = payment.approved()
@@ -52,7 +83,10 @@ public final class PlaceOrderUseCase {
             : pending.markAsRejected();
 
       // 6) Persist (port)
+      OrderStageEvent persistStage = OrderStageEvent.start(OrderStageEvent.PERSIST);
       orderRepository.save(finalOrder);
+      end(persistStage, finalOrder);
+      (payment.approved() ? ORDERS_PAID : ORDERS_DECLINED).inc();
 
       // 7) Return response DTO
       String msg = payment.approved()
@@ -61,4 +95,16 @@ public final class PlaceOrderUseCase {
 
       return new PlaceOrderResult(finalOrder.id(), finalOrder.status(), msg);
    }
+
+   /**
+    * Commits a stage event. Labels are only computed when a recording wants the event; otherwise the
+    * event never escapes and the JIT removes it.
+    */
+   private static void end(OrderStageEvent stage, Order order) {
+      if (stage.shouldCommit()) {
+         stage.orderId = order.id().value();
+         stage.traceId = RequestContext.find().map(RequestContext::traceId).orElse(null);
+         stage.commit();
+      }
+   }
 }
@@ -0,0 +1,64 @@
+package playground.modern.clean_arch.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Per-request context (who, which trace, until when), carried in a {@link ScopedValue} instead of a
+ * {@code ThreadLocal}.
+ * <p>
+ * The entry point binds it once with {@link #callWith}; any code below it (use case, payment gateway,
+ * repository) reads it with {@link #find()} without it appearing in every method signature. The binding
+ * is immutable, ends when {@code callWith} returns, and is inherited by {@code StructuredTaskScope}
+ * forks. Unlike a {@code ThreadLocal}, it needs no per-thread map, so it costs nothing extra for each of
+ * millions of virtual threads.
+ */
+public record RequestContext(String customerId, String traceId, Instant deadline) {
+
+   private static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+   public RequestContext {
+      Objects.requireNonNull(customerId);
+      Objects.requireNonNull(traceId);
+      Objects.requireNonNull(deadline);
+   }
+
+   public static RequestContext of(String customerId, String traceId, Duration timeout) {
+      return new RequestContext(customerId, traceId, Instant.now().plus(timeout));
+   }
+
+   /**
+    * Runs {@code body} with {@code context} bound for this thread and its structured forks.
+    */
+   public static <R> R callWith(RequestContext context, Supplier<R> body) {
+      Objects.requireNonNull(context);
+      Objects.requireNonNull(body);
+      return ScopedValue.where(CURRENT, context).call(body::get);
+   }
+
+   /**
+    * The bound context, if the caller runs inside {@link #callWith}.
+    */
+   public static Optional<RequestContext> find() {
+      return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+   }
+
+   /**
+    * The bound context; throws {@link java.util.NoSuchElementException} outside {@link #callWith}.
+    */
+   public static RequestContext current() {
+      return CURRENT.get();
+   }
+
+   public boolean isExpired(Clock clock) {
+      return !clock.instant().isBefore(deadline);
+   }
+
+   public boolean isExpired() {
+      return isExpired(Clock.systemUTC());
+   }
+}
@@ -1,6 +1,7 @@
 package playground.modern.concurrency;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.concurrency.util.Harness;
 
 
@@ -25,20 +26,23 @@ public class ConcurrencyFundamentals implements Demo
 
       Harness.bullet("1- Visibility Broken demo (no happens-before)");
       new VisibilityBrokenDemo().run();
-      System.out.println();
+      Output.println();
 
       Harness.bullet("2- Visibility Fixed Volatile Demo — volatile establishes visibility");
       new VisibilityFixedVolatileDemo().run();
-      System.out.println();
+      Output.println();
 
       Harness.bullet("3- Visibility Fixed Synchronized Demo — synchronized establishes happens-before");
       new VisibilityFixedSynchronizedDemo().run();
-      System.out.println();
+      Output.println();
 
       Harness.bullet("4- Counter Comparison Demo — ++ vs synchronized vs AtomicLong vs LongAdder");
       new CounterComparisonDemo().run();
+      Output.println();
 
-      System.out.println();
+      Harness.bullet("The benchmarks (Counter Benchmark, Queue Comparison, False Sharing, Lock Benchmark,");
+      Harness.bullet("JMM Litmus Tests, Task Scheduler) are separate menu entries.");
+      Output.println();
       Harness.bullet("Done.");
 
    }
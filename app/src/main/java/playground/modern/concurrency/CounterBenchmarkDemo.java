@@ -0,0 +1,148 @@
+package playground.modern.concurrency;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.concurrency.counters.Counter;
+import playground.modern.concurrency.counters.CounterKind;
+import playground.modern.concurrency.util.Harness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * Write throughput and read cost of every {@link CounterKind} at 1, 4, 16 and 64 writer threads.
+ * <p>
+ * A dedicated reader thread runs alongside the writers and alternates timed batches of exact
+ * ({@code get}) and approximate ({@code getApproximate}) reads, so read cost is measured under contention.
+ */
+public class CounterBenchmarkDemo implements Demo
+{
+   private static final int[] THREAD_COUNTS = { 1, 4, 16, 64 };
+   private static final long TOTAL_INCREMENTS = 4_000_000;
+   private static final int READ_BATCH = 256;
+
+   @Override
+   public String name()
+   {
+      return "Counter Benchmark";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Throughput and read cost of each counter implementation at 1/4/16/64 threads";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("CounterBenchmarkDemo (write throughput + read cost)");
+      Harness.bullet("totalIncrements=" + TOTAL_INCREMENTS + " split across writer threads, plus 1 reader thread");
+      Output.println();
+
+      for (int threads : THREAD_COUNTS)
+      {
+         Output.printf("threads=%d%n", threads);
+         for (CounterKind kind : CounterKind.values())
+         {
+            runCase(kind, threads);
+         }
+         Output.println();
+      }
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("Single-cell counters (synchronized, AtomicLong, VarHandle) read in a few ns but collapse as writers grow.");
+      Harness.bullet("Striped counters (LongAdder, STRIPED) keep writes scalable; exact reads pay for summing every stripe.");
+      Harness.bullet("APPROXIMATE keeps striped writes and serves reads from a cached sum (<= 1 ms stale).");
+   }
+
+   private static void runCase(CounterKind kind, int threads)
+   {
+      Counter counter = kind.create();
+      long perThread = TOTAL_INCREMENTS / threads;
+      long expected = perThread * threads;
+
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch writersDone = new CountDownLatch(threads);
+      ReadStats reads = new ReadStats();
+
+      List<Thread> writers = new ArrayList<>(threads);
+      for (int i = 0; i < threads; i++)
+      {
+         writers.add(new Thread(() -> {
+            Harness.await(start, 10_000);
+            for (long j = 0; j < perThread; j++)
+            {
+               counter.inc();
+            }
+            writersDone.countDown();
+         }, "bench-writer-" + i));
+      }
+      Thread reader = new Thread(() -> {
+         Harness.await(start, 10_000);
+         readWhileWriting(counter, writersDone, reads);
+      }, "bench-reader");
+
+      writers.forEach(Thread::start);
+      reader.start();
+
+      long t0 = System.nanoTime();
+      start.countDown();
+      Harness.await(writersDone, 60_000);
+      long elapsedNs = System.nanoTime() - t0;
+      Harness.join(reader, 1_000);
+      writers.forEach(t -> Harness.join(t, 1_000));
+
+      long actual = counter.get();
+      Output.printf("  %-12s | %8.1f Mops/s | get=%7.1f ns | approx=%7.1f ns | %s%n",
+            kind,
+            expected * 1_000.0 / elapsedNs,
+            reads.exactNsPerRead(),
+            reads.approximateNsPerRead(),
+            actual == expected ? "ok" : "MISMATCH actual=" + actual);
+   }
+
+   private static void readWhileWriting(Counter counter, CountDownLatch writersDone, ReadStats stats)
+   {
+      long sink = 0;
+      while (writersDone.getCount() > 0)
+      {
+         long t0 = System.nanoTime();
+         for (int i = 0; i < READ_BATCH; i++)
+         {
+            sink += counter.get();
+         }
+         long t1 = System.nanoTime();
+         for (int i = 0; i < READ_BATCH; i++)
+         {
+            sink += counter.getApproximate();
+         }
+         long t2 = System.nanoTime();
+
+         stats.exactNs += t1 - t0;
+         stats.approximateNs += t2 - t1;
+         stats.batches++;
+      }
+      stats.sink = sink;
+   }
+
+   private static final class ReadStats
+   {
+      long exactNs;
+      long approximateNs;
+      long batches;
+      long sink; // keeps the reads from being optimized away
+
+      double exactNsPerRead()
+      {
+         return batches == 0 ? Double.NaN : (double) exactNs / (batches * READ_BATCH);
+      }
+
+      double approximateNsPerRead()
+      {
+         return batches == 0 ? Double.NaN : (double) approximateNs / (batches * READ_BATCH);
+      }
+   }
+}
@@ -1,12 +1,14 @@
 package playground.modern.concurrency;
 
 import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.concurrency.counters.AtomicLongCounter;
+import playground.modern.concurrency.counters.Counter;
+import playground.modern.concurrency.counters.LongAdderCounter;
+import playground.modern.concurrency.counters.SynchronizedCounter;
 import playground.modern.concurrency.util.Harness;
+import playground.modern.concurrency.util.Measurement;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -19,6 +21,9 @@ import java.util.concurrent.atomic.LongAdder;
 
 public class CounterComparisonDemo implements Demo
 {
+   private static final int WARMUP_ITERATIONS = 2;
+   private static final int TRIALS = 5;
+
    @Override
    public String name()
    {
@@ -41,20 +46,22 @@ public class CounterComparisonDemo implements Demo
 
       long expected = (long) threads * incrementsPerThread;
 
-      Harness.bullet("threads=" + threads + ", incrementsPerThread=" + incrementsPerThread + ", expected=" + expected);
-      System.out.println();
+      Harness.bullet("threads=" + threads + ", incrementsPerThread=" + incrementsPerThread + ", expected=" + expected + " per trial");
+      Harness.bullet("warmup=" + WARMUP_ITERATIONS + ", trials=" + TRIALS + "; throughput is the median trial, latency is per inc()");
+      Output.println();
 
       runCase("NaiveCounter (broken: value++)", new NaiveCounter(), threads, incrementsPerThread, expected);
       runCase("SynchronizedCounter", new SynchronizedCounter(), threads, incrementsPerThread, expected);
       runCase("AtomicLongCounter", new AtomicLongCounter(), threads, incrementsPerThread, expected);
       runCase("LongAdderCounter", new LongAdderCounter(), threads, incrementsPerThread, expected);
 
-      System.out.println();
+      Output.println();
       Harness.bullet("Interpretation:");
       Harness.bullet("NaiveCounter loses updates because ++ is read-modify-write, not atomic.");
       Harness.bullet("synchronized is correct but may contend.");
       Harness.bullet("AtomicLong is correct; can contend under heavy updates.");
       Harness.bullet("LongAdder scales better for hot counters (more memory, eventual sum).");
+      Harness.bullet("Watch p99.9/max rather than p50: contention shows up in the tail first.");
    }
 
    private static void runCase(
@@ -64,75 +71,24 @@ public class CounterComparisonDemo implements Demo
          int incrementsPerThread,
          long expected
    ) {
-      long elapsedMs = Harness.timeMillis(() -> runThreads(counter, threads, incrementsPerThread));
-      long actual = counter.get();
-      long delta = expected - actual;
-
-      System.out.printf("%-30s | actual=%d | delta=%d | time=%dms%n",
-            name, actual, delta, elapsedMs);
-   }
-
-   private static void runThreads(Counter counter, int threads, int incrementsPerThread) {
-      List<Thread> list = new ArrayList<>(threads);
-
-      for (int i = 0; i < threads; i++) {
-         Thread t = new Thread(() -> {
-            for (int j = 0; j < incrementsPerThread; j++) {
-               counter.inc();
-            }
-         }, "counter-worker-" + i);
-         list.add(t);
-      }
-
-      list.forEach(Thread::start);
-
-      for (Thread t : list) {
-         try {
-            t.join();
-         } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted while joining threads", ie);
-         }
-      }
-   }
+      Measurement m = Harness.measure(name, threads, WARMUP_ITERATIONS, TRIALS, incrementsPerThread,
+            (thread, op) -> counter.inc());
 
-   // -------------------------------------------------
-   // Counter abstraction
-   // -------------------------------------------------
-   interface Counter {
-      void inc();
-      long get();
+      // every warmup, measured and latency trial increments the same counter
+      long total = expected * m.opPasses();
+      long actual = counter.get();
+      Output.printf("%-30s | actual=%d | delta=%d%n", "", actual, total - actual);
    }
 
    // -------------------------------------------------
-   // Implementations
+   // Deliberately broken implementation (the correct ones live in the counters package)
    // -------------------------------------------------
 
    static final class NaiveCounter implements Counter {
       private long value;
 
       @Override public void inc() { value++; } // NOT ATOMIC
+      @Override public void add(long delta) { value += delta; } // NOT ATOMIC
       @Override public long get() { return value; }
    }
-
-   static final class SynchronizedCounter implements Counter {
-      private long value;
-
-      @Override public synchronized void inc() { value++; }
-      @Override public synchronized long get() { return value; }
-   }
-
-   static final class AtomicLongCounter implements Counter {
-      private final AtomicLong value = new AtomicLong();
-
-      @Override public void inc() { value.incrementAndGet(); }
-      @Override public long get() { return value.get(); }
-   }
-
-   static final class LongAdderCounter implements Counter {
-      private final LongAdder adder = new LongAdder();
-
-      @Override public void inc() { adder.increment(); }
-      @Override public long get() { return adder.sum(); }
-   }
 }
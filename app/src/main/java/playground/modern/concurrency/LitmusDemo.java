@@ -0,0 +1,82 @@
+package playground.modern.concurrency;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.concurrency.litmus.AccessMode;
+import playground.modern.concurrency.litmus.Expectation;
+import playground.modern.concurrency.litmus.LitmusResult;
+import playground.modern.concurrency.litmus.LitmusRunner;
+import playground.modern.concurrency.litmus.MessagePassing;
+import playground.modern.concurrency.litmus.StoreBuffering;
+import playground.modern.concurrency.util.Harness;
+
+import java.time.Duration;
+
+
+/**
+ * Statistical version of the visibility demos: message passing and store buffering in every
+ * {@link AccessMode}, millions of samples each, with the outcome histogram classified by the JMM.
+ * Run length per test: {@code -Dplayground.litmus.millis} (default 500).
+ */
+public class LitmusDemo implements Demo
+{
+   private static final Duration RUN = Duration.ofMillis(Long.getLong("playground.litmus.millis", 500));
+
+   @Override
+   public String name()
+   {
+      return "JMM Litmus Tests";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Message passing and store buffering under plain/volatile/synchronized/release-acquire/opaque";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("LitmusDemo (outcome histograms per access mode)");
+      LitmusRunner runner = new LitmusRunner();
+      Harness.bullet("runPerTest=" + RUN.toMillis() + "ms, thread pairs=" + Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+      Harness.bullet("[!] = allowed by the JMM only through reordering, [X] = forbidden (a JVM/test bug)");
+      Output.println();
+
+      for (AccessMode mode : AccessMode.values())
+      {
+         print(runner.run(new MessagePassing(mode), RUN));
+      }
+      Output.println();
+      for (AccessMode mode : AccessMode.values())
+      {
+         print(runner.run(new StoreBuffering(mode), RUN));
+      }
+
+      Output.println();
+      Harness.bullet("Interpretation:");
+      Harness.bullet("MessagePassing r1=1, r2=0: flag seen without its data. Volatile/synchronized/release-acquire rule it out.");
+      Harness.bullet("StoreBuffering r1=0, r2=0: both reads passed the other thread's write. Only volatile/synchronized rule it out;");
+      Harness.bullet("  release/acquire does not, and x86 store buffers really produce it.");
+      Harness.bullet("Zero [!] counts don't prove safety: the hardware or JIT may simply not have reordered this run.");
+   }
+
+   private static void print(LitmusResult r)
+   {
+      StringBuilder line = new StringBuilder(String.format("%-15s %-16s | %6.1f M/s |", r.test(), r.mode(), r.samplesPerSecond() / 1e6));
+      String[] outcomes = r.outcomes();
+      Expectation[] expectations = r.expectations();
+      long[] counts = r.counts();
+      for (int i = 0; i < outcomes.length; i++)
+      {
+         String marker = switch (expectations[i])
+         {
+            case ACCEPTABLE -> "";
+            case INTERESTING -> " [!]";
+            case FORBIDDEN -> " [X]";
+         };
+         line.append(String.format(" %s: %d%s |", outcomes[i], counts[i], marker));
+      }
+      Output.println(line.toString());
+   }
+}
@@ -0,0 +1,226 @@
+package playground.modern.concurrency;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.concurrency.locks.AdaptiveLock;
+import playground.modern.concurrency.locks.OptimisticGuard;
+import playground.modern.concurrency.util.Harness;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Mixed read/write benchmark on a small table of account balances guarded by:
+ * - synchronized
+ * - ReentrantLock
+ * - AdaptiveLock (spin -> onSpinWait -> park, budgets tuned from hold times)
+ * - OptimisticGuard (StampedLock optimistic reads)
+ * <p>
+ * A write moves 1 unit between two accounts, a read sums two balances; the grand total must be
+ * unchanged at the end, so a broken guard shows up as a mismatch.
+ */
+public class LockBenchmarkDemo implements Demo
+{
+   private static final int ACCOUNTS = 64;
+   private static final long INITIAL_BALANCE = 1_000;
+   private static final int[] THREAD_COUNTS = { 1, 4, 16 };
+   private static final int[] WRITE_PERCENTS = { 50, 10, 1 };
+   private static final long OPS_PER_TRIAL = 400_000;
+   private static final int WARMUP_ITERATIONS = 2;
+   private static final int TRIALS = 5;
+
+   @Override
+   public String name()
+   {
+      return "Lock Benchmark";
+   }
+
+   @Override
+   public String description()
+   {
+      return "synchronized vs ReentrantLock vs AdaptiveLock vs StampedLock optimistic reads on mixed read/write load";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("LockBenchmarkDemo (mixed read/write on shared balances)");
+      Harness.bullet("accounts=" + ACCOUNTS + ", opsPerTrial=" + OPS_PER_TRIAL + ", warmup=" + WARMUP_ITERATIONS + ", trials=" + TRIALS);
+      Output.println();
+
+      for (int writePercent : WRITE_PERCENTS)
+      {
+         for (int threads : THREAD_COUNTS)
+         {
+            Output.printf("writes=%d%%, threads=%d%n", writePercent, threads);
+            runCase("synchronized", new SynchronizedAccounts(), threads, writePercent);
+            runCase("ReentrantLock", new LockAccounts(new ReentrantLock()), threads, writePercent);
+
+            AdaptiveLock adaptive = new AdaptiveLock();
+            runCase("AdaptiveLock", new LockAccounts(adaptive), threads, writePercent);
+            Output.println("    " + adaptive.metrics());
+
+            OptimisticGuard guard = new OptimisticGuard();
+            long ops = runCase("OptimisticGuard (StampedLock)", new OptimisticAccounts(guard), threads, writePercent);
+            OptimisticGuard.Metrics m = guard.metrics();
+            // Every op is a read or a write, plus the read in total(); the guard counts only locked reads and writes
+            long reads = ops - m.writes() + 1;
+            Output.printf("    optimistic=%d locked=%d writes=%d fallback=%.2f%%%n",
+                  m.optimisticReads(reads), m.lockedReads(), m.writes(), m.fallbackRate(reads) * 100);
+            Output.println();
+         }
+      }
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("Uncontended, all four cost about the same: one CAS in, one store out.");
+      Harness.bullet("Short critical sections under contention: spinning waiters get the lock without a park/unpark round trip.");
+      Harness.bullet("Read-mostly: optimistic reads write nothing shared, so readers don't bounce the lock's cache line.");
+      Harness.bullet("As writes grow, optimistic reads fail validation more often and fall back to the read lock.");
+   }
+
+   /**
+    * Runs one measurement and returns how many ops it executed over all passes (warmup included).
+    */
+   private static long runCase(String name, Accounts accounts, int threads, int writePercent)
+   {
+      long opsPerThread = OPS_PER_TRIAL / threads;
+      // Passes are counted by thread 0's first op instead of counting every op, which would add a write per op
+      int[] passes = { 0 };
+      Harness.measure(name, threads, WARMUP_ITERATIONS, TRIALS, opsPerThread, (thread, op) -> {
+         if (op == 0 && thread == 0)
+         {
+            passes[0]++;
+         }
+         long h = (op + 1) * 0x9E3779B97F4A7C15L + thread * 0xC2B2AE3D27D4EB4FL;
+         int a = (int) (h >>> 58);          // top 6 bits: 0..63
+         int b = (int) (h >>> 52) & 63;
+         int roll = (int) ((((h >>> 16) & 0xFFFF_FFFFL) * 100) >>> 32); // 0..99
+         if (roll < writePercent)
+         {
+            accounts.transfer(a, b);
+         }
+         else
+         {
+            accounts.read(a, b);
+         }
+      });
+
+      long total = accounts.total();
+      long expected = ACCOUNTS * INITIAL_BALANCE;
+      if (total != expected)
+      {
+         Output.printf("    MISMATCH total=%d expected=%d%n", total, expected);
+      }
+      return (long) passes[0] * opsPerThread * threads;
+   }
+
+   // -------------------------------------------------
+   // The same table behind each guard
+   // -------------------------------------------------
+
+   private interface Accounts
+   {
+      long read(int a, int b);
+
+      void transfer(int from, int to);
+
+      long total();
+   }
+
+   private static long[] newBalances()
+   {
+      long[] balances = new long[ACCOUNTS];
+      Arrays.fill(balances, INITIAL_BALANCE);
+      return balances;
+   }
+
+   private static long sum(long[] balances)
+   {
+      long sum = 0;
+      for (long b : balances)
+      {
+         sum += b;
+      }
+      return sum;
+   }
+
+   private static final class SynchronizedAccounts implements Accounts
+   {
+      private final long[] balances = newBalances();
+
+      @Override public synchronized long read(int a, int b) { return balances[a] + balances[b]; }
+      @Override public synchronized void transfer(int from, int to) { balances[from]--; balances[to]++; }
+      @Override public synchronized long total() { return sum(balances); }
+   }
+
+   private static final class LockAccounts implements Accounts
+   {
+      private final long[] balances = newBalances();
+      private final Lock lock;
+
+      LockAccounts(Lock lock)
+      {
+         this.lock = lock;
+      }
+
+      @Override
+      public long read(int a, int b)
+      {
+         lock.lock();
+         try
+         {
+            return balances[a] + balances[b];
+         }
+         finally
+         {
+            lock.unlock();
+         }
+      }
+
+      @Override
+      public void transfer(int from, int to)
+      {
+         lock.lock();
+         try
+         {
+            balances[from]--;
+            balances[to]++;
+         }
+         finally
+         {
+            lock.unlock();
+         }
+      }
+
+      @Override
+      public long total()
+      {
+         lock.lock();
+         try
+         {
+            return sum(balances);
+         }
+         finally
+         {
+            lock.unlock();
+         }
+      }
+   }
+
+   private static final class OptimisticAccounts implements Accounts
+   {
+      private final long[] balances = newBalances();
+      private final OptimisticGuard guard;
+
+      OptimisticAccounts(OptimisticGuard guard)
+      {
+         this.guard = guard;
+      }
+
+      @Override public long read(int a, int b) { return guard.readLong(() -> balances[a] + balances[b]); }
+      @Override public void transfer(int from, int to) { guard.write(() -> { balances[from]--; balances[to]++; }); }
+      @Override public long total() { return guard.readLong(() -> sum(balances)); }
+   }
+}
@@ -0,0 +1,254 @@
+package playground.modern.concurrency;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.concurrency.queues.MpscRingBuffer;
+import playground.modern.concurrency.queues.RingQueue;
+import playground.modern.concurrency.queues.SpscRingBuffer;
+import playground.modern.concurrency.util.Harness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+
+/**
+ * Hand-off throughput of the lock-free ring buffers vs the JDK's general-purpose queues:
+ * - SPSC: 1 producer, 1 consumer
+ * - MPSC: 3 producers, 1 consumer
+ * <p>
+ * Each case is run with single-element {@code offer}/{@code poll}, with batched {@code drainTo}, and with
+ * batched {@code offerAll} producers on top of {@code drainTo}. Producers spin
+ * (with {@link Thread#onSpinWait()}) when full and the consumer spins when empty, so the numbers
+ * measure the queue, not park/unpark.
+ */
+public class QueueComparisonDemo implements Demo
+{
+   private static final int CAPACITY = 64 * 1024;
+   private static final int MESSAGES = 10_000_000;
+   private static final int DRAIN_BATCH = 256;
+   private static final int OFFER_BATCH = 64;
+
+   // Pre-boxed payloads: Integer.valueOf only caches -128..127, we want zero allocation per message.
+   private static final Integer[] PAYLOADS = new Integer[1024];
+
+   static
+   {
+      for (int i = 0; i < PAYLOADS.length; i++)
+      {
+         PAYLOADS[i] = i;
+      }
+   }
+
+   @Override
+   public String name()
+   {
+      return "Queue Comparison";
+   }
+
+   @Override
+   public String description()
+   {
+      return "SPSC/MPSC ring buffers vs ArrayBlockingQueue and ConcurrentLinkedQueue";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("QueueComparisonDemo (lock-free ring buffers vs JDK queues)");
+      Harness.bullet("messages=" + MESSAGES + ", capacity=" + CAPACITY + ", drainBatch=" + DRAIN_BATCH + ", offerBatch=" + OFFER_BATCH);
+      Output.println();
+
+      Output.println("SPSC (1 producer -> 1 consumer)");
+      runAll(1, SpscRingBuffer::new, "SpscRingBuffer");
+      Output.println();
+
+      Output.println("MPSC (3 producers -> 1 consumer)");
+      runAll(3, MpscRingBuffer::new, "MpscRingBuffer");
+      Output.println();
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("ArrayBlockingQueue takes one lock for both ends, so producer and consumer serialize.");
+      Harness.bullet("ConcurrentLinkedQueue is lock-free but allocates a node per message (GC + cache misses).");
+      Harness.bullet("Ring buffers keep indexes on separate cache lines and cache the other side's index.");
+      Harness.bullet("drainTo publishes the consumer index once per batch instead of once per message.");
+      Harness.bullet("offerAll publishes a batch with one release store (SPSC) or claims it with one CAS (MPSC).");
+   }
+
+   private static void runAll(int producers, IntFunction<RingQueue<Integer>> ring, String ringName)
+   {
+      runCase(ringName + " poll", producers, ring.apply(CAPACITY), false, false);
+      runCase(ringName + " drainTo", producers, ring.apply(CAPACITY), false, true);
+      runCase(ringName + " offerAll+drainTo", producers, ring.apply(CAPACITY), true, true);
+      runCase("ArrayBlockingQueue poll", producers, new JdkQueue<>(new ArrayBlockingQueue<>(CAPACITY)), false, false);
+      runCase("ArrayBlockingQueue drainTo", producers, new JdkQueue<>(new ArrayBlockingQueue<>(CAPACITY)), false, true);
+      runCase("ConcurrentLinkedQueue poll", producers, new JdkQueue<>(new ConcurrentLinkedQueue<>()), false, false);
+   }
+
+   private static void runCase(String name, int producers, RingQueue<Integer> queue, boolean batchedProducers,
+         boolean batchedConsumer)
+   {
+      int perProducer = MESSAGES / producers;
+      long expected = (long) perProducer * producers;
+      long expectedSum = expectedSum(perProducer) * producers;
+
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> threads = new ArrayList<>(producers);
+      for (int p = 0; p < producers; p++)
+      {
+         threads.add(new Thread(() -> {
+            Harness.await(start, 10_000);
+            if (batchedProducers)
+            {
+               produceBatched(queue, perProducer);
+            }
+            else
+            {
+               produce(queue, perProducer);
+            }
+         }, "queue-producer-" + p));
+      }
+      threads.forEach(Thread::start);
+
+      long t0 = System.nanoTime();
+      start.countDown();
+      long sum = batchedConsumer ? consumeBatched(queue, expected) : consume(queue, expected);
+      long elapsedNs = System.nanoTime() - t0;
+      threads.forEach(t -> Harness.join(t, 1_000));
+
+      Output.printf("  %-32s | %7.1f Mmsgs/s | time=%5dms | %s%n",
+            name,
+            expected * 1_000.0 / elapsedNs,
+            elapsedNs / 1_000_000,
+            sum == expectedSum ? "ok" : "MISMATCH sum=" + sum);
+   }
+
+   private static void produce(RingQueue<Integer> queue, int count)
+   {
+      for (int i = 0; i < count; i++)
+      {
+         Integer message = PAYLOADS[i & 1023];
+         while (!queue.offer(message))
+         {
+            Thread.onSpinWait();
+         }
+      }
+   }
+
+   /**
+    * Same messages as {@link #produce}, offered {@link #OFFER_BATCH} at a time straight from {@link #PAYLOADS}.
+    */
+   private static void produceBatched(RingQueue<Integer> queue, int count)
+   {
+      for (int i = 0; i < count; )
+      {
+         // PAYLOADS[from, to) are the next messages; a batch stops at the end of the array and wraps in the next one
+         int from = i & 1023;
+         int to = Math.min(from + Math.min(OFFER_BATCH, count - i), PAYLOADS.length);
+         int n = queue.offerAll(PAYLOADS, from, to);
+         if (n == 0)
+         {
+            Thread.onSpinWait();
+         }
+         i += n;
+      }
+   }
+
+   private static long consume(RingQueue<Integer> queue, long expected)
+   {
+      long sum = 0;
+      for (long received = 0; received < expected; )
+      {
+         Integer message = queue.poll();
+         if (message == null)
+         {
+            Thread.onSpinWait();
+            continue;
+         }
+         sum += message;
+         received++;
+      }
+      return sum;
+   }
+
+   private static long consumeBatched(RingQueue<Integer> queue, long expected)
+   {
+      long[] sum = new long[1];
+      Consumer<Integer> add = message -> sum[0] += message;
+      for (long received = 0; received < expected; )
+      {
+         int n = queue.drainTo(add, DRAIN_BATCH);
+         if (n == 0)
+         {
+            Thread.onSpinWait();
+         }
+         received += n;
+      }
+      return sum[0];
+   }
+
+   private static long expectedSum(int count)
+   {
+      long sum = 0;
+      for (int i = 0; i < count; i++)
+      {
+         sum += i & 1023;
+      }
+      return sum;
+   }
+
+   // -------------------------------------------------
+   // Adapter so the JDK queues run through the same loops (single consumer only)
+   // -------------------------------------------------
+
+   private static final class JdkQueue<E> implements RingQueue<E>
+   {
+      private final Queue<E> queue;
+      private final List<E> batch = new ArrayList<>(DRAIN_BATCH);
+
+      JdkQueue(Queue<E> queue)
+      {
+         this.queue = queue;
+      }
+
+      @Override public boolean offer(E e) { return queue.offer(e); }
+      @Override public E poll() { return queue.poll(); }
+      @Override public int size() { return queue.size(); }
+      @Override public int capacity() { return queue instanceof BlockingQueue<E> bq ? bq.remainingCapacity() + bq.size() : Integer.MAX_VALUE; }
+
+      @Override
+      public int offerAll(E[] items, int from, int to)
+      {
+         int added = 0;
+         for (int i = from; i < to && queue.offer(items[i]); i++)
+         {
+            added++;
+         }
+         return added;
+      }
+
+      @Override
+      public int drainTo(Consumer<? super E> consumer, int limit)
+      {
+         if (queue instanceof BlockingQueue<E> bq)
+         {
+            batch.clear();
+            int n = bq.drainTo(batch, limit);
+            batch.forEach(consumer);
+            return n;
+         }
+         int n = 0;
+         for (E e; n < limit && (e = queue.poll()) != null; n++)
+         {
+            consumer.accept(e);
+         }
+         return n;
+      }
+   }
+}
@@ -0,0 +1,245 @@
+package playground.modern.concurrency;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.clean_arch.application.FakePaymentGateway;
+import playground.modern.clean_arch.application.InMemoryOrderRepository;
+import playground.modern.clean_arch.application.PaymentGateway;
+import playground.modern.clean_arch.application.PlaceOrderCommand;
+import playground.modern.clean_arch.application.PlaceOrderUseCase;
+import playground.modern.clean_arch.application.RequestContext;
+import playground.modern.clean_arch.domain.Money;
+import playground.modern.clean_arch.domain.OrderItem;
+import playground.modern.clean_arch.domain.OrderPolicy;
+import playground.modern.clean_arch.domain.OrderStatus;
+import playground.modern.concurrency.scheduler.ClassStats;
+import playground.modern.concurrency.scheduler.TaskClass;
+import playground.modern.concurrency.scheduler.TaskScheduler;
+import playground.modern.concurrency.util.Harness;
+import playground.modern.concurrency.util.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Three workloads share one {@link TaskScheduler}:
+ * - interactive: 1k requests/s, 1 ms each
+ * - payments: 6k order jobs/s through {@link PlaceOrderUseCase} (2 ms gateway latency), limited to 5k/s and 200 in flight
+ * - batch: always keeps a backlog of 4096 jobs of 5 ms each (a saturated background class)
+ * <p>
+ * First they all go through a single FIFO class, then through weighted classes with their own limits.
+ * The start delay of every task is measured by the demo itself, so both runs are comparable.
+ * Run length: {@code -Dplayground.scheduler.millis} (default 2000).
+ */
+public class SchedulerDemo implements Demo
+{
+   private static final long RUN_MILLIS = Long.getLong("playground.scheduler.millis", 2_000);
+
+   private static final int INTERACTIVE_PER_SECOND = 1_000;
+   private static final int PAYMENTS_PER_SECOND = 6_000;
+   private static final int BATCH_BACKLOG = 4_096;
+
+   private static final String INTERACTIVE = "interactive";
+   private static final String PAYMENTS = "payments";
+   private static final String BATCH = "batch";
+
+   private static final List<TaskClass> FIFO = List.of(TaskClass.of("shared", 1, 64 + 200 + 256, TaskClass.UNLIMITED));
+
+   private static final List<TaskClass> PRIORITIZED = List.of(
+         TaskClass.of(INTERACTIVE, 8, 64, TaskClass.UNLIMITED),
+         TaskClass.of(PAYMENTS, 4, 200, 5_000),
+         TaskClass.of(BATCH, 1, 256, TaskClass.UNLIMITED));
+
+   private static final PlaceOrderCommand ORDER = new PlaceOrderCommand(
+         "cust-100",
+         List.of(new OrderItem("SKU-1", "Toothbrush", Money.of("SEK", 2990), 1)),
+         "tok_ok_123");
+
+   @Override
+   public String name()
+   {
+      return "Task Scheduler";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Priority classes with in-flight/rate limits on virtual threads vs one FIFO queue";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("SchedulerDemo (weighted priority classes vs FIFO)");
+      Harness.bullet("run=" + RUN_MILLIS + "ms, interactive=" + INTERACTIVE_PER_SECOND + "/s, payments=" + PAYMENTS_PER_SECOND
+            + "/s (limit 5000/s), batch backlog=" + BATCH_BACKLOG);
+      Output.println();
+
+      Output.println("FIFO: one class, 520 in flight, every workload in the same queue");
+      runScenario(FIFO, false);
+      Output.println();
+
+      Output.println("Prioritized: interactive w=8 / payments w=4, 200 in flight, 5k/s / batch w=1, 256 in flight");
+      runScenario(PRIORITIZED, true);
+      Output.println();
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("In FIFO an interactive request waits behind the whole batch backlog.");
+      Harness.bullet("With classes the batch backlog only delays batch; interactive starts within microseconds.");
+      Harness.bullet("Payments are offered above their 5k/s limit, so their own queue absorbs the excess (and grows).");
+      Harness.bullet("Blocking tasks run on virtual threads: concurrency is set by the in-flight limits, not a pool size.");
+   }
+
+   private static void runScenario(List<TaskClass> classes, boolean prioritized)
+   {
+      Workload interactive = new Workload(INTERACTIVE, prioritized ? INTERACTIVE : "shared");
+      Workload payments = new Workload(PAYMENTS, prioritized ? PAYMENTS : "shared");
+      Workload batch = new Workload(BATCH, prioritized ? BATCH : "shared");
+
+      PlaceOrderUseCase orders = ordersWithLatency(Duration.ofMillis(2));
+      AtomicLong paid = new AtomicLong();
+      AtomicLong traceIds = new AtomicLong();
+
+      List<ClassStats> stats;
+      try (TaskScheduler scheduler = new TaskScheduler(classes))
+      {
+         long end = System.nanoTime() + RUN_MILLIS * 1_000_000;
+
+         Thread interactiveLoad = paced("load-interactive", INTERACTIVE_PER_SECOND, end,
+               () -> interactive.submit(scheduler, () -> {
+                  Harness.sleep(1);
+                  return null;
+               }));
+         Thread paymentLoad = paced("load-payments", PAYMENTS_PER_SECOND, end,
+               () -> payments.submit(scheduler, () -> {
+                  RequestContext context = RequestContext.of(ORDER.customerId(), "trace-" + traceIds.incrementAndGet(), Duration.ofSeconds(5));
+                  if (RequestContext.callWith(context, () -> orders.handle(ORDER)).status() == OrderStatus.PAID)
+                  {
+                     paid.incrementAndGet();
+                  }
+                  return null;
+               }));
+         Thread batchLoad = Thread.ofPlatform().name("load-batch").start(() -> {
+            while (System.nanoTime() < end)
+            {
+               if (batch.waiting.get() >= BATCH_BACKLOG)
+               {
+                  LockSupport.parkNanos(100_000);
+                  continue;
+               }
+               batch.submit(scheduler, () -> {
+                  Harness.sleep(5);
+                  return null;
+               });
+            }
+         });
+
+         Harness.join(interactiveLoad, RUN_MILLIS + 10_000);
+         Harness.join(paymentLoad, RUN_MILLIS + 10_000);
+         Harness.join(batchLoad, RUN_MILLIS + 10_000);
+         stats = scheduler.stats(); // before close() drains the backlogs
+      }
+
+      for (Workload workload : List.of(interactive, payments, batch))
+      {
+         Output.println("  " + workload.summary());
+      }
+      Output.printf("  %-12s | orders paid=%d%n", "", paid.get());
+      if (prioritized)
+      {
+         Output.println("  scheduler stats at the end of the run:");
+         stats.forEach(s -> Output.println("    " + s.summary()));
+      }
+   }
+
+   /**
+    * Calls {@code submitOne} {@code perSecond} times per second until {@code end}, catching up after oversleeping.
+    */
+   private static Thread paced(String name, int perSecond, long end, Runnable submitOne)
+   {
+      long period = 1_000_000_000L / perSecond;
+      return Thread.ofPlatform().name(name).start(() -> {
+         long next = System.nanoTime();
+         for (long now = next; now < end; now = System.nanoTime())
+         {
+            while (next <= now)
+            {
+               submitOne.run();
+               next += period;
+            }
+            LockSupport.parkNanos(next - now);
+         }
+      });
+   }
+
+   private static PlaceOrderUseCase ordersWithLatency(Duration latency)
+   {
+      FakePaymentGateway fake = new FakePaymentGateway(5_000);
+      PaymentGateway slow = (customerId, amount, paymentToken) -> {
+         Harness.sleep(latency.toMillis());
+         return fake.charge(customerId, amount, paymentToken);
+      };
+      return new PlaceOrderUseCase(new InMemoryOrderRepository(), slow, new OrderPolicy());
+   }
+
+   // -------------------------------------------------
+   // One workload's view: its own start delays, whatever class it is scheduled under
+   // -------------------------------------------------
+
+   private static final class Workload
+   {
+      final String name;
+      final String taskClass;
+      final AtomicInteger waiting = new AtomicInteger();
+      final AtomicLong submitted = new AtomicLong();
+      final AtomicLong rejected = new AtomicLong();
+      private final LatencyHistogram startDelays = new LatencyHistogram(); // guarded by itself
+
+      Workload(String name, String taskClass)
+      {
+         this.name = name;
+         this.taskClass = taskClass;
+      }
+
+      void submit(TaskScheduler scheduler, Callable<Void> task)
+      {
+         long submittedAt = System.nanoTime();
+         waiting.incrementAndGet();
+         CompletableFuture<Void> future = scheduler.submit(taskClass, () -> {
+            long delay = System.nanoTime() - submittedAt;
+            waiting.decrementAndGet();
+            synchronized (startDelays)
+            {
+               startDelays.record(delay);
+            }
+            return task.call();
+         });
+         // Rejections complete the future before submit returns
+         if (future.isCompletedExceptionally())
+         {
+            waiting.decrementAndGet();
+            rejected.incrementAndGet();
+         }
+         else
+         {
+            submitted.incrementAndGet();
+         }
+      }
+
+      String summary()
+      {
+         synchronized (startDelays)
+         {
+            return String.format("%-12s | accepted=%7d | rejected=%6d | start delay p50=%9.1f us | p99=%9.1f us | max=%9.1f us",
+                  name, submitted.get(), rejected.get(),
+                  startDelays.percentile(50) / 1_000.0, startDelays.percentile(99) / 1_000.0, startDelays.max() / 1_000.0);
+         }
+      }
+   }
+}
@@ -1,6 +1,7 @@
 package playground.modern.concurrency;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.concurrency.util.Harness;
 
 import java.util.concurrent.CountDownLatch;
@@ -52,11 +53,12 @@ public class VisibilityBrokenDemo implements Demo
          if (ok) stopped++;
          else stuck++;
       }
-      System.out.println();
-      System.out.println("Summary:");
-      System.out.println("  stoppedWithinTimeout = " + stopped);
-      System.out.println("  stuckWithinTimeout   = " + stuck);
-      System.out.println("Note: If stuck==0 on your machine, re-run. JIT/CPU changes can affect the outcome.");
+      Output.println();
+      Output.println("Summary:");
+      Output.println("  stoppedWithinTimeout = " + stopped);
+      Output.println("  stuckWithinTimeout   = " + stuck);
+      Output.println("Note: If stuck==0 on your machine, re-run. JIT/CPU changes can affect the outcome.");
+      Output.println("Note: LitmusDemo runs the same question millions of times per second and histograms the outcomes.");
    }
 
    private boolean runOnce(int attempt) {
@@ -91,7 +93,7 @@ public class VisibilityBrokenDemo implements Demo
       // Join with timeout: if it doesn't stop, we consider it "stuck" for this attempt.
       boolean stopped = Harness.join(worker, SPIN_TIMEOUT_MS);
 
-      System.out.println("Attempt " + attempt + ": " + (stopped ? "STOPPED" : "STUCK (visibility issue)"));
+      Output.println("Attempt " + attempt + ": " + (stopped ? "STOPPED" : "STUCK (visibility issue)"));
 
       // Safety: if stuck, try to unblock (doesn't guarantee, but we already time-boxed)
       if (!stopped) {
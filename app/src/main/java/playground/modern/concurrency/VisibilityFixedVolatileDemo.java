@@ -1,6 +1,7 @@
 package playground.modern.concurrency;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.concurrency.util.Harness;
 
 import java.util.concurrent.CountDownLatch;
@@ -44,9 +45,9 @@ public class VisibilityFixedVolatileDemo implements Demo
          if (runOnce(i)) stopped++;
       }
 
-      System.out.println();
-      System.out.println("Summary:");
-      System.out.println("  stoppedWithinTimeout = " + stopped + " / " + ATTEMPTS);
+      Output.println();
+      Output.println("Summary:");
+      Output.println("  stoppedWithinTimeout = " + stopped + " / " + ATTEMPTS);
    }
 
    private boolean runOnce(int attempt) {
@@ -73,7 +74,7 @@ public class VisibilityFixedVolatileDemo implements Demo
       running = false;
 
       boolean stopped = Harness.join(worker, SPIN_TIMEOUT_MS);
-      System.out.println("Attempt " + attempt + ": " + (stopped ? "STOPPED" : "UNEXPECTEDLY STUCK"));
+      Output.println("Attempt " + attempt + ": " + (stopped ? "STOPPED" : "UNEXPECTEDLY STUCK"));
       return stopped;
    }
 }
@@ -0,0 +1,72 @@
+package playground.modern.concurrency.counters;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * A {@link StripedCounter} with a cached total for cheap, slightly stale reads.
+ * <p>
+ * {@link #getApproximate()} returns the last published sum and only re-sums the stripes when the cache
+ * is older than {@code maxStalenessNanos}; one reader refreshes while the others keep returning the
+ * cached value. {@link #get()} always sums the stripes (exact, O(stripes)).
+ */
+public final class ApproximateCounter implements Counter
+{
+   private final StripedCounter delegate;
+   private final long maxStalenessNanos;
+   private final AtomicBoolean refreshing = new AtomicBoolean();
+
+   private volatile long cachedValue;
+   private volatile long cachedAtNanos;
+
+   public ApproximateCounter()
+   {
+      this(new StripedCounter(), 1_000_000L);
+   }
+
+   public ApproximateCounter(StripedCounter delegate, long maxStalenessNanos)
+   {
+      if (maxStalenessNanos < 0) throw new IllegalArgumentException("maxStalenessNanos must be >= 0");
+      this.delegate = Objects.requireNonNull(delegate);
+      this.maxStalenessNanos = maxStalenessNanos;
+      this.cachedAtNanos = System.nanoTime();
+   }
+
+   @Override
+   public void inc()
+   {
+      delegate.inc();
+   }
+
+   @Override
+   public void add(long delta)
+   {
+      delegate.add(delta);
+   }
+
+   @Override
+   public long get()
+   {
+      return delegate.get();
+   }
+
+   @Override
+   public long getApproximate()
+   {
+      long now = System.nanoTime();
+      if (now - cachedAtNanos > maxStalenessNanos && refreshing.compareAndSet(false, true))
+      {
+         try
+         {
+            cachedValue = delegate.get();
+            cachedAtNanos = now;
+         }
+         finally
+         {
+            refreshing.set(false);
+         }
+      }
+      return cachedValue;
+   }
+}
@@ -0,0 +1,16 @@
+package playground.modern.concurrency.counters;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Single CAS/XADD target: lock-free and cheap to read, but one contended cache line under heavy writes.
+ */
+public final class AtomicLongCounter implements Counter
+{
+   private final AtomicLong value = new AtomicLong();
+
+   @Override public void inc() { value.incrementAndGet(); }
+   @Override public void add(long delta) { value.addAndGet(delta); }
+   @Override public long get() { return value.get(); }
+}
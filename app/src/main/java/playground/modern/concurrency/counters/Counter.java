@@ -0,0 +1,27 @@
+package playground.modern.concurrency.counters;
+
+
+/**
+ * A thread-safe monotonic counter. Implementations trade write scalability against read cost,
+ * so pick one per metric based on how hot its writes and reads are (see {@link CounterKind}).
+ */
+public interface Counter
+{
+   void inc();
+
+   void add(long delta);
+
+   /**
+    * Returns the exact value: every increment that happened-before this call is included.
+    */
+   long get();
+
+   /**
+    * Returns a possibly stale value that is cheaper to read than {@link #get()}.
+    * Defaults to the exact read for implementations where that is already cheap.
+    */
+   default long getApproximate()
+   {
+      return get();
+   }
+}
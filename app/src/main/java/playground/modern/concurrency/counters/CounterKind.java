@@ -0,0 +1,29 @@
+package playground.modern.concurrency.counters;
+
+import java.util.function.Supplier;
+
+
+/**
+ * The available {@link Counter} implementations, roughly ordered from cheapest read to most scalable write.
+ */
+public enum CounterKind
+{
+   SYNCHRONIZED(SynchronizedCounter::new),
+   ATOMIC_LONG(AtomicLongCounter::new),
+   VAR_HANDLE(VarHandleCounter::new),
+   LONG_ADDER(LongAdderCounter::new),
+   STRIPED(StripedCounter::new),
+   APPROXIMATE(ApproximateCounter::new);
+
+   private final Supplier<Counter> factory;
+
+   CounterKind(Supplier<Counter> factory)
+   {
+      this.factory = factory;
+   }
+
+   public Counter create()
+   {
+      return factory.get();
+   }
+}
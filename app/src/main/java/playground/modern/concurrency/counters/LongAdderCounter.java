@@ -0,0 +1,16 @@
+package playground.modern.concurrency.counters;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * JDK striped adder: cells are added lazily under contention, reads sum all cells.
+ */
+public final class LongAdderCounter implements Counter
+{
+   private final LongAdder adder = new LongAdder();
+
+   @Override public void inc() { adder.increment(); }
+   @Override public void add(long delta) { adder.add(delta); }
+   @Override public long get() { return adder.sum(); }
+}
@@ -0,0 +1,63 @@
+package playground.modern.concurrency.counters;
+
+import playground.modern.concurrency.slots.LongSlots;
+import playground.modern.concurrency.slots.SlotLayout;
+
+
+/**
+ * Fixed set of cache-line-padded stripes, selected by a hash of the current thread id.
+ * <p>
+ * Unlike {@code LongAdder}, all stripes exist up front and each one sits on its own 128-byte block
+ * ({@link SlotLayout#PADDED}), so writers from different threads never share a line. Threads that hash
+ * to the same stripe still stay correct via an atomic add. Reads sum every stripe, so they cost O(stripes).
+ */
+public final class StripedCounter implements Counter
+{
+   private final LongSlots stripes;
+   private final int mask;
+
+   public StripedCounter()
+   {
+      this(Runtime.getRuntime().availableProcessors() * 2);
+   }
+
+   public StripedCounter(int minStripes)
+   {
+      if (minStripes <= 0) throw new IllegalArgumentException("minStripes must be > 0");
+      int stripes = Integer.highestOneBit(minStripes - 1) << 1;
+      stripes = Math.max(1, stripes);
+      this.mask = stripes - 1;
+      this.stripes = new LongSlots(stripes, SlotLayout.PADDED);
+   }
+
+   @Override
+   public void inc()
+   {
+      add(1L);
+   }
+
+   @Override
+   public void add(long delta)
+   {
+      stripes.add(stripe(), delta);
+   }
+
+   @Override
+   public long get()
+   {
+      return stripes.sum();
+   }
+
+   public int stripes()
+   {
+      return mask + 1;
+   }
+
+   private int stripe()
+   {
+      long id = Thread.currentThread().threadId();
+      // Fibonacci hashing spreads sequential thread ids across stripes
+      int h = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+      return h & mask;
+   }
+}
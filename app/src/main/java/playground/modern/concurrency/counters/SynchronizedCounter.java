@@ -0,0 +1,14 @@
+package playground.modern.concurrency.counters;
+
+
+/**
+ * Monitor-guarded counter: correct and simple, but every writer serializes on one lock.
+ */
+public final class SynchronizedCounter implements Counter
+{
+   private long value;
+
+   @Override public synchronized void inc() { value++; }
+   @Override public synchronized void add(long delta) { value += delta; }
+   @Override public synchronized long get() { return value; }
+}
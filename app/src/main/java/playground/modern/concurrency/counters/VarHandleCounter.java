@@ -0,0 +1,57 @@
+package playground.modern.concurrency.counters;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+/**
+ * Single-field counter driven through a {@link VarHandle} with the weakest modes Java offers.
+ * <p>
+ * Writes use {@code getAndAddRelease}: there is no plain/opaque read-modify-write in Java, and release
+ * is the weakest atomic add (on x86 it compiles to the same {@code lock xadd}; on ARM it drops the
+ * acquire half). {@link #getApproximate()} is an opaque read (no ordering, just eventually visible);
+ * {@link #get()} is an acquire read.
+ */
+public final class VarHandleCounter implements Counter
+{
+   private static final VarHandle VALUE;
+
+   static
+   {
+      try
+      {
+         VALUE = MethodHandles.lookup().findVarHandle(VarHandleCounter.class, "value", long.class);
+      }
+      catch (ReflectiveOperationException e)
+      {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   @SuppressWarnings("unused") // accessed through VALUE
+   private long value;
+
+   @Override
+   public void inc()
+   {
+      VALUE.getAndAddRelease(this, 1L);
+   }
+
+   @Override
+   public void add(long delta)
+   {
+      VALUE.getAndAddRelease(this, delta);
+   }
+
+   @Override
+   public long get()
+   {
+      return (long) VALUE.getAcquire(this);
+   }
+
+   @Override
+   public long getApproximate()
+   {
+      return (long) VALUE.getOpaque(this);
+   }
+}
@@ -0,0 +1,23 @@
+package playground.modern.concurrency.litmus;
+
+
+/**
+ * How the shared variables of a litmus test are accessed.
+ */
+public enum AccessMode
+{
+   /** Plain fields: no ordering or visibility guarantees between threads (the broken demo). */
+   PLAIN,
+
+   /** {@code volatile} fields: sequentially consistent for data-race-free programs. */
+   VOLATILE,
+
+   /** Each actor's accesses inside {@code synchronized} on one shared monitor. */
+   SYNCHRONIZED,
+
+   /** {@code VarHandle.setRelease}/{@code getAcquire}: orders the accesses around them, but is not SC. */
+   RELEASE_ACQUIRE,
+
+   /** {@code VarHandle.setOpaque}/{@code getOpaque}: per-variable coherence only, no ordering with other variables. */
+   OPAQUE
+}
@@ -0,0 +1,17 @@
+package playground.modern.concurrency.litmus;
+
+
+/**
+ * How the Java Memory Model classifies one outcome of a litmus test in a given {@link AccessMode}.
+ */
+public enum Expectation
+{
+   /** Explained by some interleaving of the two actors. */
+   ACCEPTABLE,
+
+   /** Allowed by the JMM for this mode, but only through reordering; seeing it proves the reordering is real. */
+   INTERESTING,
+
+   /** Not allowed by the JMM for this mode; seeing it is a bug in the JVM or in the test. */
+   FORBIDDEN
+}
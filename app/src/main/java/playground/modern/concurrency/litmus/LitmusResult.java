@@ -0,0 +1,50 @@
+package playground.modern.concurrency.litmus;
+
+import java.time.Duration;
+
+
+/**
+ * Outcome histogram of one {@link LitmusRunner} run.
+ */
+public record LitmusResult(String test, AccessMode mode, String[] outcomes, Expectation[] expectations,
+                           long[] counts, Duration elapsed)
+{
+   public LitmusResult
+   {
+      outcomes = outcomes.clone();
+      expectations = expectations.clone();
+      counts = counts.clone();
+   }
+
+   @Override public String[] outcomes() { return outcomes.clone(); }
+   @Override public Expectation[] expectations() { return expectations.clone(); }
+   @Override public long[] counts() { return counts.clone(); }
+
+   public long samples()
+   {
+      long total = 0;
+      for (long c : counts)
+      {
+         total += c;
+      }
+      return total;
+   }
+
+   public double samplesPerSecond()
+   {
+      return samples() / (elapsed.toNanos() / 1e9);
+   }
+
+   public long count(Expectation expectation)
+   {
+      long total = 0;
+      for (int i = 0; i < counts.length; i++)
+      {
+         if (expectations[i] == expectation)
+         {
+            total += counts[i];
+         }
+      }
+      return total;
+   }
+}
@@ -0,0 +1,164 @@
+package playground.modern.concurrency.litmus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Runs a {@link LitmusTest} on pairs of long-lived threads for a fixed duration and histograms the outcomes.
+ * <p>
+ * Each pair owns an array of {@code batchSize} states. Per round, both threads cross a {@link SpinBarrier},
+ * run their actor over the whole array (actor1 on one thread, actor2 on the other), and cross it again;
+ * the second thread then tallies and resets the states. Batching amortizes the barrier, so a pair
+ * produces millions of samples per second, and the two threads drifting slightly against each other
+ * across the array is what exposes different interleavings.
+ * <p>
+ * Java cannot pin threads to CPUs, so "pinned in pairs" here means each pair is a dedicated pair of
+ * platform threads that lives for the whole run (never recreated), and the number of pairs defaults
+ * to half the available processors so every actor can have a core to itself.
+ */
+public final class LitmusRunner
+{
+   private final int pairs;
+   private final int batchSize;
+
+   public LitmusRunner()
+   {
+      this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 1024);
+   }
+
+   public LitmusRunner(int pairs, int batchSize)
+   {
+      if (pairs <= 0) throw new IllegalArgumentException("pairs must be > 0");
+      if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+      this.pairs = pairs;
+      this.batchSize = batchSize;
+   }
+
+   public <S> LitmusResult run(LitmusTest<S> test, Duration duration)
+   {
+      Objects.requireNonNull(test);
+      Objects.requireNonNull(duration);
+
+      int outcomeCount = test.outcomes().length;
+      long deadline = System.nanoTime() + duration.toNanos();
+      List<Pair<S>> running = new ArrayList<>(pairs);
+      long t0 = System.nanoTime();
+      for (int p = 0; p < pairs; p++)
+      {
+         Pair<S> pair = new Pair<>(test, batchSize, outcomeCount, deadline);
+         pair.start(test.name() + "-" + test.mode() + "-" + p);
+         running.add(pair);
+      }
+
+      long[] counts = new long[outcomeCount];
+      for (Pair<S> pair : running)
+      {
+         pair.join();
+         for (int i = 0; i < outcomeCount; i++)
+         {
+            counts[i] += pair.counts[i];
+         }
+      }
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - t0);
+
+      Expectation[] expectations = new Expectation[outcomeCount];
+      for (int i = 0; i < outcomeCount; i++)
+      {
+         expectations[i] = test.expectation(i);
+      }
+      return new LitmusResult(test.name(), test.mode(), test.outcomes(), expectations, counts, elapsed);
+   }
+
+   private static final class Pair<S>
+   {
+      private final LitmusTest<S> test;
+      private final S[] states;
+      private final long[] counts;
+      private final long deadline;
+      private final SpinBarrier barrier = new SpinBarrier(2);
+      private boolean stop; // written by the tallying thread before a barrier, read by the other after it
+
+      private Thread first;
+      private Thread second;
+
+      @SuppressWarnings("unchecked")
+      Pair(LitmusTest<S> test, int batchSize, int outcomeCount, long deadline)
+      {
+         this.test = test;
+         this.states = (S[]) new Object[batchSize];
+         for (int i = 0; i < batchSize; i++)
+         {
+            states[i] = test.newState();
+         }
+         this.counts = new long[outcomeCount];
+         this.deadline = deadline;
+      }
+
+      void start(String name)
+      {
+         first = new Thread(this::runActor1, name + "-actor1");
+         second = new Thread(this::runActor2AndTally, name + "-actor2");
+         first.setDaemon(true);
+         second.setDaemon(true);
+         first.start();
+         second.start();
+      }
+
+      void join()
+      {
+         try
+         {
+            first.join();
+            second.join();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+         }
+      }
+
+      private void runActor1()
+      {
+         while (true)
+         {
+            barrier.await();
+            if (stop)
+            {
+               return;
+            }
+            for (S state : states)
+            {
+               test.actor1(state);
+            }
+            barrier.await();
+         }
+      }
+
+      private void runActor2AndTally()
+      {
+         while (true)
+         {
+            stop = System.nanoTime() >= deadline;
+            barrier.await();
+            if (stop)
+            {
+               return;
+            }
+            for (S state : states)
+            {
+               test.actor2(state);
+            }
+            barrier.await();
+
+            for (S state : states)
+            {
+               counts[test.outcome(state)]++;
+               test.reset(state);
+            }
+         }
+      }
+   }
+}
@@ -0,0 +1,39 @@
+package playground.modern.concurrency.litmus;
+
+
+/**
+ * A two-thread litmus test over a small state object.
+ * <p>
+ * {@link LitmusRunner} calls {@link #actor1} and {@link #actor2} on the same state from two threads
+ * at (roughly) the same time; the actors store what they read into the state, and {@link #outcome}
+ * folds that into an index into {@link #outcomes()}.
+ */
+public interface LitmusTest<S>
+{
+   String name();
+
+   AccessMode mode();
+
+   S newState();
+
+   /**
+    * Makes {@code state} ready for another round (called between rounds, never concurrently with the actors).
+    */
+   void reset(S state);
+
+   void actor1(S state);
+
+   void actor2(S state);
+
+   /**
+    * Index of the observed outcome, in {@code [0, outcomes().length)}.
+    */
+   int outcome(S state);
+
+   /**
+    * Human-readable label of every possible outcome.
+    */
+   String[] outcomes();
+
+   Expectation expectation(int outcome);
+}
@@ -0,0 +1,77 @@
+package playground.modern.concurrency.litmus;
+
+import java.util.Objects;
+
+
+/**
+ * Message passing: actor1 writes the data, then the flag; actor2 reads the flag, then the data.
+ * <pre>
+ *   actor1: x = 1; y = 1;        actor2: r1 = y; r2 = x;
+ * </pre>
+ * {@code r1 == 1, r2 == 0} means the reader saw the flag but not the data it guards: the bug behind
+ * the visibility demos. Volatile, synchronized and release/acquire forbid it; plain and opaque allow it.
+ */
+public final class MessagePassing implements LitmusTest<PairState>
+{
+   private static final String[] OUTCOMES = { "r1=0, r2=0", "r1=0, r2=1", "r1=1, r2=0", "r1=1, r2=1" };
+   private static final int FLAG_WITHOUT_DATA = 2;
+
+   private final AccessMode mode;
+
+   public MessagePassing(AccessMode mode)
+   {
+      this.mode = Objects.requireNonNull(mode);
+   }
+
+   @Override public String name() { return "MessagePassing"; }
+   @Override public AccessMode mode() { return mode; }
+   @Override public PairState newState() { return new PairState(); }
+   @Override public void reset(PairState s) { s.reset(); }
+   @Override public String[] outcomes() { return OUTCOMES.clone(); }
+
+   @Override
+   public void actor1(PairState s)
+   {
+      switch (mode)
+      {
+         case PLAIN -> { s.x = 1; s.y = 1; }
+         case VOLATILE -> { s.vx = 1; s.vy = 1; }
+         case SYNCHRONIZED -> { synchronized (s) { s.x = 1; s.y = 1; } }
+         case RELEASE_ACQUIRE -> { PairState.X.set(s, 1); PairState.Y.setRelease(s, 1); }
+         case OPAQUE -> { PairState.X.setOpaque(s, 1); PairState.Y.setOpaque(s, 1); }
+      }
+   }
+
+   @Override
+   public void actor2(PairState s)
+   {
+      switch (mode)
+      {
+         case PLAIN -> { s.r1 = s.y; s.r2 = s.x; }
+         case VOLATILE -> { s.r1 = s.vy; s.r2 = s.vx; }
+         case SYNCHRONIZED -> { synchronized (s) { s.r1 = s.y; s.r2 = s.x; } }
+         case RELEASE_ACQUIRE -> { s.r1 = (int) PairState.Y.getAcquire(s); s.r2 = (int) PairState.X.get(s); }
+         case OPAQUE -> { s.r1 = (int) PairState.Y.getOpaque(s); s.r2 = (int) PairState.X.getOpaque(s); }
+      }
+   }
+
+   @Override
+   public int outcome(PairState s)
+   {
+      return s.r1 * 2 + s.r2;
+   }
+
+   @Override
+   public Expectation expectation(int outcome)
+   {
+      if (outcome != FLAG_WITHOUT_DATA)
+      {
+         return Expectation.ACCEPTABLE;
+      }
+      return switch (mode)
+      {
+         case PLAIN, OPAQUE -> Expectation.INTERESTING;
+         case VOLATILE, SYNCHRONIZED, RELEASE_ACQUIRE -> Expectation.FORBIDDEN;
+      };
+   }
+}
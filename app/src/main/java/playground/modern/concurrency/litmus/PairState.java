@@ -0,0 +1,47 @@
+package playground.modern.concurrency.litmus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+/**
+ * Shared variables {@code x}, {@code y} and result registers {@code r1}, {@code r2} of the
+ * built-in tests. {@code x}/{@code y} are plain fields reached through VarHandles for the
+ * release/acquire and opaque modes; {@code vx}/{@code vy} are their volatile twins.
+ */
+public final class PairState
+{
+   static final VarHandle X;
+   static final VarHandle Y;
+
+   static
+   {
+      try
+      {
+         MethodHandles.Lookup lookup = MethodHandles.lookup();
+         X = lookup.findVarHandle(PairState.class, "x", int.class);
+         Y = lookup.findVarHandle(PairState.class, "y", int.class);
+      }
+      catch (ReflectiveOperationException e)
+      {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   int x;
+   int y;
+   volatile int vx;
+   volatile int vy;
+   int r1;
+   int r2;
+
+   void reset()
+   {
+      x = 0;
+      y = 0;
+      vx = 0;
+      vy = 0;
+      r1 = 0;
+      r2 = 0;
+   }
+}
@@ -0,0 +1,47 @@
+package playground.modern.concurrency.litmus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Reusable barrier for a fixed number of threads that spins instead of parking, so crossing it costs
+ * well under a microsecond when every party has its own CPU. Falls back to {@link Thread#yield()}
+ * after a while so an oversubscribed machine still makes progress.
+ */
+final class SpinBarrier
+{
+   private static final int SPINS_BEFORE_YIELD = 1 << 10;
+
+   private final int parties;
+   private final AtomicInteger arrived = new AtomicInteger();
+   private volatile int generation;
+
+   SpinBarrier(int parties)
+   {
+      this.parties = parties;
+   }
+
+   void await()
+   {
+      int gen = generation;
+      if (arrived.incrementAndGet() == parties)
+      {
+         // reset before opening: nobody can arrive for the next round until they see the new generation
+         arrived.set(0);
+         generation = gen + 1;
+         return;
+      }
+      int spins = 0;
+      while (generation == gen)
+      {
+         if (++spins < SPINS_BEFORE_YIELD)
+         {
+            Thread.onSpinWait();
+         }
+         else
+         {
+            Thread.yield();
+         }
+      }
+   }
+}
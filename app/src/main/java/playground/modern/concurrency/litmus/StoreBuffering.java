@@ -0,0 +1,78 @@
+package playground.modern.concurrency.litmus;
+
+import java.util.Objects;
+
+
+/**
+ * Store buffering (Dekker): each actor writes its own variable, then reads the other's.
+ * <pre>
+ *   actor1: x = 1; r1 = y;       actor2: y = 1; r2 = x;
+ * </pre>
+ * {@code r1 == 0, r2 == 0} means both reads overtook the other thread's write. Even x86 does this
+ * (stores sit in a store buffer), so it shows up for plain, release/acquire and opaque; only
+ * sequentially consistent modes (volatile, synchronized) forbid it.
+ */
+public final class StoreBuffering implements LitmusTest<PairState>
+{
+   private static final String[] OUTCOMES = { "r1=0, r2=0", "r1=0, r2=1", "r1=1, r2=0", "r1=1, r2=1" };
+   private static final int BOTH_STALE = 0;
+
+   private final AccessMode mode;
+
+   public StoreBuffering(AccessMode mode)
+   {
+      this.mode = Objects.requireNonNull(mode);
+   }
+
+   @Override public String name() { return "StoreBuffering"; }
+   @Override public AccessMode mode() { return mode; }
+   @Override public PairState newState() { return new PairState(); }
+   @Override public void reset(PairState s) { s.reset(); }
+   @Override public String[] outcomes() { return OUTCOMES.clone(); }
+
+   @Override
+   public void actor1(PairState s)
+   {
+      switch (mode)
+      {
+         case PLAIN -> { s.x = 1; s.r1 = s.y; }
+         case VOLATILE -> { s.vx = 1; s.r1 = s.vy; }
+         case SYNCHRONIZED -> { synchronized (s) { s.x = 1; s.r1 = s.y; } }
+         case RELEASE_ACQUIRE -> { PairState.X.setRelease(s, 1); s.r1 = (int) PairState.Y.getAcquire(s); }
+         case OPAQUE -> { PairState.X.setOpaque(s, 1); s.r1 = (int) PairState.Y.getOpaque(s); }
+      }
+   }
+
+   @Override
+   public void actor2(PairState s)
+   {
+      switch (mode)
+      {
+         case PLAIN -> { s.y = 1; s.r2 = s.x; }
+         case VOLATILE -> { s.vy = 1; s.r2 = s.vx; }
+         case SYNCHRONIZED -> { synchronized (s) { s.y = 1; s.r2 = s.x; } }
+         case RELEASE_ACQUIRE -> { PairState.Y.setRelease(s, 1); s.r2 = (int) PairState.X.getAcquire(s); }
+         case OPAQUE -> { PairState.Y.setOpaque(s, 1); s.r2 = (int) PairState.X.getOpaque(s); }
+      }
+   }
+
+   @Override
+   public int outcome(PairState s)
+   {
+      return s.r1 * 2 + s.r2;
+   }
+
+   @Override
+   public Expectation expectation(int outcome)
+   {
+      if (outcome != BOTH_STALE)
+      {
+         return Expectation.ACCEPTABLE;
+      }
+      return switch (mode)
+      {
+         case PLAIN, RELEASE_ACQUIRE, OPAQUE -> Expectation.INTERESTING;
+         case VOLATILE, SYNCHRONIZED -> Expectation.FORBIDDEN;
+      };
+   }
+}
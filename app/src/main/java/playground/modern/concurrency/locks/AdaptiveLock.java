@@ -0,0 +1,249 @@
+package playground.modern.concurrency.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+
+/**
+ * Non-reentrant mutual-exclusion lock that escalates spin -> {@code onSpinWait} -> park, with the
+ * spin budgets tuned at runtime from observed hold times.
+ * <p>
+ * - short critical sections: a waiter usually gets the lock while still spinning, avoiding the
+ *   several-microsecond park/unpark round trip
+ * - long critical sections: spinning only burns CPU, so the budgets shrink and waiters park quickly
+ * <p>
+ * Every {@value #SAMPLE_EVERY}th acquisition measures its hold time; an exponential moving average of
+ * those samples sets the budgets. Queueing and parking are delegated to {@link AbstractQueuedSynchronizer}.
+ * The lock is non-fair (a spinning thread may barge ahead of parked ones). On a single CPU it never spins.
+ */
+public final class AdaptiveLock implements Lock
+{
+   static final int SAMPLE_EVERY = 16;
+
+   private static final boolean MULTI_CORE = Runtime.getRuntime().availableProcessors() > 1;
+   private static final long PARK_COST_NANOS = 10_000;   // rough park + unpark + reschedule cost
+   private static final long NANOS_PER_SPIN = 2;         // one failed state read in the busy loop
+   private static final long NANOS_PER_SPIN_WAIT = 40;   // one PAUSE-style Thread.onSpinWait()
+   private static final int MIN_SPINS = 16;
+   private static final int MAX_SPINS = 1 << 10;
+   private static final int MIN_SPIN_WAITS = 8;
+   private static final int MAX_SPIN_WAITS = 1 << 8;
+
+   private final Sync sync = new Sync();
+
+   private final LongAdder uncontended = new LongAdder();
+   private final LongAdder acquiredSpinning = new LongAdder();
+   private final LongAdder acquiredSpinWait = new LongAdder();
+   private final LongAdder parked = new LongAdder();
+
+   private volatile int spinLimit = MULTI_CORE ? 64 : 0;
+   private volatile int spinWaitLimit = MULTI_CORE ? 64 : 0;
+
+   // owner-only state: written while holding the lock, so plain fields are enough
+   private int sampleCountdown = SAMPLE_EVERY;
+   private long lockedAtNanos;
+   private long averageHoldNanos;
+
+   @Override
+   public void lock()
+   {
+      if (sync.tryAcquire(1))
+      {
+         uncontended.increment();
+      }
+      else if (!spinThenAcquire())
+      {
+         sync.acquire(1);
+         parked.increment();
+      }
+      onAcquired();
+   }
+
+   @Override
+   public void lockInterruptibly() throws InterruptedException
+   {
+      if (Thread.interrupted()) throw new InterruptedException();
+      if (sync.tryAcquire(1))
+      {
+         uncontended.increment();
+      }
+      else if (!spinThenAcquire())
+      {
+         sync.acquireInterruptibly(1);
+         parked.increment();
+      }
+      onAcquired();
+   }
+
+   @Override
+   public boolean tryLock()
+   {
+      if (!sync.tryAcquire(1))
+      {
+         return false;
+      }
+      uncontended.increment();
+      onAcquired();
+      return true;
+   }
+
+   @Override
+   public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+   {
+      if (Thread.interrupted()) throw new InterruptedException();
+      if (sync.tryAcquire(1))
+      {
+         uncontended.increment();
+      }
+      else if (!spinThenAcquire())
+      {
+         if (!sync.tryAcquireNanos(1, unit.toNanos(time)))
+         {
+            return false;
+         }
+         parked.increment();
+      }
+      onAcquired();
+      return true;
+   }
+
+   @Override
+   public void unlock()
+   {
+      if (!sync.isHeldExclusively()) throw new IllegalMonitorStateException();
+      long at = lockedAtNanos;
+      if (at != 0)
+      {
+         lockedAtNanos = 0;
+         retune(System.nanoTime() - at);
+      }
+      sync.release(1);
+   }
+
+   /**
+    * Condition bound to this lock. Time spent in {@code await} counts towards the sampled hold time
+    * if it happens to be a sampled acquisition.
+    */
+   @Override
+   public Condition newCondition()
+   {
+      return sync.newCondition();
+   }
+
+   public boolean isLocked()
+   {
+      return sync.isLocked();
+   }
+
+   public LockMetrics metrics()
+   {
+      return new LockMetrics(uncontended.sum(), acquiredSpinning.sum(), acquiredSpinWait.sum(), parked.sum(),
+            averageHoldNanos, spinLimit, spinWaitLimit);
+   }
+
+   private boolean spinThenAcquire()
+   {
+      int spins = spinLimit;
+      for (int i = 0; i < spins; i++)
+      {
+         if (!sync.isLocked() && sync.tryAcquire(1))
+         {
+            acquiredSpinning.increment();
+            return true;
+         }
+      }
+      int waits = spinWaitLimit;
+      for (int i = 0; i < waits; i++)
+      {
+         Thread.onSpinWait();
+         if (!sync.isLocked() && sync.tryAcquire(1))
+         {
+            acquiredSpinWait.increment();
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private void onAcquired()
+   {
+      if (--sampleCountdown <= 0)
+      {
+         sampleCountdown = SAMPLE_EVERY;
+         lockedAtNanos = System.nanoTime();
+      }
+   }
+
+   private void retune(long heldNanos)
+   {
+      long average = averageHoldNanos == 0 ? heldNanos : averageHoldNanos + ((heldNanos - averageHoldNanos) >> 3);
+      averageHoldNanos = average;
+      if (!MULTI_CORE)
+      {
+         return;
+      }
+
+      int spins;
+      int waits;
+      if (average > PARK_COST_NANOS)
+      {
+         // waiting out the holder costs more than parking: try briefly, then park
+         spins = MIN_SPINS;
+         waits = 0;
+      }
+      else
+      {
+         spins = clamp(average / NANOS_PER_SPIN, MIN_SPINS, MAX_SPINS);
+         waits = clamp(2 * average / NANOS_PER_SPIN_WAIT, MIN_SPIN_WAITS, MAX_SPIN_WAITS);
+      }
+      if (spins != spinLimit) spinLimit = spins;
+      if (waits != spinWaitLimit) spinWaitLimit = waits;
+   }
+
+   private static int clamp(long value, int min, int max)
+   {
+      return (int) Math.max(min, Math.min(max, value));
+   }
+
+   private static final class Sync extends AbstractQueuedSynchronizer
+   {
+      @Override
+      protected boolean tryAcquire(int arg)
+      {
+         if (compareAndSetState(0, 1))
+         {
+            setExclusiveOwnerThread(Thread.currentThread());
+            return true;
+         }
+         return false;
+      }
+
+      @Override
+      protected boolean tryRelease(int arg)
+      {
+         if (getExclusiveOwnerThread() != Thread.currentThread()) throw new IllegalMonitorStateException();
+         setExclusiveOwnerThread(null);
+         setState(0);
+         return true;
+      }
+
+      @Override
+      protected boolean isHeldExclusively()
+      {
+         return getExclusiveOwnerThread() == Thread.currentThread();
+      }
+
+      boolean isLocked()
+      {
+         return getState() != 0;
+      }
+
+      Condition newCondition()
+      {
+         return new ConditionObject();
+      }
+   }
+}
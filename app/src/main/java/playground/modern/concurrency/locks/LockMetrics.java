@@ -0,0 +1,44 @@
+package playground.modern.concurrency.locks;
+
+
+/**
+ * Snapshot of an {@link AdaptiveLock}'s counters, split by how each acquisition succeeded.
+ *
+ * @param uncontended       acquired on the first attempt
+ * @param acquiredSpinning  acquired during the busy-spin phase
+ * @param acquiredSpinWait  acquired during the {@code Thread.onSpinWait()} phase
+ * @param parked            had to queue and park
+ * @param averageHoldNanos  moving average of sampled hold times
+ * @param spinLimit         current busy-spin budget (iterations)
+ * @param spinWaitLimit     current {@code onSpinWait} budget (iterations)
+ */
+public record LockMetrics(
+      long uncontended,
+      long acquiredSpinning,
+      long acquiredSpinWait,
+      long parked,
+      long averageHoldNanos,
+      int spinLimit,
+      int spinWaitLimit)
+{
+   public long acquisitions()
+   {
+      return uncontended + acquiredSpinning + acquiredSpinWait + parked;
+   }
+
+   /**
+    * Fraction of acquisitions that found the lock held.
+    */
+   public double contentionRate()
+   {
+      long total = acquisitions();
+      return total == 0 ? 0 : (double) (total - uncontended) / total;
+   }
+
+   @Override
+   public String toString()
+   {
+      return String.format("acq=%d uncontended=%d spin=%d spinWait=%d parked=%d hold~%dns limits=%d/%d",
+            acquisitions(), uncontended, acquiredSpinning, acquiredSpinWait, parked, averageHoldNanos, spinLimit, spinWaitLimit);
+   }
+}
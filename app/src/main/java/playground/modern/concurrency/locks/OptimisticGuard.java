@@ -0,0 +1,128 @@
+package playground.modern.concurrency.locks;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * Guards read-mostly state with a {@link StampedLock}: reads first run optimistically (no write to
+ * shared memory at all) and only take the read lock if a writer intervened. Successful optimistic reads
+ * are therefore not counted here; {@link Metrics} takes the caller's read count to derive them.
+ * <p>
+ * Because an optimistic reader can observe a half-done write, readers must only read fields into
+ * locals, never act on what they read before returning, and tolerate garbage values (e.g. index
+ * bounds). An exception thrown from an invalidated optimistic attempt is swallowed and the read
+ * is retried under the read lock.
+ */
+public final class OptimisticGuard
+{
+   private final StampedLock lock = new StampedLock();
+   private final LongAdder lockedReads = new LongAdder();
+   private final LongAdder writes = new LongAdder();
+
+   /**
+    * Snapshot of the slow paths; both are counted under a lock that is written anyway.
+    *
+    * @param lockedReads reads that fell back to the read lock
+    * @param writes      completed writes
+    */
+   public record Metrics(long lockedReads, long writes)
+   {
+      /**
+       * Reads that validated without locking, out of {@code reads} reads in total.
+       */
+      public long optimisticReads(long reads)
+      {
+         return reads - lockedReads;
+      }
+
+      public double fallbackRate(long reads)
+      {
+         return reads == 0 ? 0 : (double) lockedReads / reads;
+      }
+   }
+
+   public <R> R read(Supplier<R> reader)
+   {
+      long stamp = lock.tryOptimisticRead();
+      if (stamp != 0)
+      {
+         try
+         {
+            R result = reader.get();
+            if (lock.validate(stamp))
+            {
+               return result;
+            }
+         }
+         catch (RuntimeException e)
+         {
+            if (lock.validate(stamp)) throw e; // a real failure, not a torn read
+         }
+      }
+      stamp = lock.readLock();
+      try
+      {
+         lockedReads.increment();
+         return reader.get();
+      }
+      finally
+      {
+         lock.unlockRead(stamp);
+      }
+   }
+
+   /**
+    * {@link #read} without boxing, for numeric reads on hot paths.
+    */
+   public long readLong(LongSupplier reader)
+   {
+      long stamp = lock.tryOptimisticRead();
+      if (stamp != 0)
+      {
+         try
+         {
+            long result = reader.getAsLong();
+            if (lock.validate(stamp))
+            {
+               return result;
+            }
+         }
+         catch (RuntimeException e)
+         {
+            if (lock.validate(stamp)) throw e;
+         }
+      }
+      stamp = lock.readLock();
+      try
+      {
+         lockedReads.increment();
+         return reader.getAsLong();
+      }
+      finally
+      {
+         lock.unlockRead(stamp);
+      }
+   }
+
+   public void write(Runnable writer)
+   {
+      long stamp = lock.writeLock();
+      try
+      {
+         writer.run();
+         writes.increment();
+      }
+      finally
+      {
+         lock.unlockWrite(stamp);
+      }
+   }
+
+   public Metrics metrics()
+   {
+      return new Metrics(lockedReads.sum(), writes.sum());
+   }
+}
@@ -0,0 +1,148 @@
+package playground.modern.concurrency.queues;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * Multi-producer / single-consumer ring buffer.
+ * <p>
+ * Any number of threads may offer; exactly one thread may poll/drain. Producers claim slots with a CAS
+ * on the producer index and then publish the element with a release store into the slot, so the
+ * consumer treats a {@code null} slot below the producer index as "claimed but not yet written".
+ * Producers share a cached limit ({@code consumerIndex + capacity}) and only read the consumer's
+ * index when that limit is reached.
+ */
+public final class MpscRingBuffer<E> extends RingBufferFields<E>
+{
+   public MpscRingBuffer(int capacity)
+   {
+      super(capacity);
+   }
+
+   @Override
+   public boolean offer(E e)
+   {
+      Objects.requireNonNull(e);
+      long producer;
+      do
+      {
+         producer = (long) PRODUCER_INDEX.getVolatile(this);
+         if (producer >= (long) PRODUCER_LIMIT.getAcquire(this) && !refreshProducerLimit(producer + 1))
+         {
+            return false;
+         }
+      }
+      while (!PRODUCER_INDEX.compareAndSet(this, producer, producer + 1));
+
+      ELEMENTS.setRelease(buffer, slot(producer), e);
+      return true;
+   }
+
+   @Override
+   public int offerAll(E[] items, int from, int to)
+   {
+      Objects.checkFromToIndex(from, to, items.length);
+      for (int i = from; i < to; i++)
+      {
+         Objects.requireNonNull(items[i]);
+      }
+
+      long producer;
+      int n;
+      do
+      {
+         producer = (long) PRODUCER_INDEX.getVolatile(this);
+         long limit = (long) PRODUCER_LIMIT.getAcquire(this);
+         if (producer + (to - from) > limit)
+         {
+            refreshProducerLimit(producer + (to - from));
+            limit = (long) PRODUCER_LIMIT.getAcquire(this);
+         }
+         n = (int) Math.max(0, Math.min(to - from, limit - producer));
+         if (n == 0)
+         {
+            return 0;
+         }
+      }
+      while (!PRODUCER_INDEX.compareAndSet(this, producer, producer + n));
+
+      // The whole range [producer, producer + n) is ours; publish slot by slot.
+      for (int i = 0; i < n; i++)
+      {
+         ELEMENTS.setRelease(buffer, slot(producer + i), items[from + i]);
+      }
+      return n;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public E poll()
+   {
+      long consumer = (long) CONSUMER_INDEX.get(this);
+      int slot = slot(consumer);
+      E e = (E) ELEMENTS.getAcquire(buffer, slot);
+      if (e == null)
+      {
+         if (consumer == (long) PRODUCER_INDEX.getAcquire(this))
+         {
+            return null; // really empty
+         }
+         // A producer claimed the slot but has not published yet: the wait is a few instructions long.
+         do
+         {
+            Thread.onSpinWait();
+            e = (E) ELEMENTS.getAcquire(buffer, slot);
+         }
+         while (e == null);
+      }
+      ELEMENTS.set(buffer, slot, null);
+      CONSUMER_INDEX.setRelease(this, consumer + 1);
+      return e;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public int drainTo(Consumer<? super E> consumer, int limit)
+   {
+      Objects.requireNonNull(consumer);
+      long start = (long) CONSUMER_INDEX.get(this);
+      long index = start;
+      try
+      {
+         while (index - start < limit)
+         {
+            int slot = slot(index);
+            E e = (E) ELEMENTS.getAcquire(buffer, slot);
+            if (e == null)
+            {
+               break; // empty, or the next slot is not published yet: stop instead of spinning
+            }
+            ELEMENTS.set(buffer, slot, null);
+            index++;
+            consumer.accept(e);
+         }
+      }
+      finally
+      {
+         if (index != start)
+         {
+            CONSUMER_INDEX.setRelease(this, index);
+         }
+      }
+      return (int) (index - start);
+   }
+
+   // Re-reads the consumer index and raises the shared limit; returns true if 'needed' now fits.
+   private boolean refreshProducerLimit(long needed)
+   {
+      long limit = (long) CONSUMER_INDEX.getAcquire(this) + capacity();
+      long current = (long) PRODUCER_LIMIT.getAcquire(this);
+      // Only move the limit forward: a slower producer must not undo a newer refresh.
+      while (limit > current && !PRODUCER_LIMIT.weakCompareAndSetRelease(this, current, limit))
+      {
+         current = (long) PRODUCER_LIMIT.getAcquire(this);
+      }
+      return needed <= Math.max(limit, current);
+   }
+}
@@ -0,0 +1,111 @@
+package playground.modern.concurrency.queues;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+/*
+ * Field layout for the ring buffers. HotSpot lays out superclass fields before subclass fields,
+ * so splitting the hot indices across a class hierarchy with padding classes in between guarantees
+ * that producer-side and consumer-side fields never share a cache line (128 bytes of padding covers
+ * the adjacent-line prefetcher too). This is the same trick JCTools and the Disruptor use; unlike
+ * @Contended it needs no JVM flags.
+ *
+ * The index fields are plain longs on purpose: every access goes through a VarHandle with an
+ * explicit mode (plain for owner-thread reads, acquire/release across threads).
+ */
+
+abstract class RingBufferPad0
+{
+   long p00, p01, p02, p03, p04, p05, p06, p07;
+   long p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+abstract class RingBufferProducerFields extends RingBufferPad0
+{
+   /** Next slot to publish. Written by producers, read by the consumer. */
+   long producerIndex;
+
+   /** Producer-side cache: a bound below which producers may publish without reading consumerIndex. */
+   long producerLimit;
+}
+
+abstract class RingBufferPad1 extends RingBufferProducerFields
+{
+   long q00, q01, q02, q03, q04, q05, q06, q07;
+   long q08, q09, q10, q11, q12, q13, q14, q15;
+}
+
+abstract class RingBufferConsumerFields extends RingBufferPad1
+{
+   /** Next slot to consume. Written only by the consumer. */
+   long consumerIndex;
+
+   /** Consumer-side cache of producerIndex (consumer thread only). */
+   long consumerCachedProducerIndex;
+}
+
+abstract class RingBufferPad2 extends RingBufferConsumerFields
+{
+   long r00, r01, r02, r03, r04, r05, r06, r07;
+   long r08, r09, r10, r11, r12, r13, r14, r15;
+}
+
+abstract class RingBufferFields<E> extends RingBufferPad2 implements RingQueue<E>
+{
+   static final VarHandle PRODUCER_INDEX;
+   static final VarHandle PRODUCER_LIMIT;
+   static final VarHandle CONSUMER_INDEX;
+   static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+   static
+   {
+      try
+      {
+         MethodHandles.Lookup lookup = MethodHandles.lookup();
+         PRODUCER_INDEX = lookup.findVarHandle(RingBufferProducerFields.class, "producerIndex", long.class);
+         PRODUCER_LIMIT = lookup.findVarHandle(RingBufferProducerFields.class, "producerLimit", long.class);
+         CONSUMER_INDEX = lookup.findVarHandle(RingBufferConsumerFields.class, "consumerIndex", long.class);
+      }
+      catch (ReflectiveOperationException e)
+      {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   final Object[] buffer;
+   final int mask;
+
+   RingBufferFields(int capacity)
+   {
+      if (capacity < 2 || capacity > (1 << 30))
+      {
+         throw new IllegalArgumentException("capacity must be in [2, 2^30]: " + capacity);
+      }
+      int size = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+      this.buffer = new Object[size];
+      this.mask = size - 1;
+      PRODUCER_LIMIT.setRelease(this, (long) size);
+   }
+
+   final int slot(long index)
+   {
+      return (int) (index & mask);
+   }
+
+   @Override
+   public final int capacity()
+   {
+      return mask + 1;
+   }
+
+   @Override
+   public final int size()
+   {
+      // Read consumer first: the result can only over-estimate, never go negative.
+      long consumer = (long) CONSUMER_INDEX.getVolatile(this);
+      long producer = (long) PRODUCER_INDEX.getVolatile(this);
+      long size = producer - consumer;
+      return (int) Math.max(0, Math.min(size, capacity()));
+   }
+}
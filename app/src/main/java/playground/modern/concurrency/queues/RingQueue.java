@@ -0,0 +1,46 @@
+package playground.modern.concurrency.queues;
+
+import java.util.function.Consumer;
+
+
+/**
+ * A bounded, non-blocking, array-backed queue for handing work between threads.
+ * <p>
+ * Unlike {@link java.util.Queue}, methods never block and never allocate; callers decide how to
+ * wait (spin, yield, park) when the queue is full or empty. {@code null} elements are not allowed.
+ * Which threads may call which methods depends on the implementation (SPSC vs MPSC).
+ */
+public interface RingQueue<E>
+{
+   /**
+    * Adds {@code e} if there is room; returns {@code false} when full.
+    */
+   boolean offer(E e);
+
+   /**
+    * Adds as many of {@code items[from, to)} as fit, in order; returns how many were added.
+    */
+   int offerAll(E[] items, int from, int to);
+
+   /**
+    * Removes the head, or returns {@code null} when empty.
+    */
+   E poll();
+
+   /**
+    * Removes up to {@code limit} elements, passing each to {@code consumer}; returns how many were removed.
+    */
+   int drainTo(Consumer<? super E> consumer, int limit);
+
+   /**
+    * Best-effort size; may be stale by the time it returns.
+    */
+   int size();
+
+   int capacity();
+
+   default boolean isEmpty()
+   {
+      return size() == 0;
+   }
+}
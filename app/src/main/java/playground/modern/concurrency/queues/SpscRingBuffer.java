@@ -0,0 +1,124 @@
+package playground.modern.concurrency.queues;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * Single-producer / single-consumer ring buffer.
+ * <p>
+ * Exactly one thread may offer and exactly one (other) thread may poll/drain. Each side owns its
+ * index, so publishing is a plain element store followed by a release store of the index; the other
+ * side pairs it with an acquire load. Each side also caches the other side's index and only re-reads
+ * it (touching the other side's cache line) when the cached value says the queue is full/empty.
+ */
+public final class SpscRingBuffer<E> extends RingBufferFields<E>
+{
+   public SpscRingBuffer(int capacity)
+   {
+      super(capacity);
+   }
+
+   @Override
+   public boolean offer(E e)
+   {
+      Objects.requireNonNull(e);
+      long producer = (long) PRODUCER_INDEX.get(this);
+      if (producer >= (long) PRODUCER_LIMIT.get(this) && !refreshProducerLimit(producer + 1))
+      {
+         return false;
+      }
+      ELEMENTS.set(buffer, slot(producer), e);
+      PRODUCER_INDEX.setRelease(this, producer + 1);
+      return true;
+   }
+
+   @Override
+   public int offerAll(E[] items, int from, int to)
+   {
+      Objects.checkFromToIndex(from, to, items.length);
+      // Before any store: a null halfway would leave written but unpublished slots holding references
+      for (int i = from; i < to; i++)
+      {
+         Objects.requireNonNull(items[i]);
+      }
+      long producer = (long) PRODUCER_INDEX.get(this);
+      long limit = (long) PRODUCER_LIMIT.get(this);
+      if (producer + (to - from) > limit)
+      {
+         refreshProducerLimit(producer + (to - from));
+         limit = (long) PRODUCER_LIMIT.get(this);
+      }
+      int n = (int) Math.min(to - from, limit - producer);
+      for (int i = 0; i < n; i++)
+      {
+         ELEMENTS.set(buffer, slot(producer + i), items[from + i]);
+      }
+      if (n > 0)
+      {
+         PRODUCER_INDEX.setRelease(this, producer + n);
+      }
+      return n;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public E poll()
+   {
+      long consumer = (long) CONSUMER_INDEX.get(this);
+      if (consumer >= consumerCachedProducerIndex)
+      {
+         consumerCachedProducerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+         if (consumer >= consumerCachedProducerIndex)
+         {
+            return null;
+         }
+      }
+      int slot = slot(consumer);
+      E e = (E) ELEMENTS.get(buffer, slot);
+      ELEMENTS.set(buffer, slot, null);
+      CONSUMER_INDEX.setRelease(this, consumer + 1);
+      return e;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public int drainTo(Consumer<? super E> consumer, int limit)
+   {
+      Objects.requireNonNull(consumer);
+      long start = (long) CONSUMER_INDEX.get(this);
+      long available = (long) PRODUCER_INDEX.getAcquire(this) - start;
+      consumerCachedProducerIndex = start + available;
+      int n = (int) Math.min(available, limit);
+
+      long index = start;
+      try
+      {
+         for (int i = 0; i < n; i++)
+         {
+            int slot = slot(index);
+            E e = (E) ELEMENTS.get(buffer, slot);
+            ELEMENTS.set(buffer, slot, null);
+            index++;
+            consumer.accept(e);
+         }
+      }
+      finally
+      {
+         // One release store for the whole batch (also on a throwing consumer, so slots stay consistent).
+         if (index != start)
+         {
+            CONSUMER_INDEX.setRelease(this, index);
+         }
+      }
+      return (int) (index - start);
+   }
+
+   // Re-reads the consumer index; returns true if 'needed' slots up to that index are now free.
+   private boolean refreshProducerLimit(long needed)
+   {
+      long limit = (long) CONSUMER_INDEX.getAcquire(this) + capacity();
+      PRODUCER_LIMIT.set(this, limit);
+      return needed <= limit;
+   }
+}
@@ -0,0 +1,99 @@
+package playground.modern.concurrency.scheduler;
+
+import playground.modern.concurrency.counters.Counter;
+import playground.modern.concurrency.counters.CounterKind;
+import playground.modern.concurrency.queues.MpscRingBuffer;
+import playground.modern.concurrency.queues.RingQueue;
+import playground.modern.concurrency.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Per-class state of a {@link TaskScheduler}.
+ * <p>
+ * Submitters only touch the lock-free queue and the striped counters; the dispatcher is the queue's
+ * single consumer and the only thread that reads the rate limiter and the weight bookkeeping.
+ * {@code inFlight} is the one field both the dispatcher (increment) and finishing tasks (decrement) write.
+ */
+final class ClassQueue
+{
+   final TaskClass taskClass;
+   final RingQueue<TaskScheduler.ScheduledTask<?>> tasks;
+   final AtomicInteger inFlight = new AtomicInteger();
+   // Submissions between their 'closed' check and their offer; close() waits for this to drain.
+   final AtomicInteger submitting = new AtomicInteger();
+
+   final Counter submitted = CounterKind.LONG_ADDER.create();
+   final Counter rejected = CounterKind.LONG_ADDER.create();
+   final Counter completed = CounterKind.LONG_ADDER.create();
+   final Counter failed = CounterKind.LONG_ADDER.create();
+
+   // Dispatcher-confined
+   private final RateLimiter limiter;
+   int currentWeight;
+
+   // Written by the dispatcher, read by stats(); guarded by itself
+   private final LatencyHistogram delays = new LatencyHistogram();
+
+   ClassQueue(TaskClass taskClass, long now)
+   {
+      this.taskClass = taskClass;
+      this.tasks = new MpscRingBuffer<>(taskClass.queueCapacity());
+      this.limiter = taskClass.rateLimited() ? new RateLimiter(taskClass.ratePerSecond(), now) : null;
+   }
+
+   /**
+    * True if the head task may start now: something is queued, the in-flight limit has room and the rate limit has a permit.
+    */
+   boolean runnable(long now)
+   {
+      return !tasks.isEmpty()
+            && inFlight.get() < taskClass.maxInFlight()
+            && (limiter == null || limiter.nanosUntilPermit(now) == 0);
+   }
+
+   /**
+    * How long until a queued task could start if only the rate limit is in the way, otherwise {@code Long.MAX_VALUE}.
+    */
+   long nanosUntilRunnable(long now)
+   {
+      if (limiter == null || tasks.isEmpty() || inFlight.get() >= taskClass.maxInFlight())
+      {
+         return Long.MAX_VALUE;
+      }
+      return limiter.nanosUntilPermit(now);
+   }
+
+   TaskScheduler.ScheduledTask<?> take(long now)
+   {
+      TaskScheduler.ScheduledTask<?> task = tasks.poll();
+      if (task != null)
+      {
+         if (limiter != null)
+         {
+            limiter.acquire(now);
+         }
+         inFlight.incrementAndGet();
+         synchronized (delays)
+         {
+            delays.record(Math.max(0, now - task.submittedAt));
+         }
+      }
+      return task;
+   }
+
+   ClassStats snapshot()
+   {
+      long done = completed.get();
+      long p50, p99, max;
+      synchronized (delays)
+      {
+         p50 = delays.percentile(50);
+         p99 = delays.percentile(99);
+         max = delays.max();
+      }
+      return new ClassStats(taskClass, submitted.get(), rejected.get(), done, failed.get(),
+            inFlight.get(), tasks.size(), p50, p99, max);
+   }
+}
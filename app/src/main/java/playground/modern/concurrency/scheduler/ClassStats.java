@@ -0,0 +1,40 @@
+package playground.modern.concurrency.scheduler;
+
+
+/**
+ * Snapshot of one {@link TaskClass}'s counters and queueing delay (submit to dispatch).
+ *
+ * @param submitted     tasks accepted into the queue
+ * @param rejected      tasks refused because the queue was full or the scheduler closed
+ * @param completed     tasks that finished, normally or exceptionally
+ * @param failed        tasks that threw
+ * @param inFlight      tasks running right now
+ * @param queued        tasks waiting right now (best effort)
+ * @param delayP50Nanos median queueing delay
+ * @param delayP99Nanos 99th percentile queueing delay
+ * @param delayMaxNanos largest queueing delay
+ */
+public record ClassStats(
+      TaskClass taskClass,
+      long submitted,
+      long rejected,
+      long completed,
+      long failed,
+      int inFlight,
+      int queued,
+      long delayP50Nanos,
+      long delayP99Nanos,
+      long delayMaxNanos)
+{
+   public String name()
+   {
+      return taskClass.name();
+   }
+
+   public String summary()
+   {
+      return String.format("%-12s | submitted=%8d | rejected=%7d | done=%8d | failed=%4d | queue p50=%9.1f us | p99=%9.1f us | max=%9.1f us",
+            name(), submitted, rejected, completed, failed,
+            delayP50Nanos / 1_000.0, delayP99Nanos / 1_000.0, delayMaxNanos / 1_000.0);
+   }
+}
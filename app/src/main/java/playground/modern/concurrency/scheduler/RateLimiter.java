@@ -0,0 +1,46 @@
+package playground.modern.concurrency.scheduler;
+
+
+/**
+ * Token bucket expressed as a "theoretical arrival time" (GCRA): one long instead of a token count
+ * plus a refill timestamp, and no floating point.
+ * <p>
+ * Every permit moves {@code nextFree} forward by one emission interval; a permit is available while
+ * {@code nextFree} is at most {@code burst} intervals ahead of now. Bursts are capped at 50 ms worth of
+ * permits so an idle class cannot bank an unbounded spike.
+ * <p>
+ * Confined to the dispatcher thread, so nothing here is synchronized.
+ */
+final class RateLimiter
+{
+   private static final long BURST_NANOS = 50_000_000;
+
+   private final long intervalNanos;
+   private final long toleranceNanos;
+   private long nextFree;
+
+   RateLimiter(long ratePerSecond, long now)
+   {
+      if (ratePerSecond <= 0) throw new IllegalArgumentException("ratePerSecond must be > 0");
+      this.intervalNanos = Math.max(1, 1_000_000_000L / ratePerSecond);
+      long burst = Math.max(1, BURST_NANOS / intervalNanos);
+      this.toleranceNanos = (burst - 1) * intervalNanos;
+      this.nextFree = now;
+   }
+
+   /**
+    * Nanoseconds until the next permit is available; 0 if one is available now.
+    */
+   long nanosUntilPermit(long now)
+   {
+      return Math.max(0, nextFree - toleranceNanos - now);
+   }
+
+   /**
+    * Takes a permit; only call after {@link #nanosUntilPermit} returned 0.
+    */
+   void acquire(long now)
+   {
+      nextFree = Math.max(nextFree, now) + intervalNanos;
+   }
+}
@@ -0,0 +1,40 @@
+package playground.modern.concurrency.scheduler;
+
+import java.util.Objects;
+
+
+/**
+ * A priority class of a {@link TaskScheduler}, e.g. "payments: weight 4, max 200 in flight, 5k/s".
+ *
+ * @param name          unique name tasks are submitted under
+ * @param weight        share of dispatch turns when several classes have runnable work
+ * @param maxInFlight   tasks of this class running at the same time
+ * @param ratePerSecond task starts per second, or {@link #UNLIMITED} for no rate limit
+ * @param queueCapacity tasks that may wait; submissions beyond it are rejected
+ */
+public record TaskClass(String name, int weight, int maxInFlight, long ratePerSecond, int queueCapacity)
+{
+   public static final long UNLIMITED = 0;
+
+   private static final int DEFAULT_QUEUE_CAPACITY = 16 * 1024;
+
+   public TaskClass
+   {
+      Objects.requireNonNull(name);
+      if (name.isBlank()) throw new IllegalArgumentException("name must not be blank");
+      if (weight <= 0) throw new IllegalArgumentException("weight must be > 0");
+      if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be > 0");
+      if (ratePerSecond < 0) throw new IllegalArgumentException("ratePerSecond must be >= 0");
+      if (queueCapacity < 2) throw new IllegalArgumentException("queueCapacity must be >= 2");
+   }
+
+   public static TaskClass of(String name, int weight, int maxInFlight, long ratePerSecond)
+   {
+      return new TaskClass(name, weight, maxInFlight, ratePerSecond, DEFAULT_QUEUE_CAPACITY);
+   }
+
+   public boolean rateLimited()
+   {
+      return ratePerSecond != UNLIMITED;
+   }
+}
@@ -0,0 +1,333 @@
+package playground.modern.concurrency.scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Runs tasks on virtual threads, grouped into {@link TaskClass}es with their own weight, in-flight limit,
+ * rate limit and bounded queue.
+ * <p>
+ * - submitters never block: each class has a lock-free {@link playground.modern.concurrency.queues.MpscRingBuffer},
+ *   a full queue rejects the task instead of growing
+ * - one dispatcher thread is the consumer of every queue; among the classes that may start a task right now
+ *   (queued work, in-flight room, rate permit) it picks by smooth weighted round robin, so a class with
+ *   weight 8 gets 8 of every 13 turns against weights 4 and 1, interleaved rather than in bursts
+ * - each dispatched task gets a new virtual thread, so blocking tasks cost no platform thread; the in-flight
+ *   limits, not a pool size, bound the concurrency
+ * - the dispatcher records submit-to-dispatch delay per class ({@link #stats()}), which is the number to watch
+ *   when a saturated background class must not slow down an interactive one
+ * <p>
+ * When nothing can start the dispatcher parks until a submission or a completion unparks it, or until the
+ * next rate permit is due.
+ */
+public final class TaskScheduler implements AutoCloseable
+{
+   private static final long IDLE_PARK_NANOS = 1_000_000;
+
+   private final ClassQueue[] classes;
+   private final Map<String, ClassQueue> byName;
+   private final ExecutorService workers;
+   private final Thread dispatcher;
+
+   private volatile boolean dispatcherParked;
+   private volatile boolean closed;
+   // closed and no submission still in progress: the queues can only shrink from here on
+   private volatile boolean sealed;
+
+   public TaskScheduler(List<TaskClass> taskClasses)
+   {
+      Objects.requireNonNull(taskClasses);
+      if (taskClasses.isEmpty()) throw new IllegalArgumentException("taskClasses must not be empty");
+
+      long now = System.nanoTime();
+      Map<String, ClassQueue> queues = new LinkedHashMap<>();
+      for (TaskClass taskClass : taskClasses)
+      {
+         if (queues.putIfAbsent(taskClass.name(), new ClassQueue(taskClass, now)) != null)
+         {
+            throw new IllegalArgumentException("duplicate task class: " + taskClass.name());
+         }
+      }
+      this.classes = queues.values().toArray(ClassQueue[]::new);
+      this.byName = Map.copyOf(queues);
+      this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scheduled-task-", 0).factory());
+      this.dispatcher = Thread.ofPlatform().name("task-scheduler").daemon().unstarted(this::dispatchLoop);
+      dispatcher.start();
+   }
+
+   /**
+    * Queues {@code task} under {@code taskClass}. The returned future completes with the task's result, or
+    * exceptionally with a {@link RejectedExecutionException} if the class's queue is full or the scheduler is
+    * closed. Cancelling the future before the task starts skips it.
+    */
+   public <T> CompletableFuture<T> submit(String taskClass, Callable<T> task)
+   {
+      Objects.requireNonNull(task);
+      ClassQueue queue = byName.get(taskClass);
+      if (queue == null) throw new IllegalArgumentException("unknown task class: " + taskClass);
+
+      ScheduledTask<T> scheduled = new ScheduledTask<>(queue, task, System.nanoTime());
+      queue.submitting.incrementAndGet();
+      try
+      {
+         if (closed)
+         {
+            return reject(queue, scheduled, "scheduler is closed");
+         }
+         if (!queue.tasks.offer(scheduled))
+         {
+            return reject(queue, scheduled, taskClass + " queue is full (" + queue.tasks.capacity() + ")");
+         }
+      }
+      finally
+      {
+         queue.submitting.decrementAndGet();
+      }
+      queue.submitted.inc();
+      wakeDispatcher();
+      return scheduled.future;
+   }
+
+   public CompletableFuture<Void> submit(String taskClass, Runnable task)
+   {
+      Objects.requireNonNull(task);
+      return submit(taskClass, () -> {
+         task.run();
+         return null;
+      });
+   }
+
+   public List<TaskClass> taskClasses()
+   {
+      List<TaskClass> result = new ArrayList<>(classes.length);
+      for (ClassQueue queue : classes)
+      {
+         result.add(queue.taskClass);
+      }
+      return result;
+   }
+
+   /**
+    * Counters and queueing delay per class, in registration order.
+    */
+   public List<ClassStats> stats()
+   {
+      List<ClassStats> result = new ArrayList<>(classes.length);
+      for (ClassQueue queue : classes)
+      {
+         result.add(queue.snapshot());
+      }
+      return result;
+   }
+
+   /**
+    * Stops accepting tasks, runs everything already queued (still honoring weights and limits) and waits
+    * for all tasks to finish.
+    */
+   @Override
+   public void close()
+   {
+      closed = true;
+      for (ClassQueue queue : classes)
+      {
+         while (queue.submitting.get() != 0)
+         {
+            Thread.onSpinWait();
+         }
+      }
+      sealed = true;
+      LockSupport.unpark(dispatcher);
+
+      boolean interrupted = false;
+      while (dispatcher.isAlive())
+      {
+         try
+         {
+            dispatcher.join();
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+      workers.close();
+      if (interrupted)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   // -------------------------------------------------
+   // Dispatcher
+   // -------------------------------------------------
+
+   private void dispatchLoop()
+   {
+      while (true)
+      {
+         long now = System.nanoTime();
+         ClassQueue next = pick(now);
+         if (next != null)
+         {
+            ScheduledTask<?> task = next.take(now);
+            if (task != null)
+            {
+               workers.execute(task);
+            }
+            continue;
+         }
+         if (sealed && allEmpty())
+         {
+            return;
+         }
+
+         // Publish "parked" before the re-check so a submitter either sees it and unparks us, or we see its task.
+         dispatcherParked = true;
+         now = System.nanoTime();
+         if (!anyRunnable(now) && !(sealed && allEmpty()))
+         {
+            LockSupport.parkNanos(this, parkNanos(now));
+         }
+         dispatcherParked = false;
+      }
+   }
+
+   /**
+    * Smooth weighted round robin over the classes that can start a task now: each of them gains its weight,
+    * the richest one wins and pays back the total. Classes that cannot run don't accumulate credit.
+    */
+   private ClassQueue pick(long now)
+   {
+      ClassQueue best = null;
+      int total = 0;
+      for (ClassQueue queue : classes)
+      {
+         if (!queue.runnable(now))
+         {
+            continue;
+         }
+         queue.currentWeight += queue.taskClass.weight();
+         total += queue.taskClass.weight();
+         if (best == null || queue.currentWeight > best.currentWeight)
+         {
+            best = queue;
+         }
+      }
+      if (best != null)
+      {
+         best.currentWeight -= total;
+      }
+      return best;
+   }
+
+   private boolean anyRunnable(long now)
+   {
+      for (ClassQueue queue : classes)
+      {
+         if (queue.runnable(now))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private boolean allEmpty()
+   {
+      for (ClassQueue queue : classes)
+      {
+         if (!queue.tasks.isEmpty())
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private long parkNanos(long now)
+   {
+      long nanos = IDLE_PARK_NANOS;
+      for (ClassQueue queue : classes)
+      {
+         nanos = Math.min(nanos, queue.nanosUntilRunnable(now));
+      }
+      return Math.max(1, nanos);
+   }
+
+   private void wakeDispatcher()
+   {
+      if (dispatcherParked)
+      {
+         LockSupport.unpark(dispatcher);
+      }
+   }
+
+   private static <T> CompletableFuture<T> reject(ClassQueue queue, ScheduledTask<T> task, String reason)
+   {
+      queue.rejected.inc();
+      task.future.completeExceptionally(new RejectedExecutionException(reason));
+      return task.future;
+   }
+
+   // -------------------------------------------------
+   // Task wrapper
+   // -------------------------------------------------
+
+   final class ScheduledTask<T> implements Runnable
+   {
+      final ClassQueue queue;
+      final Callable<T> task;
+      final long submittedAt;
+      final CompletableFuture<T> future = new CompletableFuture<>();
+
+      ScheduledTask(ClassQueue queue, Callable<T> task, long submittedAt)
+      {
+         this.queue = queue;
+         this.task = task;
+         this.submittedAt = submittedAt;
+      }
+
+      @Override
+      public void run()
+      {
+         T result = null;
+         Throwable failure = null;
+         if (!future.isDone()) // cancelled while queued
+         {
+            try
+            {
+               result = task.call();
+            }
+            catch (Throwable t)
+            {
+               failure = t;
+               queue.failed.inc();
+            }
+         }
+
+         // Free the slot before completing: dependent stages run on this thread and must not hold it.
+         queue.inFlight.decrementAndGet();
+         queue.completed.inc();
+         wakeDispatcher();
+
+         if (failure != null)
+         {
+            future.completeExceptionally(failure);
+         }
+         else
+         {
+            future.complete(result);
+         }
+      }
+   }
+}
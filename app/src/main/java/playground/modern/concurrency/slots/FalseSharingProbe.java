@@ -0,0 +1,135 @@
+package playground.modern.concurrency.slots;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * Runs the same per-thread workload against a {@link SlotLayout#PACKED packed} and a
+ * {@link SlotLayout#PADDED padded} {@link LongSlots} and reports the throughput gap.
+ * <p>
+ * Thread {@code t} only ever writes slot {@code t}, so there is no true sharing: any slowdown of the
+ * packed layout is false sharing (neighbouring slots on the same cache line).
+ */
+public final class FalseSharingProbe
+{
+   /**
+    * @param owned {@code true} for single-writer {@link LongSlots#addOwned} updates,
+    *              {@code false} for atomic {@link LongSlots#add} updates
+    */
+   public record Measurement(int threads, boolean owned, double packedOpsPerSecond, double paddedOpsPerSecond)
+   {
+      /**
+       * How many times faster the padded layout was.
+       */
+      public double speedup()
+      {
+         return paddedOpsPerSecond / packedOpsPerSecond;
+      }
+   }
+
+   private FalseSharingProbe()
+   {
+      // utility class
+   }
+
+   public static Measurement measure(int threads, long opsPerThread, boolean owned)
+   {
+      if (threads <= 0) throw new IllegalArgumentException("threads must be > 0");
+      if (opsPerThread <= 0) throw new IllegalArgumentException("opsPerThread must be > 0");
+
+      double packed = run(new LongSlots(threads, SlotLayout.PACKED), opsPerThread, owned);
+      double padded = run(new LongSlots(threads, SlotLayout.PADDED), opsPerThread, owned);
+      return new Measurement(threads, owned, packed, padded);
+   }
+
+   private static double run(LongSlots slots, long opsPerThread, boolean owned)
+   {
+      int threads = slots.slots();
+      CountDownLatch ready = new CountDownLatch(threads);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> workers = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++)
+      {
+         int slot = t;
+         workers.add(new Thread(() -> {
+            ready.countDown();
+            awaitUninterruptibly(start);
+            if (owned)
+            {
+               for (long i = 0; i < opsPerThread; i++)
+               {
+                  slots.addOwned(slot, 1);
+               }
+            }
+            else
+            {
+               for (long i = 0; i < opsPerThread; i++)
+               {
+                  slots.add(slot, 1);
+               }
+            }
+         }, "false-sharing-" + slots.layout().name().toLowerCase() + "-" + t));
+      }
+      workers.forEach(Thread::start);
+      awaitUninterruptibly(ready);
+
+      long t0 = System.nanoTime();
+      start.countDown();
+      for (Thread w : workers)
+      {
+         joinUninterruptibly(w);
+      }
+      long elapsedNs = System.nanoTime() - t0;
+
+      long expected = opsPerThread * threads;
+      if (slots.sum() != expected)
+      {
+         throw new IllegalStateException("Lost updates: expected " + expected + " but was " + slots.sum());
+      }
+      return expected * 1e9 / elapsedNs;
+   }
+
+   private static void awaitUninterruptibly(CountDownLatch latch)
+   {
+      boolean interrupted = false;
+      while (true)
+      {
+         try
+         {
+            latch.await();
+            break;
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+      if (interrupted)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private static void joinUninterruptibly(Thread t)
+   {
+      boolean interrupted = false;
+      while (true)
+      {
+         try
+         {
+            t.join();
+            break;
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+      if (interrupted)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+}
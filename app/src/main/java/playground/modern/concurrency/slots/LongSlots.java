@@ -0,0 +1,90 @@
+package playground.modern.concurrency.slots;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+
+/**
+ * A fixed array of {@code long} slots, one per thread/core/stripe, laid out {@link SlotLayout#PACKED packed}
+ * or {@link SlotLayout#PADDED padded}.
+ * <p>
+ * Two write modes:
+ * - {@link #add} is an atomic add; any thread may write any slot
+ * - {@link #addOwned} is for single-writer slots (each slot updated by one thread only): a plain read
+ *   plus an opaque store, no locked instruction, and readers still never see a torn value
+ * <p>
+ * {@link #sum()} reads every slot, so it costs O(slots) and is only a snapshot while writers run.
+ */
+public final class LongSlots
+{
+   private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+
+   private final long[] cells;
+   private final int slots;
+   private final SlotLayout layout;
+
+   public LongSlots(int slots, SlotLayout layout)
+   {
+      if (slots <= 0) throw new IllegalArgumentException("slots must be > 0");
+      this.slots = slots;
+      this.layout = Objects.requireNonNull(layout);
+      // padded: one extra slot of leading padding keeps slot 0 off the array header's line
+      int leading = layout == SlotLayout.PADDED ? 1 : 0;
+      this.cells = new long[(slots + leading) * layout.stride()];
+   }
+
+   public void add(int slot, long delta)
+   {
+      CELLS.getAndAdd(cells, index(slot), delta);
+   }
+
+   public void addOwned(int slot, long delta)
+   {
+      int i = index(slot);
+      CELLS.setOpaque(cells, i, cells[i] + delta);
+   }
+
+   public long get(int slot)
+   {
+      return (long) CELLS.getVolatile(cells, index(slot));
+   }
+
+   public long sum()
+   {
+      long sum = 0;
+      for (int s = 0; s < slots; s++)
+      {
+         sum += (long) CELLS.getVolatile(cells, index(s));
+      }
+      return sum;
+   }
+
+   public int slots()
+   {
+      return slots;
+   }
+
+   public SlotLayout layout()
+   {
+      return layout;
+   }
+
+   /**
+    * Size of the backing array's data, in bytes (excluding the array header).
+    */
+   public long footprintBytes()
+   {
+      return (long) cells.length * Long.BYTES;
+   }
+
+   private int index(int slot)
+   {
+      Objects.checkIndex(slot, slots);
+      if (layout == SlotLayout.PACKED)
+      {
+         return slot;
+      }
+      return (slot + 1) * SlotLayout.PADDED.stride();
+   }
+}
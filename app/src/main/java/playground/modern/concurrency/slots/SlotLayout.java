@@ -0,0 +1,33 @@
+package playground.modern.concurrency.slots;
+
+
+/**
+ * How {@link LongSlots} places its slots in memory.
+ * <p>
+ * {@code @jdk.internal.vm.annotation.Contended} would do the padding for us, but it is JDK-internal
+ * (needs {@code --add-exports} and {@code -XX:-RestrictContended}) and only applies to fields, not
+ * array elements. Spacing slots out by hand in a plain {@code long[]} works everywhere.
+ */
+public enum SlotLayout
+{
+   /** Adjacent longs: 8 slots share one 64-byte line, so writers to neighbouring slots false-share. */
+   PACKED(1),
+
+   /** One slot per 128 bytes (two lines, to defeat the adjacent-line prefetcher); no false sharing. */
+   PADDED(16);
+
+   private final int stride;
+
+   SlotLayout(int stride)
+   {
+      this.stride = stride;
+   }
+
+   /**
+    * Distance between two slots, in longs.
+    */
+   public int stride()
+   {
+      return stride;
+   }
+}
@@ -1,10 +1,15 @@
 package playground.modern.concurrency.util;
 
+import playground.common.output.Output;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 public class Harness
 {
+   private static final long TRIAL_TIMEOUT_MS = 300_000;
 
    private Harness()
    {
@@ -20,18 +25,157 @@ public class Harness
       }
    }
 
-   public static long timeMillis(Runnable r)
+   public static long timeNanos(Runnable r)
    {
-      long start = System.currentTimeMillis();
+      long start = System.nanoTime();
       r.run();
-      return System.currentTimeMillis() - start;
+      return System.nanoTime() - start;
+   }
+
+   public static long timeMillis(Runnable r)
+   {
+      return TimeUnit.NANOSECONDS.toMillis(timeNanos(r));
    }
 
-   public static void runNTimes(Runnable r, int n)
+   /**
+    * Runs {@code r} {@code n} times and returns the duration of each run in nanoseconds.
+    */
+   public static long[] runNTimes(Runnable r, int n)
    {
+      long[] nanos = new long[n];
       for (int i = 0; i < n; i++)
       {
-         r.run();
+         nanos[i] = timeNanos(r);
+      }
+      return nanos;
+   }
+
+   /**
+    * Micro-measurement of {@code op} on {@code threads} threads.
+    * <p>
+    * Runs {@code warmupIterations} unrecorded trials (so the JIT has compiled the hot path), then
+    * {@code trials} measured ones. In every trial each thread calls {@code op} {@code opsPerThread} times;
+    * all threads are started first and released together by a start latch, and the trial's wall time
+    * runs from that release until the last thread finishes. Throughput trials call {@code op} back to back
+    * with nothing else in the loop, so ops of a few ns are not dominated by the timer.
+    * <p>
+    * Latency comes from a separate pass afterwards (one more trial, preceded by an unrecorded one if there
+    * is warmup) in which each call is timed individually into a per-thread {@link LatencyHistogram},
+    * merged into the result. {@link Measurement#opPasses()} counts every trial, so callers that check state
+    * the operation accumulates know how often it ran. The result is also printed.
+    */
+   public static Measurement measure(String name, int threads, int warmupIterations, int trials,
+         long opsPerThread, Operation op)
+   {
+      if (threads <= 0) throw new IllegalArgumentException("threads must be > 0");
+      if (warmupIterations < 0) throw new IllegalArgumentException("warmupIterations must be >= 0");
+      if (trials <= 0) throw new IllegalArgumentException("trials must be > 0");
+      if (opsPerThread <= 0) throw new IllegalArgumentException("opsPerThread must be > 0");
+
+      int passes = 0;
+      for (int i = 0; i < warmupIterations; i++)
+      {
+         runTrial(name, threads, opsPerThread, op, null);
+         passes++;
+      }
+      long[] trialNanos = new long[trials];
+      for (int i = 0; i < trials; i++)
+      {
+         trialNanos[i] = runTrial(name, threads, opsPerThread, op, null);
+         passes++;
+      }
+
+      LatencyHistogram[] perThread = new LatencyHistogram[threads];
+      for (int t = 0; t < threads; t++)
+      {
+         perThread[t] = new LatencyHistogram();
+      }
+      if (warmupIterations > 0)
+      {
+         // The timed loop is compiled separately from the untimed one
+         runTrial(name, threads, opsPerThread, op, perThread);
+         passes++;
+         for (LatencyHistogram h : perThread)
+         {
+            h.reset();
+         }
+      }
+      runTrial(name, threads, opsPerThread, op, perThread);
+      passes++;
+
+      LatencyHistogram merged = new LatencyHistogram();
+      for (LatencyHistogram h : perThread)
+      {
+         merged.merge(h);
+      }
+
+      Measurement m = new Measurement(name, threads, warmupIterations, passes, opsPerThread, trialNanos, merged);
+      Output.println(m.summary());
+      return m;
+   }
+
+   /**
+    * One trial; {@code latencies} is null for a throughput trial, otherwise every call is timed into the
+    * calling thread's histogram.
+    */
+   private static long runTrial(String name, int threads, long opsPerThread, Operation op, LatencyHistogram[] latencies)
+   {
+      CountDownLatch ready = new CountDownLatch(threads);
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(threads);
+
+      List<Thread> workers = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++)
+      {
+         int thread = t;
+         LatencyHistogram histogram = latencies == null ? null : latencies[t];
+         workers.add(new Thread(() -> {
+            ready.countDown();
+            await(start, TRIAL_TIMEOUT_MS);
+            try
+            {
+               if (histogram == null)
+               {
+                  run(op, thread, opsPerThread);
+               }
+               else
+               {
+                  runTimed(op, thread, opsPerThread, histogram);
+               }
+            }
+            finally
+            {
+               done.countDown();
+            }
+         }, name + "-" + t));
+      }
+      workers.forEach(Thread::start);
+      await(ready, TRIAL_TIMEOUT_MS);
+
+      long t0 = System.nanoTime();
+      start.countDown();
+      await(done, TRIAL_TIMEOUT_MS);
+      long elapsed = System.nanoTime() - t0;
+
+      workers.forEach(w -> join(w, 1_000));
+      return elapsed;
+   }
+
+   private static void run(Operation op, int thread, long ops)
+   {
+      for (long i = 0; i < ops; i++)
+      {
+         op.run(thread, i);
+      }
+   }
+
+   private static void runTimed(Operation op, int thread, long ops, LatencyHistogram histogram)
+   {
+      for (long i = 0; i < ops; i++)
+      {
+         long t0 = System.nanoTime();
+         op.run(thread, i);
+         histogram.record(System.nanoTime() - t0);
       }
    }
 
@@ -56,12 +200,12 @@ public class Harness
    }
 
    public static void header(String title) {
-      System.out.println("=================================================");
-      System.out.println(title);
-      System.out.println("=================================================");
+      Output.println("=================================================");
+      Output.println(title);
+      Output.println("=================================================");
    }
 
    public static void bullet(String s) {
-      System.out.println("• " + s);
+      Output.println("• " + s);
    }
 }
@@ -0,0 +1,129 @@
+package playground.modern.concurrency.util;
+
+import java.util.Arrays;
+
+
+/**
+ * HDR-style latency histogram: log-linear buckets with a fixed relative error, recording in O(1)
+ * without allocation.
+ * <p>
+ * Values below 128 are counted exactly; above that every power-of-two range is split into 128
+ * sub-buckets, so any recorded value is reported within 1/128 (< 0.8%) of its true value, from
+ * nanoseconds up to {@code Long.MAX_VALUE}. Percentiles report the highest value of the bucket
+ * (never lower than the real sample), clamped to the exact maximum.
+ * <p>
+ * Not thread-safe: give each thread its own histogram and {@link #merge} them afterwards.
+ */
+public final class LatencyHistogram
+{
+   private static final int SUB_BUCKET_BITS = 7;
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   // exact range [0, 128) + one block of 128 sub-buckets per bit position 7..62
+   private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+   private final long[] counts = new long[BUCKETS];
+   private long count;
+   private long sum;
+   private long min = Long.MAX_VALUE;
+   private long max;
+
+   public void record(long value)
+   {
+      if (value < 0) throw new IllegalArgumentException("value must be >= 0");
+      counts[bucketOf(value)]++;
+      count++;
+      sum += value;
+      if (value < min) min = value;
+      if (value > max) max = value;
+   }
+
+   /**
+    * Adds all of {@code other}'s samples to this histogram.
+    */
+   public void merge(LatencyHistogram other)
+   {
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         counts[i] += other.counts[i];
+      }
+      count += other.count;
+      sum += other.sum;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+   }
+
+   public void reset()
+   {
+      Arrays.fill(counts, 0);
+      count = 0;
+      sum = 0;
+      min = Long.MAX_VALUE;
+      max = 0;
+   }
+
+   /**
+    * Value at or below which {@code percentile}% of the samples fall, e.g. {@code 99.9}.
+    */
+   public long percentile(double percentile)
+   {
+      if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("percentile must be in [0, 100]");
+      if (count == 0)
+      {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         seen += counts[i];
+         if (seen >= rank)
+         {
+            return Math.min(highestValueIn(i), max);
+         }
+      }
+      return max;
+   }
+
+   public long count()
+   {
+      return count;
+   }
+
+   public long min()
+   {
+      return count == 0 ? 0 : min;
+   }
+
+   public long max()
+   {
+      return max;
+   }
+
+   public double mean()
+   {
+      return count == 0 ? Double.NaN : (double) sum / count;
+   }
+
+   private static int bucketOf(long value)
+   {
+      if (value < SUB_BUCKETS)
+      {
+         return (int) value;
+      }
+      int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+      int top = (int) (value >>> shift); // in [128, 256)
+      return SUB_BUCKETS + shift * SUB_BUCKETS + (top - SUB_BUCKETS);
+   }
+
+   private static long highestValueIn(int bucket)
+   {
+      if (bucket < SUB_BUCKETS)
+      {
+         return bucket;
+      }
+      int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+      long top = (bucket - SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+      long highest = ((top + 1) << shift) - 1;
+      return highest < 0 ? Long.MAX_VALUE : highest;
+   }
+}
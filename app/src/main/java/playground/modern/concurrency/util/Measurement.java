@@ -0,0 +1,82 @@
+package playground.modern.concurrency.util;
+
+import java.util.Arrays;
+
+
+/**
+ * Result of {@link Harness#measure}: wall time of every measured trial plus the per-operation latency
+ * of all threads, recorded in a separate latency pass.
+ * <p>
+ * Throughput uses the median trial, which is less sensitive to a single GC or scheduling hiccup than
+ * the mean; those trials run without per-operation timing. Latencies include the cost of the two
+ * {@code System.nanoTime()} calls around each operation (typically 15-30 ns), so they are only
+ * meaningful for operations well above that.
+ * <p>
+ * {@code opPasses} is the number of times every thread ran its {@code opsPerThread} calls, counting warmup,
+ * measured and latency trials, so {@code opPasses * opsPerTrial()} is how often the operation was called.
+ */
+public record Measurement(
+      String name,
+      int threads,
+      int warmupIterations,
+      int opPasses,
+      long opsPerThread,
+      long[] trialNanos,
+      LatencyHistogram latencies)
+{
+   public Measurement
+   {
+      trialNanos = trialNanos.clone();
+   }
+
+   @Override
+   public long[] trialNanos()
+   {
+      return trialNanos.clone();
+   }
+
+   public int trials()
+   {
+      return trialNanos.length;
+   }
+
+   public long opsPerTrial()
+   {
+      return opsPerThread * threads;
+   }
+
+   public long medianTrialNanos()
+   {
+      long[] sorted = trialNanos.clone();
+      Arrays.sort(sorted);
+      return sorted[sorted.length / 2];
+   }
+
+   public long bestTrialNanos()
+   {
+      return Arrays.stream(trialNanos).min().orElse(0);
+   }
+
+   public double opsPerSecond()
+   {
+      return opsPerTrial() * 1e9 / medianTrialNanos();
+   }
+
+   public long p50() { return latencies.percentile(50); }
+   public long p99() { return latencies.percentile(99); }
+   public long p999() { return latencies.percentile(99.9); }
+   public long max() { return latencies.max(); }
+
+   /**
+    * One-line summary: throughput of the median trial plus latency percentiles in ns.
+    */
+   public String summary()
+   {
+      return String.format("%-30s | %8.2f Mops/s | median=%6.1fms best=%6.1fms | p50=%dns p99=%dns p99.9=%dns max=%dns",
+            name,
+            opsPerSecond() / 1e6,
+            medianTrialNanos() / 1e6,
+            bestTrialNanos() / 1e6,
+            p50(), p99(), p999(), max());
+   }
+}
@@ -0,0 +1,15 @@
+package playground.modern.concurrency.util;
+
+
+/**
+ * One measured operation, called {@code opsPerThread} times on each thread by {@link Harness#measure}.
+ */
+@FunctionalInterface
+public interface Operation
+{
+   /**
+    * @param thread index of the calling thread, {@code 0 .. threads - 1}
+    * @param op     index of this call on that thread, {@code 0 .. opsPerThread - 1}
+    */
+   void run(int thread, long op);
+}
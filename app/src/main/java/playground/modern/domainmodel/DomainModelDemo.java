@@ -1,6 +1,7 @@
 package playground.modern.domainmodel;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.domainmodel.models.BankTransfer;
 import playground.modern.domainmodel.models.CardPayment;
 import playground.modern.domainmodel.models.CryptoPayment;
@@ -38,7 +39,7 @@ public class DomainModelDemo implements Demo
             Instant.now(), "iban", "reference");
       List<Payment> payments = List.of(cardPayment, cryptoPayment, bankTransfer);
 
-      System.out.printf("Processing payments for %s payments...%n", payments.size());
-      payments.forEach(payment -> System.out.println(paymentProcessor.process(payment)));
+      Output.printf("Processing payments for %s payments...%n", payments.size());
+      payments.forEach(payment -> Output.println(String.valueOf(paymentProcessor.process(payment))));
    }
 }
@@ -1,17 +1,44 @@
 package playground.modern.domainmodel.models;
 
+import playground.modern.metrics.CounterMetric;
+import playground.modern.metrics.MetricsRegistry;
+import playground.modern.metrics.TimerMetric;
+import playground.modern.observability.PaymentProcessEvent;
+
 public class PaymentProcessor
 {
+   private static final TimerMetric PROCESS_TIME = MetricsRegistry.global().timer("payment_process_seconds");
+   private static final CounterMetric CARD = MetricsRegistry.global().counter("payments_processed_total", "type", "card");
+   private static final CounterMetric CRYPTO = MetricsRegistry.global().counter("payments_processed_total", "type", "crypto");
+   private static final CounterMetric BANK_TRANSFER = MetricsRegistry.global().counter("payments_processed_total", "type", "bank_transfer");
 
    public PaymentResult process(Payment payment){
+      PaymentProcessEvent event = new PaymentProcessEvent();
+      event.begin();
+      long start = PROCESS_TIME.start();
+      PaymentResult result = route(payment);
+      PROCESS_TIME.stop(start);
+      if (event.shouldCommit()) {
+         event.paymentType = payment.getClass().getSimpleName();
+         event.paymentId = payment.id();
+         event.status = result.status().name();
+         event.commit();
+      }
+      return result;
+   }
+
+   private PaymentResult route(Payment payment){
       switch (payment){
          case CardPayment cardPayment-> {
+            CARD.inc();
             return new PaymentResult(cardPayment.id(), PaymentStatus.APPROVED, "Approved");
          }
          case CryptoPayment cryptoPayment-> {
+            CRYPTO.inc();
             return new PaymentResult(cryptoPayment.id(), PaymentStatus.PENDING, "Pending");
          }
          case BankTransfer bankTransfer-> {
+            BANK_TRANSFER.inc();
             return new PaymentResult(bankTransfer.id(), PaymentStatus.PENDING, "Pending");
          }
       }
@@ -0,0 +1,77 @@
+package playground.modern.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Splits a file into chunks of roughly {@code targetChunkSize} bytes whose boundaries fall right
+ * after a {@code '\n'}, so every chunk can be parsed independently.
+ * Only a small probe buffer is read per boundary; the file itself is never loaded.
+ */
+public final class ChunkSplitter
+{
+   private static final int PROBE_SIZE = 8 * 1024;
+
+   private ChunkSplitter()
+   {
+      // utility class
+   }
+
+   public static List<FileChunk> split(FileChannel channel, int targetChunkSize)
+   {
+      if (targetChunkSize <= 0) throw new IllegalArgumentException("targetChunkSize must be > 0");
+
+      try
+      {
+         long size = channel.size();
+         List<FileChunk> chunks = new ArrayList<>();
+         ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+
+         long start = 0;
+         while (start < size)
+         {
+            long end = (size - start <= targetChunkSize) ? size : nextLineStart(channel, start + targetChunkSize, size, probe);
+            if (end - start > Integer.MAX_VALUE)
+            {
+               throw new IllegalStateException("Line longer than 2 GiB near offset " + start);
+            }
+            chunks.add(new FileChunk(start, end - start));
+            start = end;
+         }
+         return chunks;
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   // Returns the offset just after the first '\n' at or after 'from', or 'size' if there is none.
+   private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException
+   {
+      long position = from;
+      while (position < size)
+      {
+         probe.clear();
+         int read = channel.read(probe, position);
+         if (read <= 0)
+         {
+            break;
+         }
+         for (int i = 0; i < read; i++)
+         {
+            if (probe.get(i) == '\n')
+            {
+               return position + i + 1;
+            }
+         }
+         position += read;
+      }
+      return size;
+   }
+}
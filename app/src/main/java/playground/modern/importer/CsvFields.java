@@ -0,0 +1,54 @@
+package playground.modern.importer;
+
+
+/**
+ * Splits a comma-separated line into field ranges without allocating.
+ * <p>
+ * {@code bounds[i]} holds the index of the separator before field {@code i}
+ * (or {@code from - 1} for the first field), and {@code bounds[count]} the index just past the line.
+ */
+final class CsvFields
+{
+   private CsvFields()
+   {
+      // utility class
+   }
+
+   /**
+    * Returns the number of fields found; if the line has more fields than {@code bounds.length - 1},
+    * the returned count is still exact but only the first ones are recorded.
+    */
+   static int split(byte[] line, int from, int to, int[] bounds)
+   {
+      int max = bounds.length - 1;
+      int count = 0;
+      bounds[0] = from - 1;
+      for (int i = from; i < to; i++)
+      {
+         if (line[i] == ',')
+         {
+            count++;
+            if (count <= max)
+            {
+               bounds[count] = i;
+            }
+         }
+      }
+      count++;
+      if (count <= max)
+      {
+         bounds[count] = to;
+      }
+      return count;
+   }
+
+   static int start(int[] bounds, int field)
+   {
+      return bounds[field] + 1;
+   }
+
+   static int end(int[] bounds, int field)
+   {
+      return bounds[field + 1];
+   }
+}
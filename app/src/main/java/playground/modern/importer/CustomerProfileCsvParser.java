@@ -0,0 +1,44 @@
+package playground.modern.importer;
+
+import playground.modern.result.NumberParsers;
+import playground.modern.result.ResultDemo;
+import playground.modern.result.ResultDemo.CustomerProfile;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Parses {@code age,salary} rows into a {@link CustomerProfile} with the same parse/validate
+ * chain as {@link ResultDemo}, reading straight from the importer's byte buffer.
+ */
+public final class CustomerProfileCsvParser implements RowParser<CustomerProfile>
+{
+   public static final String HEADER = "age,salary";
+
+   @Override
+   public Result<CustomerProfile, DomainError> parse(byte[] line, int from, int to)
+   {
+      int comma = -1;
+      for (int i = from; i < to; i++)
+      {
+         if (line[i] == ',')
+         {
+            comma = i;
+            break;
+         }
+      }
+      if (comma < 0)
+      {
+         return Result.err(new DomainError.ParseError("row", new String(line, from, to - from, StandardCharsets.UTF_8), "Expected 2 columns"));
+      }
+
+      int salaryFrom = comma + 1;
+      return NumberParsers.parseInt("age", line, from, comma)
+            .flatMap(age -> ResultDemo.validateRange("age", age, 18, 120))
+            .flatMap(validAge -> NumberParsers.parseInt("salary", line, salaryFrom, to)
+                  .flatMap(salary -> ResultDemo.validateMin("salary", salary, 0))
+                  .map(validSalary -> new CustomerProfile(validAge, validSalary)));
+   }
+}
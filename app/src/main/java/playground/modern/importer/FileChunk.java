@@ -0,0 +1,15 @@
+package playground.modern.importer;
+
+
+/**
+ * A byte range of a file that starts at the beginning of a line and ends after a line terminator
+ * (or at end of file).
+ */
+public record FileChunk(long offset, long length)
+{
+   public FileChunk
+   {
+      if (offset < 0) throw new IllegalArgumentException("offset must be >= 0");
+      if (length < 0 || length > Integer.MAX_VALUE) throw new IllegalArgumentException("length out of range: " + length);
+   }
+}
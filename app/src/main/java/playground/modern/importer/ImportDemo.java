@@ -0,0 +1,180 @@
+package playground.modern.importer;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Failure;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+
+/**
+ * Generates CSV/NDJSON files with a sprinkling of bad rows and imports them with {@link ParallelImporter}.
+ * Row count can be raised with {@code -Dplayground.import.rows=50000000} to try multi-GB files.
+ */
+public class ImportDemo implements Demo
+{
+   private static final int ROWS = Integer.getInteger("playground.import.rows", 1_000_000);
+   private static final int BAD_ROW_EVERY = 50;
+   private static final int SAMPLE_ERRORS = 3;
+
+   private static final String[] MERCHANTS = { "ICA", "Rusta", "IKEA", "Elgiganten", "Apoteket" };
+   private static final String[] CATEGORIES = { "GROCERIES", "HOME", "HOME", "ELECTRONICS", "PHARMACY" };
+
+   @Override
+   public String name()
+   {
+      return "Parallel Import";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Memory-mapped, chunked, parallel CSV/NDJSON import with a Result per row";
+   }
+
+   @Override
+   public void run()
+   {
+      Path dir = null;
+      try
+      {
+         dir = Files.createTempDirectory("playground-import");
+         ParallelImporter importer = new ParallelImporter(Runtime.getRuntime().availableProcessors(), 8 * 1024 * 1024);
+
+         Path csv = dir.resolve("transactions.csv");
+         writeTransactionsCsv(csv);
+         report("transactions.csv", importer, csv, true, TransactionCsvParser::new);
+
+         Path ndjson = dir.resolve("transactions.ndjson");
+         writeTransactionsNdjson(ndjson);
+         report("transactions.ndjson", importer, ndjson, false, TransactionNdjsonParser::new);
+
+         Path profiles = dir.resolve("profiles.csv");
+         writeProfilesCsv(profiles);
+         report("profiles.csv", importer, profiles, true, CustomerProfileCsvParser::new);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+      finally
+      {
+         deleteQuietly(dir);
+      }
+   }
+
+   private static <T> void report(String label, ParallelImporter importer, Path file, boolean hasHeader,
+         Supplier<? extends RowParser<T>> parsers)
+   {
+      Map<Class<?>, LongAdder> errorsByType = new ConcurrentHashMap<>();
+      Queue<String> samples = new ConcurrentLinkedQueue<>();
+      AtomicInteger sampled = new AtomicInteger();
+
+      RowSink<T> sink = (offset, row) -> {
+         if (row instanceof Failure<T, DomainError> f)
+         {
+            errorsByType.computeIfAbsent(f.error().getClass(), _ -> new LongAdder()).increment();
+            if (sampled.getAndIncrement() < SAMPLE_ERRORS)
+            {
+               samples.add("@" + offset + " " + f.error());
+            }
+         }
+      };
+
+      ImportStats stats = importer.importFile(file, hasHeader, parsers, sink);
+
+      Output.printf("%-20s | rows=%d | failures=%d | chunks=%d | %.0f rows/s | %.1f MB/s | %d ms%n",
+            label, stats.rows(), stats.failures(), stats.chunks(), stats.rowsPerSecond(),
+            stats.megabytesPerSecond(), stats.elapsed().toMillis());
+      errorsByType.forEach((type, count) -> Output.println("    " + type.getSimpleName() + " -> " + count.sum()));
+      samples.forEach(s -> Output.println("    e.g. " + s));
+   }
+
+   private static void writeTransactionsCsv(Path file) throws IOException
+   {
+      long base = 1_767_268_800_000L;
+      try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+      {
+         w.write(TransactionCsvParser.HEADER);
+         w.newLine();
+         for (int i = 0; i < ROWS; i++)
+         {
+            int m = i % MERCHANTS.length;
+            String amount = (i % BAD_ROW_EVERY == 7) ? "12,50" : (i % 9_000) / 100 + "." + pad2(i % 100);
+            w.write("t-" + i + ",c-" + (i % 1_000) + "," + MERCHANTS[m] + "," + CATEGORIES[m] + ","
+                  + amount + ",SEK," + (base + i));
+            w.newLine();
+         }
+      }
+   }
+
+   private static void writeTransactionsNdjson(Path file) throws IOException
+   {
+      long base = 1_767_268_800_000L;
+      try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+      {
+         for (int i = 0; i < ROWS; i++)
+         {
+            int m = i % MERCHANTS.length;
+            String category = (i % BAD_ROW_EVERY == 3) ? "TOYS" : CATEGORIES[m];
+            w.write("{\"id\":\"t-" + i + "\",\"customerId\":\"c-" + (i % 1_000) + "\",\"merchant\":\"" + MERCHANTS[m]
+                  + "\",\"category\":\"" + category + "\",\"amount\":\"" + (i % 9_000) / 100 + "." + pad2(i % 100)
+                  + "\",\"currency\":\"SEK\",\"timestampEpochMs\":" + (base + i) + "}");
+            w.newLine();
+         }
+      }
+   }
+
+   private static void writeProfilesCsv(Path file) throws IOException
+   {
+      try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+      {
+         w.write(CustomerProfileCsvParser.HEADER);
+         w.newLine();
+         for (int i = 0; i < ROWS; i++)
+         {
+            String age = (i % BAD_ROW_EVERY == 11) ? "abc" : String.valueOf(16 + i % 80);
+            w.write(age + "," + (i * 37 % 150_000));
+            w.newLine();
+         }
+      }
+   }
+
+   private static String pad2(int n)
+   {
+      return n < 10 ? "0" + n : String.valueOf(n);
+   }
+
+   private static void deleteQuietly(Path dir)
+   {
+      if (dir == null)
+      {
+         return;
+      }
+      try (var files = Files.list(dir))
+      {
+         for (Path p : (Iterable<Path>) files::iterator)
+         {
+            Files.deleteIfExists(p);
+         }
+         Files.deleteIfExists(dir);
+      }
+      catch (IOException e)
+      {
+         Output.println("Could not clean up " + dir + ": " + e.getMessage());
+      }
+   }
+}
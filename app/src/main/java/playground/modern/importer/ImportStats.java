@@ -0,0 +1,25 @@
+package playground.modern.importer;
+
+import java.time.Duration;
+import java.util.Objects;
+
+
+public record ImportStats(long rows, long failures, long bytes, int chunks, Duration elapsed)
+{
+   public ImportStats
+   {
+      Objects.requireNonNull(elapsed);
+   }
+
+   public double rowsPerSecond()
+   {
+      long nanos = Math.max(1, elapsed.toNanos());
+      return rows * 1_000_000_000.0 / nanos;
+   }
+
+   public double megabytesPerSecond()
+   {
+      long nanos = Math.max(1, elapsed.toNanos());
+      return bytes / (1024.0 * 1024.0) * 1_000_000_000.0 / nanos;
+   }
+}
@@ -0,0 +1,201 @@
+package playground.modern.importer;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+
+/**
+ * Imports large line-oriented files (CSV, NDJSON) in parallel.
+ * <p>
+ * The file is split into newline-aligned chunks ({@link ChunkSplitter}); each chunk is memory-mapped
+ * and parsed on a worker thread with its own {@link RowParser}. Every row, good or bad, is handed to
+ * the {@link RowSink} as it is parsed, so a bad row never stops the import and nothing accumulates
+ * in the importer.
+ * <p>
+ * Memory stays bounded regardless of file size: at most {@code parallelism * 2} chunks are mapped at
+ * a time, and each worker reuses a single line buffer.
+ */
+public final class ParallelImporter
+{
+   public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+
+   private final int parallelism;
+   private final int chunkSize;
+
+   public ParallelImporter(int parallelism, int chunkSize)
+   {
+      if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0");
+      if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be > 0");
+      this.parallelism = parallelism;
+      this.chunkSize = chunkSize;
+   }
+
+   public ParallelImporter()
+   {
+      this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+   }
+
+   /**
+    * Imports {@code file}, skipping the first line when {@code hasHeader} is set.
+    * Blocks until every row has been delivered to {@code sink}.
+    */
+   public <T> ImportStats importFile(Path file, boolean hasHeader, Supplier<? extends RowParser<T>> parsers, RowSink<T> sink)
+   {
+      Objects.requireNonNull(file);
+      Objects.requireNonNull(parsers);
+      Objects.requireNonNull(sink);
+
+      long start = System.nanoTime();
+      LongAdder rows = new LongAdder();
+      LongAdder failures = new LongAdder();
+      // One per worker thread, for the whole import; the pool's threads end with it
+      ThreadLocal<LineBuffer> lineBuffers = ThreadLocal.withInitial(LineBuffer::new);
+
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+           ExecutorService workers = Executors.newFixedThreadPool(parallelism))
+      {
+         List<FileChunk> chunks = ChunkSplitter.split(channel, chunkSize);
+         Semaphore inFlight = new Semaphore(parallelism * 2);
+         List<Future<?>> pending = new ArrayList<>(chunks.size());
+
+         for (FileChunk chunk : chunks)
+         {
+            inFlight.acquireUninterruptibly();
+            boolean skipFirstLine = hasHeader && chunk.offset() == 0;
+            pending.add(workers.submit(() -> {
+               try
+               {
+                  parseChunk(channel, chunk, skipFirstLine, parsers.get(), sink, lineBuffers.get(), rows, failures);
+               }
+               finally
+               {
+                  inFlight.release();
+               }
+            }));
+         }
+
+         for (Future<?> f : pending)
+         {
+            awaitChunk(f);
+         }
+
+         return new ImportStats(rows.sum(), failures.sum(), channel.size(), chunks.size(),
+               Duration.ofNanos(System.nanoTime() - start));
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static <T> void parseChunk(
+         FileChannel channel,
+         FileChunk chunk,
+         boolean skipFirstLine,
+         RowParser<T> parser,
+         RowSink<T> sink,
+         LineBuffer lineBuffer,
+         LongAdder rows,
+         LongAdder failures
+   ) {
+      MappedByteBuffer buffer;
+      try
+      {
+         buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.offset(), chunk.length());
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+
+      int limit = buffer.limit();
+      int lineStart = 0;
+      boolean skip = skipFirstLine;
+
+      while (lineStart < limit)
+      {
+         int lineEnd = lineStart;
+         while (lineEnd < limit && buffer.get(lineEnd) != '\n')
+         {
+            lineEnd++;
+         }
+         int next = lineEnd + 1;
+         if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r')
+         {
+            lineEnd--;
+         }
+
+         int length = lineEnd - lineStart;
+         if (skip || length == 0)
+         {
+            skip = false;
+         }
+         else
+         {
+            byte[] line = lineBuffer.fit(length);
+            buffer.get(lineStart, line, 0, length);
+
+            Result<T, DomainError> row = parser.parse(line, 0, length);
+            rows.increment();
+            if (row.isFailure())
+            {
+               failures.increment();
+            }
+            sink.accept(chunk.offset() + lineStart, row);
+         }
+         lineStart = next;
+      }
+   }
+
+   /**
+    * A worker's line buffer, grown to the longest line it has seen.
+    */
+   private static final class LineBuffer
+   {
+      private byte[] bytes = new byte[256];
+
+      byte[] fit(int length)
+      {
+         if (length > bytes.length)
+         {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+         }
+         return bytes;
+      }
+   }
+
+   private static void awaitChunk(Future<?> future)
+   {
+      try
+      {
+         future.get();
+      }
+      catch (InterruptedException ie)
+      {
+         Thread.currentThread().interrupt();
+         throw new RuntimeException("Interrupted while importing", ie);
+      }
+      catch (ExecutionException ee)
+      {
+         throw new RuntimeException("Chunk import failed", ee.getCause());
+      }
+   }
+}
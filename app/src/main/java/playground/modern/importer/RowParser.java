@@ -0,0 +1,17 @@
+package playground.modern.importer;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+
+/**
+ * Parses one line (without its line terminator) from a byte range.
+ * <p>
+ * A parser instance is used by a single thread at a time, so implementations may keep
+ * reusable scratch state; the importer creates one instance per chunk.
+ */
+@FunctionalInterface
+public interface RowParser<T>
+{
+   Result<T, DomainError> parse(byte[] line, int from, int to);
+}
@@ -0,0 +1,17 @@
+package playground.modern.importer;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+
+/**
+ * Receives every parsed row, good or bad. Called concurrently from worker threads.
+ * <p>
+ * {@code lineOffset} is the byte offset of the start of the line in the file; chunks are parsed
+ * in parallel, so absolute line numbers are not known while importing.
+ */
+@FunctionalInterface
+public interface RowSink<T>
+{
+   void accept(long lineOffset, Result<T, DomainError> row);
+}
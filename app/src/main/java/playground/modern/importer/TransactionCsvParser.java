@@ -0,0 +1,40 @@
+package playground.modern.importer;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+import playground.modern.streams.models.Transaction;
+
+
+/**
+ * Parses {@code id,customerId,merchant,category,amount,currency,timestampEpochMs} rows.
+ * No quoting: fields must not contain commas.
+ */
+public final class TransactionCsvParser implements RowParser<Transaction>
+{
+   public static final String HEADER = "id,customerId,merchant,category,amount,currency,timestampEpochMs";
+
+   private static final int COLUMNS = 7;
+
+   private final int[] bounds = new int[COLUMNS + 1];
+   private final TransactionRows rows = new TransactionRows();
+
+   @Override
+   public Result<Transaction, DomainError> parse(byte[] line, int from, int to)
+   {
+      int columns = CsvFields.split(line, from, to, bounds);
+      if (columns != COLUMNS)
+      {
+         return Result.err(new DomainError.ParseError("row", TransactionRows.text(line, from, to),
+               "Expected " + COLUMNS + " columns, got " + columns));
+      }
+
+      return rows.build(line,
+            CsvFields.start(bounds, 0), CsvFields.end(bounds, 0),
+            CsvFields.start(bounds, 1), CsvFields.end(bounds, 1),
+            CsvFields.start(bounds, 2), CsvFields.end(bounds, 2),
+            CsvFields.start(bounds, 3), CsvFields.end(bounds, 3),
+            CsvFields.start(bounds, 4), CsvFields.end(bounds, 4),
+            CsvFields.start(bounds, 5), CsvFields.end(bounds, 5),
+            CsvFields.start(bounds, 6), CsvFields.end(bounds, 6));
+   }
+}
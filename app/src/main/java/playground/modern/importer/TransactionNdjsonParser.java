@@ -0,0 +1,170 @@
+package playground.modern.importer;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+import playground.modern.streams.models.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/**
+ * Parses one flat JSON object per line, e.g.
+ * <pre>
+ * {"id":"t-1","customerId":"c-1","merchant":"ICA","category":"GROCERIES","amount":"45.90","currency":"SEK","timestampEpochMs":1767268800000}
+ * </pre>
+ * Values may be strings or bare numbers. Nested objects, arrays and escape sequences are rejected:
+ * this is a scanner for a fixed export format, not a general JSON parser.
+ */
+public final class TransactionNdjsonParser implements RowParser<Transaction>
+{
+   private static final byte[][] KEYS = {
+         ascii("id"), ascii("customerId"), ascii("merchant"), ascii("category"),
+         ascii("amount"), ascii("currency"), ascii("timestampEpochMs")
+   };
+
+   // [2 * key] = value start, [2 * key + 1] = value end
+   private final int[] values = new int[KEYS.length * 2];
+   private final TransactionRows rows = new TransactionRows();
+
+   @Override
+   public Result<Transaction, DomainError> parse(byte[] line, int from, int to)
+   {
+      Arrays.fill(values, -1);
+
+      int i = skipWhitespace(line, from, to);
+      if (i == to || line[i] != '{')
+      {
+         return malformed(line, from, to, "Expected '{'");
+      }
+      i = skipWhitespace(line, i + 1, to);
+
+      while (i < to && line[i] != '}')
+      {
+         // key
+         if (line[i] != '"')
+         {
+            return malformed(line, from, to, "Expected a quoted key");
+         }
+         int keyFrom = i + 1;
+         int keyTo = indexOfQuote(line, keyFrom, to);
+         if (keyTo < 0)
+         {
+            return malformed(line, from, to, "Unterminated key");
+         }
+         i = skipWhitespace(line, keyTo + 1, to);
+         if (i == to || line[i] != ':')
+         {
+            return malformed(line, from, to, "Expected ':'");
+         }
+         i = skipWhitespace(line, i + 1, to);
+         if (i == to)
+         {
+            return malformed(line, from, to, "Missing value");
+         }
+
+         // value
+         int valueFrom;
+         int valueTo;
+         if (line[i] == '"')
+         {
+            valueFrom = i + 1;
+            valueTo = indexOfQuote(line, valueFrom, to);
+            if (valueTo < 0)
+            {
+               return malformed(line, from, to, "Unterminated string value");
+            }
+            i = valueTo + 1;
+         }
+         else
+         {
+            if (line[i] == '{' || line[i] == '[')
+            {
+               return malformed(line, from, to, "Nested values are not supported");
+            }
+            valueFrom = i;
+            while (i < to && line[i] != ',' && line[i] != '}' && line[i] > ' ')
+            {
+               i++;
+            }
+            valueTo = i;
+         }
+
+         int key = keyIndex(line, keyFrom, keyTo);
+         if (key >= 0)
+         {
+            values[2 * key] = valueFrom;
+            values[2 * key + 1] = valueTo;
+         }
+
+         i = skipWhitespace(line, i, to);
+         if (i < to && line[i] == ',')
+         {
+            i = skipWhitespace(line, i + 1, to);
+         }
+         else if (i == to || line[i] != '}')
+         {
+            return malformed(line, from, to, "Expected ',' or '}'");
+         }
+      }
+      if (i == to)
+      {
+         return malformed(line, from, to, "Expected '}'");
+      }
+
+      for (int k = 0; k < KEYS.length; k++)
+      {
+         if (values[2 * k] < 0)
+         {
+            return TransactionRows.missing(new String(KEYS[k], StandardCharsets.US_ASCII));
+         }
+      }
+
+      return rows.build(line,
+            values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7],
+            values[8], values[9], values[10], values[11], values[12], values[13]);
+   }
+
+   private static int keyIndex(byte[] line, int from, int to)
+   {
+      for (int k = 0; k < KEYS.length; k++)
+      {
+         byte[] key = KEYS[k];
+         if (key.length == to - from && Arrays.equals(key, 0, key.length, line, from, to))
+         {
+            return k;
+         }
+      }
+      return -1;
+   }
+
+   // Escapes are not supported, so a backslash is treated as "no closing quote".
+   private static int indexOfQuote(byte[] line, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         if (line[i] == '"') return i;
+         if (line[i] == '\\') return -1;
+      }
+      return -1;
+   }
+
+   private static byte[] ascii(String s)
+   {
+      return s.getBytes(StandardCharsets.US_ASCII);
+   }
+
+   private static int skipWhitespace(byte[] line, int from, int to)
+   {
+      while (from < to && line[from] >= 0 && line[from] <= ' ')
+      {
+         from++;
+      }
+      return from;
+   }
+
+   private static <T> Result<T, DomainError> malformed(byte[] line, int from, int to, String message)
+   {
+      return Result.err(new DomainError.ParseError("row", TransactionRows.text(line, from, to), message));
+   }
+}
@@ -0,0 +1,134 @@
+package playground.modern.importer;
+
+import playground.modern.result.NumberParsers;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Failure;
+import playground.modern.result.models.Result;
+import playground.modern.streams.models.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Currency;
+
+
+/**
+ * Builds a {@link Transaction} from field byte ranges; shared by the CSV and NDJSON parsers.
+ * Amounts are decimal major units ({@code "45.90"}) converted to minor units; timestamps are epoch millis.
+ */
+final class TransactionRows
+{
+   private static final Transaction.Category[] CATEGORIES = Transaction.Category.values();
+   private static final byte[][] CATEGORY_NAMES = new byte[CATEGORIES.length][];
+
+   static
+   {
+      for (int i = 0; i < CATEGORIES.length; i++)
+      {
+         CATEGORY_NAMES[i] = CATEGORIES[i].name().getBytes(StandardCharsets.US_ASCII);
+      }
+   }
+
+   // Single-entry cache: imports are usually dominated by one currency.
+   private Currency lastCurrency;
+
+   Result<Transaction, DomainError> build(
+         byte[] b,
+         int idFrom, int idTo,
+         int customerFrom, int customerTo,
+         int merchantFrom, int merchantTo,
+         int categoryFrom, int categoryTo,
+         int amountFrom, int amountTo,
+         int currencyFrom, int currencyTo,
+         int timestampFrom, int timestampTo
+   ) {
+      if (idFrom == idTo) return missing("id");
+      if (customerFrom == customerTo) return missing("customerId");
+      if (merchantFrom == merchantTo) return missing("merchant");
+
+      Transaction.Category category = category(b, categoryFrom, categoryTo);
+      if (category == null)
+      {
+         return Result.err(new DomainError.ParseError("category", text(b, categoryFrom, categoryTo), "Unknown category"));
+      }
+
+      Result<Long, DomainError> amount = NumberParsers.parseMinorUnits("amount", b, amountFrom, amountTo, 2);
+      if (amount instanceof Failure<Long, DomainError> f)
+      {
+         return f.retype();
+      }
+
+      Currency currency = currency(b, currencyFrom, currencyTo);
+      if (currency == null)
+      {
+         return Result.err(new DomainError.ParseError("currency", text(b, currencyFrom, currencyTo), "Unknown currency"));
+      }
+
+      Result<Long, DomainError> timestamp = NumberParsers.parseLong("timestamp", b, timestampFrom, timestampTo);
+      if (timestamp instanceof Failure<Long, DomainError> f)
+      {
+         return f.retype();
+      }
+
+      return Result.ok(new Transaction(
+            text(b, idFrom, idTo),
+            text(b, customerFrom, customerTo),
+            text(b, merchantFrom, merchantTo),
+            category,
+            amount.getOrThrow(),
+            currency,
+            Instant.ofEpochMilli(timestamp.getOrThrow())
+      ));
+   }
+
+   static String text(byte[] b, int from, int to)
+   {
+      return new String(b, from, to - from, StandardCharsets.UTF_8);
+   }
+
+   static <T> Result<T, DomainError> missing(String field)
+   {
+      return Result.err(new DomainError.ValidationError(field, "Must not be empty"));
+   }
+
+   private static Transaction.Category category(byte[] b, int from, int to)
+   {
+      for (int i = 0; i < CATEGORY_NAMES.length; i++)
+      {
+         byte[] name = CATEGORY_NAMES[i];
+         if (name.length == to - from && Arrays.equals(name, 0, name.length, b, from, to))
+         {
+            return CATEGORIES[i];
+         }
+      }
+      return null;
+   }
+
+   private Currency currency(byte[] b, int from, int to)
+   {
+      if (to - from != 3)
+      {
+         return null;
+      }
+      Currency cached = lastCurrency;
+      if (cached != null)
+      {
+         String code = cached.getCurrencyCode();
+         if (code.charAt(0) == b[from] && code.charAt(1) == b[from + 1] && code.charAt(2) == b[from + 2])
+         {
+            return cached;
+         }
+      }
+      try
+      {
+         Currency currency = Currency.getInstance(new String(b, from, 3, StandardCharsets.US_ASCII));
+         lastCurrency = currency;
+         return currency;
+      }
+      catch (IllegalArgumentException e)
+      {
+         // Currency has no non-throwing lookup; unknown codes are rare compared to cache hits.
+         return null;
+      }
+   }
+}
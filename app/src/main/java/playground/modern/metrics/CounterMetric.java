@@ -0,0 +1,42 @@
+package playground.modern.metrics;
+
+import playground.modern.concurrency.counters.Counter;
+import playground.modern.concurrency.counters.CounterKind;
+
+
+/**
+ * Monotonic counter on cache-line-padded stripes ({@link CounterKind#STRIPED}): increments from different
+ * threads don't contend, reads sum the stripes.
+ */
+public final class CounterMetric implements Metric
+{
+   private final MetricId id;
+   private final Counter counter = CounterKind.STRIPED.create();
+
+   CounterMetric(MetricId id)
+   {
+      this.id = id;
+   }
+
+   @Override
+   public MetricId id()
+   {
+      return id;
+   }
+
+   public void inc()
+   {
+      counter.inc();
+   }
+
+   public void add(long delta)
+   {
+      if (delta < 0) throw new IllegalArgumentException("Counters only go up: " + delta);
+      counter.add(delta);
+   }
+
+   public long value()
+   {
+      return counter.get();
+   }
+}
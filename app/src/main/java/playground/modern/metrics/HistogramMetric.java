@@ -0,0 +1,82 @@
+package playground.modern.metrics;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+/**
+ * Lock-free histogram of non-negative longs (log-linear buckets, see {@link HistogramSnapshot}).
+ * <p>
+ * Recording is two atomic adds and, only for a new maximum, a CAS, on one of a few stripes picked by thread
+ * id, so concurrent writers rarely touch the same cells. Nothing is allocated per sample; {@link #snapshot()}
+ * sums the stripes into a new, mergeable {@link HistogramSnapshot}.
+ */
+public final class HistogramMetric implements Metric
+{
+   private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+   private static final int MAX_STRIPES = 8;
+
+   // per stripe: [bucket counts..., sum, max]
+   private static final int SUM = HistogramSnapshot.BUCKETS;
+   private static final int MAX = SUM + 1;
+
+   private final MetricId id;
+   private final long[][] stripes;
+   private final int mask;
+
+   HistogramMetric(MetricId id)
+   {
+      this.id = id;
+      int cpus = Runtime.getRuntime().availableProcessors();
+      int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, cpus - 1)) << 1);
+      this.mask = stripeCount - 1;
+      this.stripes = new long[stripeCount][MAX + 1];
+   }
+
+   @Override
+   public MetricId id()
+   {
+      return id;
+   }
+
+   /**
+    * Records {@code value}; negative values (e.g. from a clock step) are recorded as 0.
+    */
+   public void record(long value)
+   {
+      long v = Math.max(0, value);
+      long[] stripe = stripes[stripe()];
+      CELLS.getAndAdd(stripe, HistogramSnapshot.bucketOf(v), 1L);
+      CELLS.getAndAdd(stripe, SUM, v);
+      long max = (long) CELLS.getOpaque(stripe, MAX);
+      while (v > max && !CELLS.weakCompareAndSet(stripe, MAX, max, v))
+      {
+         max = (long) CELLS.getOpaque(stripe, MAX);
+      }
+   }
+
+   public HistogramSnapshot snapshot()
+   {
+      long[] counts = new long[HistogramSnapshot.BUCKETS];
+      long sum = 0;
+      long max = 0;
+      for (long[] stripe : stripes)
+      {
+         for (int i = 0; i < counts.length; i++)
+         {
+            counts[i] += (long) CELLS.getVolatile(stripe, i);
+         }
+         sum += (long) CELLS.getVolatile(stripe, SUM);
+         max = Math.max(max, (long) CELLS.getVolatile(stripe, MAX));
+      }
+      return new HistogramSnapshot(counts, sum, max);
+   }
+
+   private int stripe()
+   {
+      long id = Thread.currentThread().threadId();
+      // Fibonacci hashing spreads sequential thread ids across stripes (as in StripedCounter)
+      int h = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+      return h & mask;
+   }
+}
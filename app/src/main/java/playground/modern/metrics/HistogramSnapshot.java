@@ -0,0 +1,109 @@
+package playground.modern.metrics;
+
+import java.util.Arrays;
+
+
+/**
+ * Immutable, mergeable copy of a {@link HistogramMetric}.
+ * <p>
+ * Log-linear buckets: values below 16 are exact, above that every power of two is split into 16 buckets, so a
+ * percentile is reported within 1/16 (6.25%) above the true value. Snapshots of the same metric from different
+ * processes or time windows can be {@link #merge merged} bucket by bucket.
+ */
+public final class HistogramSnapshot
+{
+   static final int SUB_BUCKET_BITS = 4;
+   static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+   public static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[BUCKETS], 0, 0);
+
+   private final long[] counts;
+   private final long count;
+   private final long sum;
+   private final long max;
+
+   HistogramSnapshot(long[] counts, long sum, long max)
+   {
+      this.counts = counts;
+      this.count = Arrays.stream(counts).sum();
+      this.sum = sum;
+      this.max = max;
+   }
+
+   public HistogramSnapshot merge(HistogramSnapshot other)
+   {
+      long[] merged = counts.clone();
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         merged[i] += other.counts[i];
+      }
+      return new HistogramSnapshot(merged, sum + other.sum, Math.max(max, other.max));
+   }
+
+   public long count()
+   {
+      return count;
+   }
+
+   public long sum()
+   {
+      return sum;
+   }
+
+   public long max()
+   {
+      return max;
+   }
+
+   public double mean()
+   {
+      return count == 0 ? Double.NaN : (double) sum / count;
+   }
+
+   /**
+    * Value at or below which {@code quantile} (0..1) of the samples fall, clamped to the exact maximum.
+    */
+   public long quantile(double quantile)
+   {
+      if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("quantile must be in [0, 1]");
+      if (count == 0)
+      {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(quantile * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         seen += counts[i];
+         if (seen >= rank)
+         {
+            return Math.min(highestValueIn(i), max);
+         }
+      }
+      return max;
+   }
+
+   static int bucketOf(long value)
+   {
+      if (value < SUB_BUCKETS)
+      {
+         return (int) value;
+      }
+      int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+      int top = (int) (value >>> shift); // in [16, 32)
+      return SUB_BUCKETS + shift * SUB_BUCKETS + (top - SUB_BUCKETS);
+   }
+
+   private static long highestValueIn(int bucket)
+   {
+      if (bucket < SUB_BUCKETS)
+      {
+         return bucket;
+      }
+      int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+      long top = (bucket - SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+      long highest = ((top + 1) << shift) - 1;
+      return highest < 0 ? Long.MAX_VALUE : highest;
+   }
+}
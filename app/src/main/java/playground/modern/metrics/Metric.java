@@ -0,0 +1,11 @@
+package playground.modern.metrics;
+
+
+/**
+ * A registered metric handle. Handles are resolved once (usually into a static final field) and then
+ * recorded into without any lookup or allocation.
+ */
+public sealed interface Metric permits CounterMetric, HistogramMetric, TimerMetric
+{
+   MetricId id();
+}
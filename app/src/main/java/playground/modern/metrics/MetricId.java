@@ -0,0 +1,50 @@
+package playground.modern.metrics;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+
+/**
+ * Identity of a metric series: a Prometheus-style name plus tags, e.g.
+ * {@code orders_placed_total{status="paid"}}. Tags are sorted, so the order they are given in doesn't matter.
+ */
+public record MetricId(String name, SortedMap<String, String> tags)
+{
+   private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+   private static final Pattern TAG = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+   public MetricId
+   {
+      Objects.requireNonNull(name);
+      if (!NAME.matcher(name).matches()) throw new IllegalArgumentException("Invalid metric name: " + name);
+      TreeMap<String, String> copy = new TreeMap<>();
+      tags.forEach((k, v) -> {
+         if (!TAG.matcher(k).matches() || k.startsWith("__")) throw new IllegalArgumentException("Invalid tag name: " + k);
+         copy.put(k, Objects.requireNonNull(v, "tag value"));
+      });
+      tags = Collections.unmodifiableSortedMap(copy);
+   }
+
+   /**
+    * {@code of("orders_placed_total", "status", "paid")}: tags as alternating names and values.
+    */
+   public static MetricId of(String name, String... tagPairs)
+   {
+      if (tagPairs.length % 2 != 0) throw new IllegalArgumentException("Tags must be name/value pairs");
+      TreeMap<String, String> tags = new TreeMap<>();
+      for (int i = 0; i < tagPairs.length; i += 2)
+      {
+         if (tags.put(tagPairs[i], tagPairs[i + 1]) != null) throw new IllegalArgumentException("Duplicate tag: " + tagPairs[i]);
+      }
+      return new MetricId(name, tags);
+   }
+
+   @Override
+   public String toString()
+   {
+      return tags.isEmpty() ? name : name + tags;
+   }
+}
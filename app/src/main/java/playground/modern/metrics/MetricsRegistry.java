@@ -0,0 +1,71 @@
+package playground.modern.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+
+/**
+ * Metrics by {@link MetricId}. Asking twice for the same name and tags returns the same handle; asking for an
+ * existing name with a different metric type fails, so an exported name always has one type.
+ * <p>
+ * Lookups allocate (the id) and hash, so resolve handles once, e.g.
+ * {@code private static final CounterMetric PAID = MetricsRegistry.global().counter("orders_placed_total", "status", "paid");}
+ * and only call {@code inc()}/{@code record()} on the hot path.
+ */
+public final class MetricsRegistry
+{
+   private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+   private final Map<MetricId, Metric> metrics = new ConcurrentHashMap<>();
+   private final Map<String, Class<? extends Metric>> types = new ConcurrentHashMap<>();
+
+   /**
+    * The process-wide registry used by the instrumented order, payment and streams code.
+    */
+   public static MetricsRegistry global()
+   {
+      return GLOBAL;
+   }
+
+   public CounterMetric counter(String name, String... tagPairs)
+   {
+      return register(MetricId.of(name, tagPairs), CounterMetric.class, CounterMetric::new);
+   }
+
+   public HistogramMetric histogram(String name, String... tagPairs)
+   {
+      return register(MetricId.of(name, tagPairs), HistogramMetric.class, HistogramMetric::new);
+   }
+
+   /**
+    * A timer; by Prometheus convention its name should end in {@code _seconds}.
+    */
+   public TimerMetric timer(String name, String... tagPairs)
+   {
+      return register(MetricId.of(name, tagPairs), TimerMetric.class, TimerMetric::new);
+   }
+
+   /**
+    * Every registered metric, sorted by name and then tags.
+    */
+   public List<Metric> metrics()
+   {
+      List<Metric> result = new ArrayList<>(metrics.values());
+      result.sort(Comparator.comparing((Metric m) -> m.id().name()).thenComparing(m -> m.id().tags().toString()));
+      return result;
+   }
+
+   private <M extends Metric> M register(MetricId id, Class<M> type, Function<MetricId, M> factory)
+   {
+      Class<? extends Metric> existing = types.putIfAbsent(id.name(), type);
+      if (existing != null && existing != type)
+      {
+         throw new IllegalArgumentException(id.name() + " is already registered as a " + existing.getSimpleName());
+      }
+      return type.cast(metrics.computeIfAbsent(id, factory));
+   }
+}
@@ -0,0 +1,233 @@
+package playground.modern.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Snapshots a {@link MetricsRegistry} in the Prometheus text exposition format (version 0.0.4):
+ * - counters as {@code counter}
+ * - histograms and timers as {@code summary} (quantiles 0.5, 0.9, 0.99, 0.999 plus {@code _sum}/{@code _count}),
+ *   with the exact maximum as a separate {@code <name>_max} gauge; timers are converted to seconds
+ * <p>
+ * The text can be written to a file (atomically, for a node-exporter style textfile collector) or served at
+ * {@code /metrics} by a local JDK {@link HttpServer}.
+ */
+public final class PrometheusExporter
+{
+   public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+   private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+   private final MetricsRegistry registry;
+
+   public PrometheusExporter(MetricsRegistry registry)
+   {
+      this.registry = Objects.requireNonNull(registry);
+   }
+
+   public String scrape()
+   {
+      StringBuilder out = new StringBuilder(4096);
+      List<Metric> metrics = registry.metrics(); // sorted by name, so each family is one run
+      for (int from = 0; from < metrics.size(); )
+      {
+         String name = metrics.get(from).id().name();
+         int to = from;
+         while (to < metrics.size() && metrics.get(to).id().name().equals(name))
+         {
+            to++;
+         }
+         family(out, name, metrics.subList(from, to));
+         from = to;
+      }
+      return out.toString();
+   }
+
+   /**
+    * Writes a scrape to {@code file} via a temp file and an atomic move, so readers never see half a file.
+    */
+   public void writeTo(Path file)
+   {
+      try
+      {
+         Path dir = file.toAbsolutePath().getParent();
+         Files.createDirectories(dir);
+         Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+         Files.writeString(tmp, scrape(), StandardCharsets.UTF_8);
+         Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * Serves {@code GET /metrics} on {@code address} (port 0 picks a free port) until the endpoint is closed.
+    */
+   public Endpoint serve(InetSocketAddress address)
+   {
+      try
+      {
+         HttpServer server = HttpServer.create(address, 0);
+         server.createContext("/metrics", exchange -> {
+            try (exchange)
+            {
+               if (!"GET".equals(exchange.getRequestMethod()))
+               {
+                  exchange.sendResponseHeaders(405, -1);
+                  return;
+               }
+               byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+               exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+               exchange.sendResponseHeaders(200, body.length);
+               try (OutputStream os = exchange.getResponseBody())
+               {
+                  os.write(body);
+               }
+            }
+         });
+         server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+         }));
+         server.start();
+         return new Endpoint(server);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * A running {@code /metrics} endpoint.
+    */
+   public static final class Endpoint implements AutoCloseable
+   {
+      private final HttpServer server;
+
+      private Endpoint(HttpServer server)
+      {
+         this.server = server;
+      }
+
+      public URI uri()
+      {
+         InetSocketAddress address = server.getAddress();
+         return URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/metrics");
+      }
+
+      @Override
+      public void close()
+      {
+         server.stop(0);
+         if (server.getExecutor() instanceof ExecutorService executor)
+         {
+            executor.shutdown();
+         }
+      }
+   }
+
+   // All series of one name; the registry guarantees they share a type.
+   private static void family(StringBuilder out, String name, List<Metric> series)
+   {
+      if (series.getFirst() instanceof CounterMetric)
+      {
+         type(out, name, "counter");
+         for (Metric metric : series)
+         {
+            sample(out, name, metric.id().tags(), null, Long.toString(((CounterMetric) metric).value()));
+         }
+         return;
+      }
+
+      List<HistogramSnapshot> snapshots = series.stream().map(PrometheusExporter::snapshot).toList();
+      double scale = series.getFirst() instanceof TimerMetric ? 1e-9 : 1;
+      type(out, name, "summary");
+      for (int i = 0; i < series.size(); i++)
+      {
+         Map<String, String> tags = series.get(i).id().tags();
+         HistogramSnapshot snapshot = snapshots.get(i);
+         for (double q : QUANTILES)
+         {
+            sample(out, name, tags, "quantile=\"" + q + "\"", number(snapshot.quantile(q) * scale));
+         }
+         sample(out, name + "_sum", tags, null, number(snapshot.sum() * scale));
+         sample(out, name + "_count", tags, null, Long.toString(snapshot.count()));
+      }
+      // the exact maximum is not part of a summary, so it is a gauge family of its own
+      type(out, name + "_max", "gauge");
+      for (int i = 0; i < series.size(); i++)
+      {
+         sample(out, name + "_max", series.get(i).id().tags(), null, number(snapshots.get(i).max() * scale));
+      }
+   }
+
+   private static HistogramSnapshot snapshot(Metric metric)
+   {
+      return switch (metric)
+      {
+         case HistogramMetric histogram -> histogram.snapshot();
+         case TimerMetric timer -> timer.snapshot();
+         case CounterMetric counter -> throw new IllegalArgumentException("not a summary: " + counter.id());
+      };
+   }
+
+   private static void type(StringBuilder out, String name, String type)
+   {
+      out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+   }
+
+   private static void sample(StringBuilder out, String name, Map<String, String> tags, String extra, String value)
+   {
+      out.append(name);
+      if (!tags.isEmpty() || extra != null)
+      {
+         out.append('{');
+         boolean comma = false;
+         for (Map.Entry<String, String> tag : tags.entrySet())
+         {
+            if (comma) out.append(',');
+            out.append(tag.getKey()).append("=\"").append(escape(tag.getValue())).append('"');
+            comma = true;
+         }
+         if (extra != null)
+         {
+            if (comma) out.append(',');
+            out.append(extra);
+         }
+         out.append('}');
+      }
+      out.append(' ').append(value).append('\n');
+   }
+
+   private static String number(double value)
+   {
+      return value == Math.rint(value) && Math.abs(value) < 1e15
+            ? Long.toString((long) value)
+            : String.format(Locale.ROOT, "%.9g", value);
+   }
+
+   private static String escape(String value)
+   {
+      return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+   }
+}
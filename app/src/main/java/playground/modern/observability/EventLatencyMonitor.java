@@ -0,0 +1,128 @@
+package playground.modern.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import playground.modern.concurrency.util.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * In-process consumer of the playground's JFR events: a {@link RecordingStream} that folds the duration of
+ * every event into a {@link LatencyHistogram} per key, so p50/p99/max are available while the application runs.
+ * <p>
+ * Events are keyed by type, and by their stage or payment type where they have one
+ * (e.g. {@code playground.OrderStage[charge]}). Stack traces are off; events shorter than the threshold
+ * (none by default) are dropped before they are written, which is what keeps an always-on monitor cheap.
+ * <p>
+ * The events are only enabled while a monitor (or any other recording) is running; otherwise their
+ * {@code shouldCommit()} is false, the event objects never escape and the JIT removes them.
+ * JFR delivers events to the stream in chunks (about once per second), so snapshots lag slightly;
+ * {@link #close()} waits until everything recorded so far has been consumed.
+ */
+public final class EventLatencyMonitor implements AutoCloseable
+{
+   // event name -> field that splits it into keys (null: one key per event type)
+   private static final Map<String, String> EVENTS = new LinkedHashMap<>();
+
+   static
+   {
+      EVENTS.put(OrderStageEvent.NAME, "stage");
+      EVENTS.put(PaymentChargeEvent.NAME, null);
+      EVENTS.put(OrderSaveEvent.NAME, null);
+      EVENTS.put(TransactionSummaryEvent.NAME, null);
+      EVENTS.put(PaymentProcessEvent.NAME, "paymentType");
+   }
+
+   private final RecordingStream stream = new RecordingStream();
+   // Written only by the stream's thread; each histogram is guarded by itself for snapshot().
+   private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+   private volatile boolean started;
+   private volatile boolean closed;
+
+   public EventLatencyMonitor()
+   {
+      this(Duration.ZERO);
+   }
+
+   public EventLatencyMonitor(Duration threshold)
+   {
+      stream.setOrdered(false);
+      stream.setReuse(true); // the handler copies what it needs, so JFR may reuse event objects
+      EVENTS.forEach((name, keyField) -> {
+         stream.enable(name).withoutStackTrace().withThreshold(threshold);
+         stream.onEvent(name, event -> record(key(event, name, keyField), event));
+      });
+   }
+
+   /**
+    * Starts recording and consuming on a background thread.
+    */
+   public EventLatencyMonitor start()
+   {
+      started = true;
+      stream.startAsync();
+      return this;
+   }
+
+   /**
+    * Current histograms, sorted by key.
+    */
+   public List<LatencySnapshot> snapshot()
+   {
+      List<LatencySnapshot> result = new ArrayList<>(histograms.size());
+      histograms.forEach((key, histogram) -> {
+         synchronized (histogram)
+         {
+            result.add(new LatencySnapshot(key, histogram.count(), histogram.percentile(50), histogram.percentile(99),
+                  histogram.max(), histogram.count() == 0 ? 0 : histogram.mean()));
+         }
+      });
+      result.sort((a, b) -> a.key().compareTo(b.key()));
+      return result;
+   }
+
+   /**
+    * Stops recording, waits until every recorded event has been aggregated, then releases the stream.
+    * Snapshots stay available afterwards.
+    */
+   @Override
+   public void close()
+   {
+      if (closed)
+      {
+         return;
+      }
+      closed = true;
+      if (started)
+      {
+         stream.stop();
+      }
+      stream.close();
+   }
+
+   private void record(String key, RecordedEvent event)
+   {
+      LatencyHistogram histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+      long nanos = Math.max(0, event.getDuration().toNanos());
+      synchronized (histogram)
+      {
+         histogram.record(nanos);
+      }
+   }
+
+   private static String key(RecordedEvent event, String name, String keyField)
+   {
+      if (keyField == null)
+      {
+         return name;
+      }
+      String value = event.getString(keyField);
+      return name + "[" + (value == null ? "?" : value) + "]";
+   }
+}
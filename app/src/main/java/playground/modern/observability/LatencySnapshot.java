@@ -0,0 +1,14 @@
+package playground.modern.observability;
+
+
+/**
+ * Latency of one event key (an event type, or one stage/type of it) as aggregated by {@link EventLatencyMonitor}.
+ */
+public record LatencySnapshot(String key, long count, long p50Nanos, long p99Nanos, long maxNanos, double meanNanos)
+{
+   public String summary()
+   {
+      return String.format("%-44s | n=%8d | mean=%9.1f us | p50=%9.1f us | p99=%9.1f us | max=%9.1f us",
+            key, count, meanNanos / 1_000.0, p50Nanos / 1_000.0, p99Nanos / 1_000.0, maxNanos / 1_000.0);
+   }
+}
@@ -0,0 +1,28 @@
+package playground.modern.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * One {@code OrderRepository.save} call.
+ */
+@Name(OrderSaveEvent.NAME)
+@Label("Order Save")
+@Category({ "Playground", "Orders" })
+@Description("An order written to the order repository")
+@StackTrace(false)
+public final class OrderSaveEvent extends Event
+{
+   public static final String NAME = "playground.OrderSave";
+
+   @Label("Order Id")
+   public String orderId;
+
+   @Label("Status")
+   public String status;
+}
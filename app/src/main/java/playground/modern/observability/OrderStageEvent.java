@@ -0,0 +1,44 @@
+package playground.modern.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * One stage of {@code PlaceOrderUseCase.handle}: {@link #CREATE}, {@link #VALIDATE}, {@link #CHARGE} or {@link #PERSIST}.
+ */
+@Name(OrderStageEvent.NAME)
+@Label("Order Stage")
+@Category({ "Playground", "Orders" })
+@Description("Duration of one stage of placing an order")
+@StackTrace(false)
+public final class OrderStageEvent extends Event
+{
+   public static final String NAME = "playground.OrderStage";
+
+   public static final String CREATE = "create";
+   public static final String VALIDATE = "validate";
+   public static final String CHARGE = "charge";
+   public static final String PERSIST = "persist";
+
+   @Label("Stage")
+   public String stage;
+
+   @Label("Order Id")
+   public String orderId;
+
+   @Label("Trace Id")
+   public String traceId;
+
+   public static OrderStageEvent start(String stage)
+   {
+      OrderStageEvent event = new OrderStageEvent();
+      event.stage = stage;
+      event.begin();
+      return event;
+   }
+}
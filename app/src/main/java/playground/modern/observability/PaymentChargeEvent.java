@@ -0,0 +1,34 @@
+package playground.modern.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * One {@code PaymentGateway.charge} call of the clean architecture order flow.
+ */
+@Name(PaymentChargeEvent.NAME)
+@Label("Payment Charge")
+@Category({ "Playground", "Orders" })
+@Description("A charge sent to the payment gateway and its outcome")
+@StackTrace(false)
+public final class PaymentChargeEvent extends Event
+{
+   public static final String NAME = "playground.PaymentCharge";
+
+   @Label("Customer Id")
+   public String customerId;
+
+   @Label("Currency")
+   public String currency;
+
+   @Label("Amount (minor units)")
+   public long amountMinor;
+
+   @Label("Approved")
+   public boolean approved;
+}
@@ -0,0 +1,31 @@
+package playground.modern.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * One {@code PaymentProcessor.process} call of the domain model.
+ */
+@Name(PaymentProcessEvent.NAME)
+@Label("Payment Process")
+@Category({ "Playground", "Payments" })
+@Description("A payment routed by type through the payment processor")
+@StackTrace(false)
+public final class PaymentProcessEvent extends Event
+{
+   public static final String NAME = "playground.PaymentProcess";
+
+   @Label("Payment Type")
+   public String paymentType;
+
+   @Label("Payment Id")
+   public String paymentId;
+
+   @Label("Status")
+   public String status;
+}
@@ -0,0 +1,32 @@
+package playground.modern.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * One run of {@code TransactionSummaryCollector}, from the creation of its first accumulator to the finisher.
+ */
+@Name(TransactionSummaryEvent.NAME)
+@Label("Transaction Summary")
+@Category({ "Playground", "Streams" })
+@Description("A stream collected into a TransactionSummary")
+@StackTrace(false)
+public final class TransactionSummaryEvent extends Event
+{
+   public static final String NAME = "playground.TransactionSummary";
+
+   @Label("Transactions")
+   public long transactions;
+
+   @Label("Merchants")
+   public int merchants;
+
+   @Label("Merged Accumulators")
+   @Description("Accumulators combined into the result; more than 1 for parallel streams")
+   public int accumulators;
+}
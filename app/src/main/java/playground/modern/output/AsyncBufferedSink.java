@@ -0,0 +1,266 @@
+package playground.modern.output;
+
+import playground.common.output.OutputSink;
+import playground.modern.concurrency.queues.MpscRingBuffer;
+
+import java.io.PrintStream;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Output sink that takes formatting and console I/O off the calling thread.
+ * <p>
+ * Callers only enqueue the line, or the format string with its arguments, into an {@link MpscRingBuffer}
+ * (one CAS, no lock). A single writer thread drains the queue in batches and formats into one
+ * {@link StringBuilder}. It then writes each batch to its target ({@code System.out} unless one is given) with a
+ * single print and flush.
+ * A caller only waits when the queue is full (back-pressure, counted in {@link #producerStalls()}) or when it calls
+ * {@link #flush()}.
+ * <p>
+ * Output written directly to {@code System.out} bypasses the queue and can overtake queued lines; flush first
+ * when the order matters. After {@link #close()} calls write through synchronously. Until then a shutdown hook
+ * writes whatever is still queued at exit; {@code close()} removes it.
+ */
+public final class AsyncBufferedSink implements OutputSink
+{
+   private static final int DEFAULT_CAPACITY = 16_384;
+   private static final int BATCH = 512;
+   private static final long IDLE_PARK_NANOS = 100_000_000;
+   private static final long FULL_PARK_NANOS = 10_000;
+
+   private record Formatted(String format, Object[] args)
+   {
+   }
+
+   private record Flush(CountDownLatch done)
+   {
+   }
+
+   private final MpscRingBuffer<Object> queue;
+   private final PrintStream target;
+   private final Thread writer;
+   private final Thread shutdownHook;
+   private final StringBuilder text = new StringBuilder(8_192);
+   private final Formatter formatter = new Formatter(text);
+   private final AtomicLong producerStalls = new AtomicLong();
+
+   private volatile boolean writerParked;
+   private volatile boolean closed;
+
+   public AsyncBufferedSink()
+   {
+      this(DEFAULT_CAPACITY, null);
+   }
+
+   /**
+    * Writes to {@code target} instead of {@code System.out}.
+    */
+   public AsyncBufferedSink(PrintStream target)
+   {
+      this(DEFAULT_CAPACITY, Objects.requireNonNull(target));
+   }
+
+   /**
+    * @param target stream to write to, or null for {@code System.out} (looked up per batch)
+    */
+   public AsyncBufferedSink(int capacity, PrintStream target)
+   {
+      this.queue = new MpscRingBuffer<>(capacity);
+      this.target = target;
+      this.writer = Thread.ofPlatform().name("output-writer").daemon().start(this::drainLoop);
+      // Daemon writer: whatever is still queued at exit is written by the hook.
+      this.shutdownHook = new Thread(this::flush, "output-writer-flush");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
+   }
+
+   @Override
+   public void println(String line)
+   {
+      enqueue(line);
+   }
+
+   @Override
+   public void printf(String format, Object... args)
+   {
+      enqueue(new Formatted(format, args));
+   }
+
+   /**
+    * Waits until every line enqueued before this call has been written and the target flushed.
+    */
+   @Override
+   public void flush()
+   {
+      if (closed || Thread.currentThread() == writer)
+      {
+         out().flush();
+         return;
+      }
+      Flush marker = new Flush(new CountDownLatch(1));
+      enqueue(marker);
+      try
+      {
+         marker.done().await();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   @Override
+   public void close()
+   {
+      if (closed)
+      {
+         return;
+      }
+      flush();
+      closed = true;
+      removeShutdownHook();
+      LockSupport.unpark(writer);
+      try
+      {
+         writer.join();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private void removeShutdownHook()
+   {
+      try
+      {
+         Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      }
+      catch (IllegalStateException e)
+      {
+         // Already shutting down (close() called from another hook): the hook is running or about to
+      }
+   }
+
+   /**
+    * Number of times a caller found the queue full and had to wait for the writer.
+    */
+   public long producerStalls()
+   {
+      return producerStalls.get();
+   }
+
+   private void enqueue(Object entry)
+   {
+      if (closed)
+      {
+         synchronized (text)
+         {
+            append(entry);
+            writeBatch();
+         }
+         return;
+      }
+      while (!queue.offer(entry))
+      {
+         producerStalls.incrementAndGet();
+         LockSupport.unpark(writer);
+         LockSupport.parkNanos(FULL_PARK_NANOS);
+      }
+      if (writerParked)
+      {
+         LockSupport.unpark(writer);
+      }
+      if (closed)
+      {
+         // Raced with close(): the writer may be gone, so drain ourselves (consumers are serialized by the text lock).
+         synchronized (text)
+         {
+            queue.drainTo(this::append, Integer.MAX_VALUE);
+            writeBatch();
+         }
+      }
+   }
+
+   private void drainLoop()
+   {
+      while (true)
+      {
+         int drained;
+         synchronized (text)
+         {
+            drained = queue.drainTo(this::append, BATCH);
+            if (drained < BATCH)
+            {
+               writeBatch();
+            }
+         }
+         if (drained > 0)
+         {
+            continue;
+         }
+         if (closed)
+         {
+            return;
+         }
+
+         // Publish "parked" before the re-check so a producer either sees it and unparks us, or we see its entry.
+         writerParked = true;
+         if (queue.isEmpty() && !closed)
+         {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+         }
+         writerParked = false;
+      }
+   }
+
+   // Writer thread (or a caller after close), holding the text lock.
+   private void append(Object entry)
+   {
+      switch (entry)
+      {
+         case String line -> text.append(line).append(System.lineSeparator());
+         case Formatted f -> format(f);
+         case Flush f ->
+         {
+            writeBatch();
+            out().flush();
+            f.done().countDown();
+         }
+         default -> throw new IllegalStateException("Unexpected entry: " + entry);
+      }
+   }
+
+   private void format(Formatted f)
+   {
+      try
+      {
+         formatter.format(f.format(), f.args());
+      }
+      catch (IllegalFormatException e)
+      {
+         text.append("[bad format '").append(f.format()).append("': ").append(e.getMessage()).append(']')
+               .append(System.lineSeparator());
+      }
+   }
+
+   private void writeBatch()
+   {
+      if (!text.isEmpty())
+      {
+         PrintStream out = out();
+         out.print(text);
+         out.flush();
+         text.setLength(0);
+      }
+   }
+
+   private PrintStream out()
+   {
+      return target != null ? target : System.out;
+   }
+}
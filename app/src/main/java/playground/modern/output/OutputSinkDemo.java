@@ -0,0 +1,158 @@
+package playground.modern.output;
+
+import playground.common.Demo;
+import playground.common.output.ConsoleSink;
+import playground.common.output.NullSink;
+import playground.common.output.Output;
+import playground.common.output.OutputSink;
+import playground.modern.concurrency.util.Harness;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * What a demo's print costs the thread that calls it, per sink: console (synchronized PrintStream, formatting
+ * and a write per line), async (enqueue only; the writer formats and writes in batches) and null.
+ * The measured sinks write to a temp file, so the I/O is real but the terminal stays readable; {@code System.out}
+ * and {@link Output} are left alone, so demos running alongside (runParallel) are unaffected.
+ */
+public class OutputSinkDemo implements Demo
+{
+   // 4 threads x 2000 lines stay below the async queue's capacity: a burst, not a sustained flood
+   private static final int LINES_PER_THREAD = 2_000;
+   private static final int WARMUP_ROUNDS = 20;
+   private static final int ROUNDS = 9;
+
+   @Override
+   public String name()
+   {
+      return "Output Sinks";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Caller-side cost of printing: synchronous console vs lock-free async buffered sink vs null sink";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("OutputSinkDemo (printing off the timed path)");
+      Harness.bullet("Bursts of " + LINES_PER_THREAD + " printf lines per thread, median of " + ROUNDS
+            + " rounds, each sink writing to a temp file");
+      Output.println();
+
+      List<String> rows = new ArrayList<>();
+      Path file = tempFile();
+      try (PrintStream target = new PrintStream(new FileOutputStream(file.toFile()), true))
+      {
+         ConsoleSink console = ConsoleSink.to(target);
+         for (int threads : new int[] { 1, 4 })
+         {
+            rows.add(row("console", threads, console, false));
+            try (AsyncBufferedSink async = new AsyncBufferedSink(target))
+            {
+               rows.add(row("async (enqueue)", threads, async, false));
+               rows.add(row("async (+ flush)", threads, async, true));
+               rows.add(String.format("%-16s | %7s | %d producer stall(s)", "", "", async.producerStalls()));
+            }
+            rows.add(row("null", threads, NullSink.INSTANCE, false));
+         }
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+
+      Output.printf("%-16s | %7s | %12s%n", "sink", "threads", "ns/line/thr");
+      rows.forEach(Output::println);
+      Output.printf("%nWrote %,d bytes to %s%n", size(file), file);
+      Output.println();
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("console: every line formats, encodes and writes under the PrintStream lock; threads queue on it.");
+      Harness.bullet("async: the caller pays one CAS into the MPSC ring; the writer formats and writes in batches.");
+      Harness.bullet("async (+ flush) includes waiting for the writer; that is the cost a timed region no longer sees.");
+      Harness.bullet("Select it with -Dplayground.output=async (./gradlew runModern -PoutputSink=async); null discards everything.");
+   }
+
+   private static String row(String label, int threads, OutputSink sink, boolean flush)
+   {
+      for (int i = 0; i < WARMUP_ROUNDS; i++)
+      {
+         print(sink, threads, true);
+      }
+      long[] nanos = new long[ROUNDS];
+      for (int i = 0; i < ROUNDS; i++)
+      {
+         nanos[i] = print(sink, threads, flush);
+         sink.flush(); // the next round starts with an empty queue
+      }
+      Arrays.sort(nanos);
+      return String.format("%-16s | %7d | %12.1f", label, threads, (double) nanos[ROUNDS / 2] / LINES_PER_THREAD);
+   }
+
+   /**
+    * Wall time of {@code threads} threads each printing {@link #LINES_PER_THREAD} lines through {@code sink}.
+    */
+   private static long print(OutputSink sink, int threads, boolean flush)
+   {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> workers = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++)
+      {
+         int thread = t;
+         workers.add(Thread.ofPlatform().name("printer-" + t).start(() -> {
+            Harness.await(start, 60_000);
+            for (int i = 0; i < LINES_PER_THREAD; i++)
+            {
+               sink.printf("%-8s | thread=%d | i=%7d | %.3f ms%n", "row", thread, i, i / 1_000.0);
+            }
+         }));
+      }
+      long t0 = System.nanoTime();
+      start.countDown();
+      workers.forEach(w -> Harness.join(w, 60_000));
+      if (flush)
+      {
+         sink.flush();
+      }
+      return System.nanoTime() - t0;
+   }
+
+   private static Path tempFile()
+   {
+      try
+      {
+         Path file = Files.createTempFile("playground-output-", ".txt");
+         file.toFile().deleteOnExit();
+         return file;
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static long size(Path file)
+   {
+      try
+      {
+         return Files.size(file);
+      }
+      catch (IOException e)
+      {
+         return -1;
+      }
+   }
+}
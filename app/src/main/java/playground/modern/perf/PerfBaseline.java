@@ -0,0 +1,156 @@
+package playground.modern.perf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * The stored reference numbers the gate compares against, as CSV:
+ * <pre>
+ *   # environment=OpenJDK 64-Bit Server VM 25+36, linux/amd64, 8 cpus
+ *   benchmark,ns_per_op,min_ns_per_op,tolerance_pct
+ *   streams.collector.summary,38.214,33.870,10
+ * </pre>
+ * {@code tolerance_pct} is editable per benchmark; a benchmark without a row has no baseline yet. Numbers only
+ * mean something on the machine and JVM that produced them, which is what the {@code environment} comment records.
+ */
+public record PerfBaseline(String environment, Map<String, Entry> entries)
+{
+   private static final String HEADER = "benchmark,ns_per_op,min_ns_per_op,tolerance_pct";
+   private static final String ENVIRONMENT = "# environment=";
+
+   /**
+    * @param nsPerOp    median of the recorded samples
+    * @param minNsPerOp fastest recorded sample
+    */
+   public record Entry(double nsPerOp, double minNsPerOp, double tolerance)
+   {
+   }
+
+   public PerfBaseline
+   {
+      entries = Map.copyOf(entries);
+   }
+
+   public Optional<Entry> find(String benchmark)
+   {
+      return Optional.ofNullable(entries.get(benchmark));
+   }
+
+   /**
+    * Description of the current JVM and machine, in the form recorded in the baseline.
+    */
+   public static String currentEnvironment()
+   {
+      return System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + ", "
+            + System.getProperty("os.name").toLowerCase(Locale.ROOT) + "/" + System.getProperty("os.arch") + ", "
+            + Runtime.getRuntime().availableProcessors() + " cpus";
+   }
+
+   /**
+    * Baseline from the given results, each with its benchmark's default tolerance.
+    */
+   public static PerfBaseline of(List<PerfResult> results, Map<String, Double> tolerances)
+   {
+      Map<String, Entry> entries = new LinkedHashMap<>();
+      for (PerfResult r : results)
+      {
+         entries.put(r.name(), new Entry(r.nsPerOp(), r.minNsPerOp(), tolerances.getOrDefault(r.name(), PerfSuite.DEFAULT_TOLERANCE)));
+      }
+      return new PerfBaseline(currentEnvironment(), entries);
+   }
+
+   public static PerfBaseline read(Path file)
+   {
+      String environment = "unknown";
+      Map<String, Entry> entries = new LinkedHashMap<>();
+      List<String> lines;
+      try
+      {
+         lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+      for (int i = 0; i < lines.size(); i++)
+      {
+         String line = lines.get(i).strip();
+         if (line.startsWith(ENVIRONMENT))
+         {
+            environment = line.substring(ENVIRONMENT.length()).strip();
+         }
+         if (line.isEmpty() || line.startsWith("#") || line.equals(HEADER))
+         {
+            continue;
+         }
+         String[] cells = line.split(",");
+         if (cells.length != 4)
+         {
+            throw new IllegalArgumentException(file + ":" + (i + 1) + ": expected '" + HEADER + "', got '" + line + "'");
+         }
+         try
+         {
+            entries.put(cells[0].strip(),
+                  new Entry(Double.parseDouble(cells[1].strip()), Double.parseDouble(cells[2].strip()),
+                        Double.parseDouble(cells[3].strip()) / 100));
+         }
+         catch (NumberFormatException e)
+         {
+            throw new IllegalArgumentException(file + ":" + (i + 1) + ": " + e.getMessage(), e);
+         }
+      }
+      return new PerfBaseline(environment, entries);
+   }
+
+   /**
+    * Writes the baseline atomically, benchmarks sorted by name so diffs of the file stay small.
+    */
+   public void write(Path file)
+   {
+      StringBuilder out = new StringBuilder();
+      out.append("# Performance baseline for ./gradlew perfGate; regenerate with -PupdateBaseline\n");
+      out.append(ENVIRONMENT).append(environment).append('\n');
+      out.append(HEADER).append('\n');
+      entries.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(e -> out.append(String.format(Locale.ROOT,
+            "%s,%.3f,%.3f,%.0f%n", e.getKey(), e.getValue().nsPerOp(), e.getValue().minNsPerOp(),
+            e.getValue().tolerance() * 100)));
+      try
+      {
+         Path parent = file.toAbsolutePath().getParent();
+         Files.createDirectories(parent);
+         Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+         Files.writeString(tmp, out, StandardCharsets.UTF_8);
+         Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * Merges {@code results} into this baseline: measured benchmarks get the new number and keep their edited
+    * tolerance; benchmarks not measured this time keep their row.
+    */
+   public PerfBaseline update(List<PerfResult> results, Map<String, Double> tolerances)
+   {
+      Map<String, Entry> merged = new LinkedHashMap<>(entries);
+      for (PerfResult r : results)
+      {
+         double tolerance = find(r.name()).map(Entry::tolerance)
+               .orElse(tolerances.getOrDefault(r.name(), PerfSuite.DEFAULT_TOLERANCE));
+         merged.put(r.name(), new Entry(r.nsPerOp(), r.minNsPerOp(), tolerance));
+      }
+      return new PerfBaseline(currentEnvironment(), merged);
+   }
+}
@@ -0,0 +1,26 @@
+package playground.modern.perf;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * One entry of the {@link PerfSuite}: {@code setup} builds the fixture once and returns the body, and each call of
+ * the body performs {@code operations} operations of the hot path. The body returns a value derived from its work
+ * so the JIT cannot drop it.
+ *
+ * @param tolerance allowed slowdown of the median before the gate fails, as a fraction (0.10 = 10%); a baseline file
+ *                  may override it per benchmark
+ */
+public record PerfBenchmark(String name, int operations, double tolerance, Supplier<LongSupplier> setup)
+{
+   public PerfBenchmark
+   {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(setup);
+      if (name.isBlank() || name.contains(",")) throw new IllegalArgumentException("name must be non-blank without commas: " + name);
+      if (operations <= 0) throw new IllegalArgumentException("operations must be > 0");
+      if (tolerance < 0) throw new IllegalArgumentException("tolerance must be >= 0");
+   }
+}
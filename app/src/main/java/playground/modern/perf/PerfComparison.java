@@ -0,0 +1,59 @@
+package playground.modern.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+
+/**
+ * A measured benchmark against its baseline entry. It only counts as slower (or faster) when both its median and
+ * its fastest sample moved beyond the tolerance: a noisy run shifts the median, but rarely the fastest sample too.
+ *
+ * @param change    relative change of the median, (current - baseline) / baseline; positive is slower
+ * @param minChange the same for the fastest sample
+ */
+public record PerfComparison(String name, OptionalDouble baselineNsPerOp, PerfResult current, double tolerance,
+                             double change, double minChange, Status status)
+{
+   public enum Status
+   {
+      REGRESSED, IMPROVED, OK, NEW
+   }
+
+   /**
+    * Compares every result; {@code toleranceOverride}, when present, replaces all per-benchmark tolerances.
+    */
+   public static List<PerfComparison> compare(List<PerfResult> results, PerfBaseline baseline,
+                                              Map<String, Double> defaults,
+                                              Optional<Double> toleranceOverride)
+   {
+      List<PerfComparison> comparisons = new ArrayList<>(results.size());
+      for (PerfResult r : results)
+      {
+         Optional<PerfBaseline.Entry> entry = baseline.find(r.name());
+         double tolerance = toleranceOverride
+               .or(() -> entry.map(PerfBaseline.Entry::tolerance))
+               .orElse(defaults.getOrDefault(r.name(), PerfSuite.DEFAULT_TOLERANCE));
+         if (entry.isEmpty())
+         {
+            comparisons.add(new PerfComparison(r.name(), OptionalDouble.empty(), r, tolerance, 0, 0, Status.NEW));
+            continue;
+         }
+         double reference = entry.get().nsPerOp();
+         double change = (r.nsPerOp() - reference) / reference;
+         double minChange = (r.minNsPerOp() - entry.get().minNsPerOp()) / entry.get().minNsPerOp();
+         Status status = Math.min(change, minChange) > tolerance ? Status.REGRESSED
+               : Math.max(change, minChange) < -tolerance ? Status.IMPROVED
+               : Status.OK;
+         comparisons.add(new PerfComparison(r.name(), OptionalDouble.of(reference), r, tolerance, change, minChange, status));
+      }
+      return comparisons;
+   }
+
+   public boolean regressed()
+   {
+      return status == Status.REGRESSED;
+   }
+}
@@ -0,0 +1,92 @@
+package playground.modern.perf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Markdown report of a gate run: a verdict line, then one table row per benchmark with the slowest changes first,
+ * so the hot path that got slower is at the top.
+ */
+public final class PerfReport
+{
+   private PerfReport()
+   {
+   }
+
+   public static String markdown(List<PerfComparison> comparisons, PerfBaseline baseline, Path baselineFile)
+   {
+      long regressed = comparisons.stream().filter(PerfComparison::regressed).count();
+      long improved = comparisons.stream().filter(c -> c.status() == PerfComparison.Status.IMPROVED).count();
+      long added = comparisons.stream().filter(c -> c.status() == PerfComparison.Status.NEW).count();
+
+      StringBuilder out = new StringBuilder(4096);
+      out.append("# Performance gate\n\n");
+      out.append(regressed == 0
+            ? "**PASSED**: no benchmark is slower than its baseline beyond tolerance.\n\n"
+            : "**FAILED**: " + regressed + " benchmark(s) regressed beyond tolerance.\n\n");
+      out.append("- Run: ").append(Instant.now().truncatedTo(ChronoUnit.SECONDS)).append('\n');
+      out.append("- Baseline: `").append(baselineFile).append("`\n");
+      out.append("- Baseline environment: ").append(baseline.environment()).append('\n');
+      out.append("- Current environment: ").append(PerfBaseline.currentEnvironment()).append('\n');
+      out.append("- ").append(comparisons.size()).append(" benchmark(s): ").append(regressed).append(" regressed, ")
+            .append(improved).append(" improved, ").append(added).append(" without baseline\n");
+      if (!baseline.environment().equals(PerfBaseline.currentEnvironment()))
+      {
+         out.append("\n> The baseline was recorded on a different JVM or machine; differences may not be regressions.\n");
+      }
+
+      out.append("\n| Status | Benchmark | Baseline ns/op | Current ns/op | Change | Min change | Tolerance | Noise (IQR) |\n");
+      out.append("|---|---|---:|---:|---:|---:|---:|---:|\n");
+      comparisons.stream()
+            .sorted(Comparator.comparing((PerfComparison c) -> c.status() != PerfComparison.Status.REGRESSED)
+                  .thenComparing(Comparator.comparingDouble(PerfComparison::change).reversed()))
+            .forEach(c -> out.append(String.format(Locale.ROOT, "| %s | `%s` | %s | %.2f | %s | %s | ±%.0f%% | %.1f%% |%n",
+                  marker(c.status()), c.name(),
+                  c.baselineNsPerOp().isPresent() ? String.format(Locale.ROOT, "%.2f", c.baselineNsPerOp().getAsDouble()) : "-",
+                  c.current().nsPerOp(), percent(c, c.change()), percent(c, c.minChange()),
+                  c.tolerance() * 100, c.current().spread() * 100)));
+
+      out.append("\nChange compares medians, min change the fastest samples; a row is only slower or faster when both ")
+            .append("moved beyond its tolerance. Accept intended changes with `./gradlew perfGate -PupdateBaseline`.\n");
+      return out.toString();
+   }
+
+   public static void write(Path file, String markdown)
+   {
+      try
+      {
+         Path parent = file.toAbsolutePath().getParent();
+         Files.createDirectories(parent);
+         Files.writeString(file, markdown, StandardCharsets.UTF_8);
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static String percent(PerfComparison c, double change)
+   {
+      return c.status() == PerfComparison.Status.NEW ? "new" : String.format(Locale.ROOT, "%+.1f%%", change * 100);
+   }
+
+   private static String marker(PerfComparison.Status status)
+   {
+      return switch (status)
+      {
+         case REGRESSED -> "**slower**";
+         case IMPROVED -> "faster";
+         case OK -> "ok";
+         case NEW -> "new";
+      };
+   }
+}
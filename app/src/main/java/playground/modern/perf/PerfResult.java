@@ -0,0 +1,21 @@
+package playground.modern.perf;
+
+import java.util.Arrays;
+
+
+/**
+ * Measured cost of one {@link PerfBenchmark}: the median of its samples (what the gate compares), the fastest
+ * sample, and the interquartile range relative to the median as a noise indicator.
+ */
+public record PerfResult(String name, double nsPerOp, double minNsPerOp, double spread, int samples)
+{
+   static PerfResult of(String name, double[] nsPerOpSamples)
+   {
+      double[] sorted = nsPerOpSamples.clone();
+      Arrays.sort(sorted);
+      int n = sorted.length;
+      double median = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+      double iqr = sorted[(3 * (n - 1)) / 4] - sorted[(n - 1) / 4];
+      return new PerfResult(name, median, sorted[0], median > 0 ? iqr / median : 0, n);
+   }
+}
@@ -0,0 +1,426 @@
+package playground.modern.perf;
+
+import playground.common.batch.BatchRunner;
+import playground.modern.clean_arch.application.FakePaymentGateway;
+import playground.modern.clean_arch.application.InMemoryOrderRepository;
+import playground.modern.clean_arch.application.PlaceOrderCommand;
+import playground.modern.clean_arch.application.PlaceOrderUseCase;
+import playground.modern.clean_arch.domain.Money;
+import playground.modern.clean_arch.domain.OrderItem;
+import playground.modern.clean_arch.domain.OrderPolicy;
+import playground.modern.concurrency.counters.Counter;
+import playground.modern.concurrency.counters.CounterKind;
+import playground.modern.streams.models.Transaction;
+import playground.modern.streams.models.TransactionFixtures;
+import playground.modern.streams.models.TransactionSummaryCollector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+
+/**
+ * Fixed, short benchmark suite over the hot paths of Route A (stream collectors, counters, the place-order use
+ * case) and the gate around it: measure each {@link PerfBenchmark}, compare the medians with a stored
+ * {@link PerfBaseline}, write a {@link PerfReport} and exit with 1 if anything got slower than its tolerance.
+ * <p>
+ * Usage (or {@code ./gradlew perfGate}):
+ * <pre>
+ *   PerfSuite [--baseline perf/baseline.csv] [--report build/reports/perf/perf-gate.md] [--benchmarks "counters.*"]
+ *             [--tolerance 15] [--forks 2] [--samples 8] [--sample-ms 50] [--warmup-ms 300] [--update-baseline] [--list]
+ * </pre>
+ * Without a baseline file the run records one and passes. {@code --update-baseline} accepts the current numbers
+ * and keeps edited tolerances. {@code --tolerance} (percent) replaces every per-benchmark tolerance for this run.
+ * <p>
+ * Each benchmark runs in {@code --forks} fresh JVMs with this JVM's flags, so the JIT profile of one benchmark
+ * cannot slow down the next one ({@code --forks 0} measures in-process). Every fork warms up for
+ * {@code --warmup-ms}, then takes {@code --samples} samples of at least {@code --sample-ms} each; the result is
+ * the median over all samples of all forks.
+ */
+public final class PerfSuite
+{
+   static final double DEFAULT_TOLERANCE = 0.10;
+
+   private static final int TRANSACTIONS = 10_000;
+   private static final int COUNTER_INCREMENTS = 10_000;
+   private static final int CONTENDED_INCREMENTS = 100_000;
+   private static final int ORDERS = 200;
+
+   // Every body's result ends up here, so the JIT cannot prove the work unused
+   private static volatile long blackhole;
+
+   private final int forks;
+   private final int samples;
+   private final long sampleNanos;
+   private final long warmupNanos;
+
+   public PerfSuite(int forks, int samples, long sampleMillis, long warmupMillis)
+   {
+      if (forks < 0) throw new IllegalArgumentException("forks must be >= 0");
+      if (samples <= 0) throw new IllegalArgumentException("samples must be > 0");
+      if (sampleMillis <= 0) throw new IllegalArgumentException("sample-ms must be > 0");
+      if (warmupMillis < 0) throw new IllegalArgumentException("warmup-ms must be >= 0");
+      this.forks = forks;
+      this.samples = samples;
+      this.sampleNanos = sampleMillis * 1_000_000;
+      this.warmupNanos = warmupMillis * 1_000_000;
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // The suite
+   // ─────────────────────────────────────────────────────────────────
+
+   /**
+    * Every benchmark, in run order. Names are {@code area.subject.variant}; changing a name starts a new baseline row.
+    */
+   public static List<PerfBenchmark> benchmarks()
+   {
+      List<PerfBenchmark> all = new ArrayList<>();
+
+      // Streams: ns per transaction over a fixed, seeded fixture
+      all.add(transactions("streams.collector.summary",
+            txs -> txs.stream().collect(new TransactionSummaryCollector()).count()));
+      all.add(transactions("streams.groupingBy.summingLong",
+            txs -> txs.stream().collect(Collectors.groupingBy(Transaction::merchant,
+                  Collectors.summingLong(Transaction::amountMinor))).size()));
+      all.add(transactions("streams.groupingBy.counting",
+            txs -> txs.stream().collect(Collectors.groupingBy(Transaction::category, Collectors.counting())).size()));
+      all.add(transactions("streams.sorted.top3",
+            txs -> txs.stream().sorted(Comparator.comparingLong(Transaction::amountMinor).reversed()).limit(3)
+                  .mapToLong(Transaction::amountMinor).sum()));
+      all.add(transactions("streams.mapToLong.sum",
+            txs -> txs.stream().mapToLong(Transaction::amountMinor).sum()));
+
+      // Counters: ns per increment, uncontended and with every core incrementing
+      for (CounterKind kind : CounterKind.values())
+      {
+         all.add(new PerfBenchmark("counters." + kind.name().toLowerCase(Locale.ROOT) + ".inc", COUNTER_INCREMENTS, 0.15,
+               () -> uncontended(kind.create())));
+      }
+      int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      for (CounterKind kind : List.of(CounterKind.ATOMIC_LONG, CounterKind.LONG_ADDER, CounterKind.STRIPED))
+      {
+         all.add(new PerfBenchmark("counters." + kind.name().toLowerCase(Locale.ROOT) + ".contended",
+               threads * CONTENDED_INCREMENTS, 0.30, () -> contended(kind, threads)));
+      }
+
+      // Order use case: ns per placed order, one path per outcome, fresh repository per call
+      all.add(orders("order.place.paid", 2_990));
+      all.add(orders("order.place.declined", 7_500));
+      all.add(orders("order.place.invalid", 20_000));
+      return all;
+   }
+
+   private static PerfBenchmark transactions(String name, ToLongFunction<List<Transaction>> body)
+   {
+      return new PerfBenchmark(name, TRANSACTIONS, DEFAULT_TOLERANCE, () -> {
+         List<Transaction> txs = TransactionFixtures.randomTransactions(TRANSACTIONS, 42);
+         return () -> body.applyAsLong(txs);
+      });
+   }
+
+   private static LongSupplier uncontended(Counter counter)
+   {
+      return () -> {
+         for (int i = 0; i < COUNTER_INCREMENTS; i++)
+         {
+            counter.inc();
+         }
+         return counter.getApproximate();
+      };
+   }
+
+   private static LongSupplier contended(CounterKind kind, int threads)
+   {
+      return () -> {
+         Counter counter = kind.create();
+         List<Thread> workers = new ArrayList<>(threads);
+         for (int t = 0; t < threads; t++)
+         {
+            workers.add(Thread.ofPlatform().start(() -> {
+               for (int i = 0; i < CONTENDED_INCREMENTS; i++)
+               {
+                  counter.inc();
+               }
+            }));
+         }
+         for (Thread worker : workers)
+         {
+            try
+            {
+               worker.join();
+            }
+            catch (InterruptedException e)
+            {
+               Thread.currentThread().interrupt();
+               throw new IllegalStateException("Interrupted while joining counter workers", e);
+            }
+         }
+         return counter.get();
+      };
+   }
+
+   /**
+    * Places {@link #ORDERS} copies of a one-item order of {@code amountMinor}: up to 5,000 is paid, above that the
+    * fake gateway declines, and above 10,000 the policy rejects it before charging.
+    */
+   private static PerfBenchmark orders(String name, int amountMinor)
+   {
+      return new PerfBenchmark(name, ORDERS, DEFAULT_TOLERANCE, () -> {
+         OrderPolicy policy = new OrderPolicy();
+         FakePaymentGateway payments = new FakePaymentGateway(5_000);
+         PlaceOrderCommand cmd = new PlaceOrderCommand("cust-perf",
+               List.of(new OrderItem("SKU-1", "Perf item", Money.of("SEK", amountMinor), 1)), "tok_perf");
+         return () -> {
+            PlaceOrderUseCase useCase = new PlaceOrderUseCase(new InMemoryOrderRepository(), payments, policy);
+            long paid = 0;
+            for (int i = 0; i < ORDERS; i++)
+            {
+               paid += useCase.handle(cmd).status().ordinal();
+            }
+            return paid;
+         };
+      });
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // Measurement
+   // ─────────────────────────────────────────────────────────────────
+
+   public List<PerfResult> run(List<PerfBenchmark> benchmarks)
+   {
+      List<PerfResult> results = new ArrayList<>(benchmarks.size());
+      for (PerfBenchmark benchmark : benchmarks)
+      {
+         double[] nsPerOp = forks == 0 ? measure(benchmark) : forked(benchmark);
+         PerfResult result = PerfResult.of(benchmark.name(), nsPerOp);
+         System.err.printf(Locale.ROOT, "[perf] %-34s %12.2f ns/op  (±%.1f%% IQR)%n",
+               benchmark.name(), result.nsPerOp(), result.spread() * 100);
+         results.add(result);
+      }
+      return results;
+   }
+
+   /**
+    * Samples of {@code benchmark} in ns/op, measured in this JVM.
+    */
+   double[] measure(PerfBenchmark benchmark)
+   {
+      LongSupplier body = benchmark.setup().get();
+      long sink = 0;
+      long warmupEnd = System.nanoTime() + warmupNanos;
+      do
+      {
+         sink += body.getAsLong();
+      }
+      while (System.nanoTime() < warmupEnd);
+
+      double[] nsPerOp = new double[samples];
+      for (int s = 0; s < samples; s++)
+      {
+         long calls = 0;
+         long start = System.nanoTime();
+         long elapsed;
+         do
+         {
+            sink += body.getAsLong();
+            calls++;
+            elapsed = System.nanoTime() - start;
+         }
+         while (elapsed < sampleNanos);
+         nsPerOp[s] = (double) elapsed / (calls * benchmark.operations());
+      }
+      blackhole = sink;
+      return nsPerOp;
+   }
+
+   /**
+    * Samples of {@code benchmark} from {@link #forks} child JVMs, each running {@code PerfSuite --child <name>}.
+    */
+   private double[] forked(PerfBenchmark benchmark)
+   {
+      List<String> command = new ArrayList<>();
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+      command.addAll(List.of("-cp", System.getProperty("java.class.path"), PerfSuite.class.getName(),
+            "--child", benchmark.name(), "--samples", String.valueOf(samples),
+            "--sample-ms", String.valueOf(sampleNanos / 1_000_000), "--warmup-ms", String.valueOf(warmupNanos / 1_000_000)));
+
+      double[] all = new double[forks * samples];
+      for (int f = 0; f < forks; f++)
+      {
+         List<String> lines;
+         int exit;
+         try
+         {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            try (BufferedReader out = process.inputReader(StandardCharsets.UTF_8))
+            {
+               lines = out.lines().toList();
+            }
+            exit = process.waitFor();
+         }
+         catch (IOException e)
+         {
+            throw new UncheckedIOException(e);
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + benchmark.name(), e);
+         }
+         if (exit != 0 || lines.size() != samples)
+         {
+            throw new IllegalStateException("Fork of " + benchmark.name() + " exited with " + exit + " after "
+                  + lines.size() + " of " + samples + " samples");
+         }
+         for (int s = 0; s < samples; s++)
+         {
+            all[f * samples + s] = Double.parseDouble(lines.get(s));
+         }
+      }
+      return all;
+   }
+
+   /**
+    * Child side of {@link #forked}: measures one benchmark and prints one ns/op sample per line on stdout.
+    */
+   private static void child(PerfSuite suite, String name)
+   {
+      PerfBenchmark benchmark = benchmarks().stream().filter(b -> b.name().equals(name)).findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown benchmark: " + name));
+      for (double nsPerOp : suite.measure(benchmark))
+      {
+         System.out.println(nsPerOp);
+      }
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // Gate
+   // ─────────────────────────────────────────────────────────────────
+
+   public static void main(String[] args)
+   {
+      Path baselineFile = Path.of("perf/baseline.csv");
+      Path reportFile = Path.of("build/reports/perf/perf-gate.md");
+      List<String> globs = List.of("*");
+      Optional<Double> tolerance = Optional.empty();
+      int forks = 2;
+      int samples = 8;
+      long sampleMillis = 50;
+      long warmupMillis = 300;
+      boolean updateBaseline = false;
+      boolean list = false;
+      String child = null;
+      PerfSuite suite;
+      try
+      {
+         for (int i = 0; i < args.length; i++)
+         {
+            switch (args[i])
+            {
+               case "--baseline" -> baselineFile = Path.of(value(args, ++i));
+               case "--report" -> reportFile = Path.of(value(args, ++i));
+               case "--benchmarks" -> globs = Arrays.stream(value(args, ++i).split(",")).map(String::trim)
+                     .filter(s -> !s.isEmpty()).toList();
+               case "--tolerance" -> tolerance = Optional.of(Double.parseDouble(value(args, ++i)) / 100);
+               case "--forks" -> forks = Integer.parseInt(value(args, ++i));
+               case "--samples" -> samples = Integer.parseInt(value(args, ++i));
+               case "--sample-ms" -> sampleMillis = Long.parseLong(value(args, ++i));
+               case "--warmup-ms" -> warmupMillis = Long.parseLong(value(args, ++i));
+               case "--update-baseline" -> updateBaseline = true;
+               case "--list" -> list = true;
+               case "--child" -> child = value(args, ++i);
+               default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+         }
+         suite = new PerfSuite(forks, samples, sampleMillis, warmupMillis);
+      }
+      catch (IllegalArgumentException e)
+      {
+         System.err.println("[perf] " + e.getMessage());
+         System.exit(2);
+         return;
+      }
+
+      if (child != null)
+      {
+         child(suite, child);
+         return;
+      }
+
+      List<PerfBenchmark> selected = select(benchmarks(), globs);
+      if (list || selected.isEmpty())
+      {
+         selected.forEach(b -> System.out.println(b.name()));
+         if (selected.isEmpty())
+         {
+            System.err.println("[perf] No benchmark matched " + globs);
+            System.exit(2);
+         }
+         return;
+      }
+
+      Map<String, Double> defaults = new LinkedHashMap<>();
+      selected.forEach(b -> defaults.put(b.name(), b.tolerance()));
+      List<PerfResult> results = suite.run(selected);
+
+      if (!Files.exists(baselineFile))
+      {
+         PerfBaseline.of(results, defaults).write(baselineFile);
+         System.err.println("[perf] No baseline yet; recorded " + results.size() + " benchmark(s) to " + baselineFile
+               + ". Commit it to gate later runs against it.");
+         return;
+      }
+      PerfBaseline baseline = PerfBaseline.read(baselineFile);
+      if (updateBaseline)
+      {
+         baseline.update(results, defaults).write(baselineFile);
+         System.err.println("[perf] Updated " + results.size() + " benchmark(s) in " + baselineFile);
+         return;
+      }
+
+      List<PerfComparison> comparisons = PerfComparison.compare(results, baseline, defaults, tolerance);
+      PerfReport.write(reportFile, PerfReport.markdown(comparisons, baseline, baselineFile));
+      List<PerfComparison> regressions = comparisons.stream().filter(PerfComparison::regressed).toList();
+      for (PerfComparison r : regressions)
+      {
+         System.err.printf(Locale.ROOT, "[perf] REGRESSION %s: %.2f -> %.2f ns/op (%+.1f%%, fastest %+.1f%%, tolerance ±%.0f%%)%n",
+               r.name(), r.baselineNsPerOp().getAsDouble(), r.current().nsPerOp(), r.change() * 100,
+               r.minChange() * 100, r.tolerance() * 100);
+      }
+      System.err.println("[perf] Report: " + reportFile.toAbsolutePath());
+      System.exit(regressions.isEmpty() ? 0 : 1);
+   }
+
+   /**
+    * Benchmarks whose name matches any glob ({@code *}, {@code ?}), in suite order.
+    */
+   static List<PerfBenchmark> select(List<PerfBenchmark> benchmarks, List<String> globs)
+   {
+      List<Pattern> patterns = globs.stream().map(BatchRunner::globToPattern).toList();
+      return benchmarks.stream().filter(b -> patterns.stream().anyMatch(p -> p.matcher(b.name()).matches())).toList();
+   }
+
+   private static String value(String[] args, int i)
+   {
+      if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+      return args[i];
+   }
+}
@@ -0,0 +1,189 @@
+package playground.modern.random;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.common.random.RandomData;
+import playground.modern.concurrency.util.Harness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+
+/**
+ * Generating fixture data on many threads: one shared {@link Random} (what {@code Util} used to do; every draw is a
+ * CAS on the same seed) vs {@link RandomData#current()} (one generator per thread, bulk fills into reused arrays).
+ * Ends with a reproducibility check: seeded splits handed to workers produce the same data on every run.
+ */
+public class RandomDataDemo implements Demo
+{
+   private static final int FIXTURES_PER_THREAD = 200;
+   private static final int LONGS_PER_FIXTURE = 4_096;
+   private static final int STRINGS_PER_FIXTURE = 256;
+   private static final int STRING_LENGTH = 16;
+   private static final int ROUNDS = 5;
+
+   private static final char[] ALPHANUMERIC =
+         "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+   @Override
+   public String name()
+   {
+      return "Random Data";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Fixture generation throughput: shared java.util.Random vs per-thread RandomGenerator with bulk fills";
+   }
+
+   @Override
+   public void run()
+   {
+      Harness.header("RandomDataDemo (per-thread generators, bulk fills)");
+      Harness.bullet("Fixture = " + LONGS_PER_FIXTURE + " longs + " + STRINGS_PER_FIXTURE + " strings of " + STRING_LENGTH
+            + " chars; " + FIXTURES_PER_THREAD + " fixtures per thread, median of " + ROUNDS + " rounds");
+      Output.println();
+
+      int cpus = Runtime.getRuntime().availableProcessors();
+      int[] threadCounts = Arrays.stream(new int[] { 1, 2, 4, cpus }).filter(t -> t <= cpus).distinct().toArray();
+
+      Random shared = new Random();
+      Output.printf("%-28s | %7s | %14s | %8s%n", "generator", "threads", "fixtures/s", "scaling");
+      for (String label : List.of("shared java.util.Random", "RandomData.current()"))
+      {
+         double single = 0;
+         for (int threads : threadCounts)
+         {
+            double rate = label.startsWith("shared")
+                  ? throughput(threads, () -> sharedFixture(shared))
+                  : throughput(threads, RandomDataDemo::perThreadFixture);
+            if (threads == 1)
+            {
+               single = rate;
+            }
+            Output.printf("%-28s | %7d | %,14.0f | %7.2fx%n", label, threads, rate, rate / single);
+         }
+      }
+
+      Output.println();
+      long first = seededChecksum(42, cpus);
+      long second = seededChecksum(42, cpus);
+      Harness.bullet(String.format("RandomData.seeded(42).split(%d) in parallel: checksum %016x, again %016x -> %s",
+            cpus, first, second, first == second ? "reproducible" : "DIFFERENT"));
+      Output.println();
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("shared Random: every nextLong() CASes one AtomicLong seed; adding threads adds contention, not throughput.");
+      Harness.bullet("RandomData.current(): no shared state, so throughput grows with threads up to the core count.");
+      Harness.bullet("Bulk fills reuse the caller's arrays: strings come out ~10 chars per nextLong() into one char[] buffer.");
+      Harness.bullet("For reproducible parallel fixtures, split a seeded instance once per worker; -Dplayground.seed fixes current().");
+   }
+
+   /**
+    * Fixtures per second with {@code threads} threads each building {@link #FIXTURES_PER_THREAD} fixtures.
+    */
+   private static double throughput(int threads, Runnable fixture)
+   {
+      run(threads, fixture); // warmup
+      long[] nanos = new long[ROUNDS];
+      for (int i = 0; i < ROUNDS; i++)
+      {
+         nanos[i] = run(threads, fixture);
+      }
+      Arrays.sort(nanos);
+      return (double) threads * FIXTURES_PER_THREAD * 1_000_000_000L / nanos[ROUNDS / 2];
+   }
+
+   private static long run(int threads, Runnable fixture)
+   {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> workers = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++)
+      {
+         workers.add(Thread.ofPlatform().name("fixtures-" + t).start(() -> {
+            Harness.await(start, 60_000);
+            for (int i = 0; i < FIXTURES_PER_THREAD; i++)
+            {
+               fixture.run();
+            }
+         }));
+      }
+      long t0 = System.nanoTime();
+      start.countDown();
+      workers.forEach(w -> Harness.join(w, 120_000));
+      return System.nanoTime() - t0;
+   }
+
+   // One fixture the way Util used to build it: one shared generator, one char per draw.
+   private static void sharedFixture(Random random)
+   {
+      long[] longs = new long[LONGS_PER_FIXTURE];
+      for (int i = 0; i < longs.length; i++)
+      {
+         longs[i] = random.nextLong();
+      }
+      char[] chars = new char[STRINGS_PER_FIXTURE * STRING_LENGTH];
+      for (int i = 0; i < chars.length; i++)
+      {
+         chars[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+      }
+      Blackhole.consume(longs[0] ^ chars[0]);
+   }
+
+   private static final ThreadLocal<long[]> LONGS = ThreadLocal.withInitial(() -> new long[LONGS_PER_FIXTURE]);
+   private static final ThreadLocal<char[]> CHARS = new ThreadLocal<>();
+
+   private static void perThreadFixture()
+   {
+      RandomData random = RandomData.current();
+      long[] longs = LONGS.get();
+      random.fill(longs);
+      char[] chars = random.nextStrings(STRINGS_PER_FIXTURE, STRING_LENGTH, CHARS.get());
+      CHARS.set(chars);
+      Blackhole.consume(longs[0] ^ chars[0]);
+   }
+
+   /**
+    * Builds one fixture per split on its own thread and XORs the results; the thread schedule cannot change it.
+    */
+   private static long seededChecksum(long seed, int workers)
+   {
+      List<RandomData> splits = RandomData.seeded(seed).split(workers);
+      long[] sums = new long[workers];
+      List<Thread> threads = new ArrayList<>(workers);
+      for (int w = 0; w < workers; w++)
+      {
+         int worker = w;
+         threads.add(Thread.ofPlatform().name("seeded-" + w).start(() -> {
+            RandomData random = splits.get(worker);
+            long[] longs = new long[LONGS_PER_FIXTURE];
+            random.fill(longs, 0, 1_000_000);
+            long sum = Arrays.stream(longs).sum();
+            for (char c : random.nextStrings(STRINGS_PER_FIXTURE, STRING_LENGTH, null))
+            {
+               sum = sum * 31 + c;
+            }
+            sums[worker] = sum;
+         }));
+      }
+      threads.forEach(t -> Harness.join(t, 60_000));
+      return Arrays.stream(sums).reduce(0, (a, b) -> a ^ b);
+   }
+
+   /**
+    * Keeps the generated data observable so the JIT cannot drop the work.
+    */
+   private static final class Blackhole
+   {
+      private static volatile long sink;
+
+      static void consume(long value)
+      {
+         sink ^= value;
+      }
+   }
+}
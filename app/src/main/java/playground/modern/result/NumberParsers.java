@@ -0,0 +1,403 @@
+package playground.modern.result;
+
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+
+/**
+ * Exception-free number parsing that returns {@link Result} instead of throwing.
+ * <p>
+ * Parses directly from a {@link CharSequence} range or a {@code byte[]} range (ASCII digits):
+ * leading/trailing whitespace is skipped by index, so nothing is copied on the happy path,
+ * and bad input becomes a {@link DomainError.ParseError} without building a stack trace.
+ * The offending text is only materialized as a {@code String} when an error is reported.
+ * <p>
+ * Digits are accumulated in negative space (like {@link Long#parseLong(String)}) so that
+ * {@code MIN_VALUE} parses without overflow.
+ */
+public final class NumberParsers
+{
+   private static final String NOT_AN_INTEGER = "Not a valid integer";
+   private static final String OUT_OF_RANGE = "Out of range";
+   private static final String EMPTY = "Empty input";
+
+   // Positive return codes of accumulate(); valid results are always <= 0.
+   private static final long SYNTAX_ERROR = 1;
+   private static final long OVERFLOW = 2;
+
+   private static final long[] POWERS_OF_TEN = {
+         1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+   };
+
+   private NumberParsers()
+   {
+      // utility class
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // CharSequence input
+   // ─────────────────────────────────────────────────────────────────
+
+   public static Result<Integer, DomainError> parseInt(String field, CharSequence input)
+   {
+      Objects.requireNonNull(input);
+      return parseInt(field, input, 0, input.length());
+   }
+
+   public static Result<Integer, DomainError> parseInt(String field, CharSequence input, int from, int to)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length());
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      boolean negative = input.charAt(start) == '-';
+      int digitsFrom = (negative || input.charAt(start) == '+') ? start + 1 : start;
+      long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+
+      long acc = accumulate(input, digitsFrom, end, limit);
+      if (acc > 0)
+      {
+         return error(field, input, from, to, acc == OVERFLOW ? OUT_OF_RANGE : NOT_AN_INTEGER);
+      }
+      return Result.okInt((int) (negative ? acc : -acc));
+   }
+
+   public static Result<Long, DomainError> parseLong(String field, CharSequence input)
+   {
+      Objects.requireNonNull(input);
+      return parseLong(field, input, 0, input.length());
+   }
+
+   public static Result<Long, DomainError> parseLong(String field, CharSequence input, int from, int to)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length());
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      boolean negative = input.charAt(start) == '-';
+      int digitsFrom = (negative || input.charAt(start) == '+') ? start + 1 : start;
+      long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+
+      long acc = accumulate(input, digitsFrom, end, limit);
+      if (acc > 0)
+      {
+         return error(field, input, from, to, acc == OVERFLOW ? OUT_OF_RANGE : NOT_AN_INTEGER);
+      }
+      return Result.ok(negative ? acc : -acc);
+   }
+
+   /**
+    * Parses a non-negative decimal amount into minor units, e.g. {@code "123.45"} with
+    * {@code fractionDigits = 2} becomes {@code 12345}; {@code "12"} becomes {@code 1200}.
+    * More fraction digits than {@code fractionDigits} is rejected rather than rounded.
+    */
+   public static Result<Long, DomainError> parseMinorUnits(String field, CharSequence input, int fractionDigits)
+   {
+      Objects.requireNonNull(input);
+      return parseMinorUnits(field, input, 0, input.length(), fractionDigits);
+   }
+
+   public static Result<Long, DomainError> parseMinorUnits(String field, CharSequence input, int from, int to, int fractionDigits)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length());
+      checkFractionDigits(fractionDigits);
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      int dot = end;
+      for (int i = start; i < end; i++)
+      {
+         if (input.charAt(i) == '.')
+         {
+            dot = i;
+            break;
+         }
+      }
+
+      long scale = POWERS_OF_TEN[fractionDigits];
+      long wholePart = accumulate(input, start, dot, -Long.MAX_VALUE / scale);
+      if (wholePart > 0)
+      {
+         return error(field, input, from, to, wholePart == OVERFLOW ? OUT_OF_RANGE : "Not a valid amount");
+      }
+
+      long fraction = 0;
+      if (dot < end)
+      {
+         int fractionLength = end - dot - 1;
+         if (fractionLength == 0 || fractionLength > fractionDigits)
+         {
+            return error(field, input, from, to, "Expected 1 to " + fractionDigits + " fraction digits");
+         }
+         fraction = accumulate(input, dot + 1, end, -scale);
+         if (fraction > 0)
+         {
+            return error(field, input, from, to, "Not a valid amount");
+         }
+         fraction *= POWERS_OF_TEN[fractionDigits - fractionLength];
+      }
+
+      return combineMinorUnits(field, wholePart, fraction, scale, input, from, to);
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // byte[] input (ASCII / UTF-8 digits)
+   // ─────────────────────────────────────────────────────────────────
+
+   public static Result<Integer, DomainError> parseInt(String field, byte[] input, int from, int to)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length);
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      boolean negative = input[start] == '-';
+      int digitsFrom = (negative || input[start] == '+') ? start + 1 : start;
+      long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+
+      long acc = accumulate(input, digitsFrom, end, limit);
+      if (acc > 0)
+      {
+         return error(field, input, from, to, acc == OVERFLOW ? OUT_OF_RANGE : NOT_AN_INTEGER);
+      }
+      return Result.okInt((int) (negative ? acc : -acc));
+   }
+
+   public static Result<Long, DomainError> parseLong(String field, byte[] input, int from, int to)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length);
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      boolean negative = input[start] == '-';
+      int digitsFrom = (negative || input[start] == '+') ? start + 1 : start;
+      long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+
+      long acc = accumulate(input, digitsFrom, end, limit);
+      if (acc > 0)
+      {
+         return error(field, input, from, to, acc == OVERFLOW ? OUT_OF_RANGE : NOT_AN_INTEGER);
+      }
+      return Result.ok(negative ? acc : -acc);
+   }
+
+   public static Result<Long, DomainError> parseMinorUnits(String field, byte[] input, int from, int to, int fractionDigits)
+   {
+      Objects.requireNonNull(field);
+      Objects.checkFromToIndex(from, to, input.length);
+      checkFractionDigits(fractionDigits);
+
+      int start = skipLeading(input, from, to);
+      int end = skipTrailing(input, start, to);
+      if (start == end)
+      {
+         return error(field, input, from, to, EMPTY);
+      }
+
+      int dot = end;
+      for (int i = start; i < end; i++)
+      {
+         if (input[i] == '.')
+         {
+            dot = i;
+            break;
+         }
+      }
+
+      long scale = POWERS_OF_TEN[fractionDigits];
+      long wholePart = accumulate(input, start, dot, -Long.MAX_VALUE / scale);
+      if (wholePart > 0)
+      {
+         return error(field, input, from, to, wholePart == OVERFLOW ? OUT_OF_RANGE : "Not a valid amount");
+      }
+
+      long fraction = 0;
+      if (dot < end)
+      {
+         int fractionLength = end - dot - 1;
+         if (fractionLength == 0 || fractionLength > fractionDigits)
+         {
+            return error(field, input, from, to, "Expected 1 to " + fractionDigits + " fraction digits");
+         }
+         fraction = accumulate(input, dot + 1, end, -scale);
+         if (fraction > 0)
+         {
+            return error(field, input, from, to, "Not a valid amount");
+         }
+         fraction *= POWERS_OF_TEN[fractionDigits - fractionLength];
+      }
+
+      return combineMinorUnits(field, wholePart, fraction, scale, input, from, to);
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // Kernels
+   // ─────────────────────────────────────────────────────────────────
+
+   /**
+    * Accumulates the digits in [from, to) as a non-positive value bounded below by {@code limit}.
+    * Returns the (negated) value, or {@link #SYNTAX_ERROR} / {@link #OVERFLOW}.
+    */
+   private static long accumulate(CharSequence s, int from, int to, long limit)
+   {
+      if (from == to)
+      {
+         return SYNTAX_ERROR;
+      }
+      long multmin = limit / 10;
+      long acc = 0;
+      for (int i = from; i < to; i++)
+      {
+         int digit = s.charAt(i) - '0';
+         if (digit < 0 || digit > 9)
+         {
+            return SYNTAX_ERROR;
+         }
+         if (acc < multmin)
+         {
+            return OVERFLOW;
+         }
+         acc *= 10;
+         if (acc < limit + digit)
+         {
+            return OVERFLOW;
+         }
+         acc -= digit;
+      }
+      return acc;
+   }
+
+   private static long accumulate(byte[] s, int from, int to, long limit)
+   {
+      if (from == to)
+      {
+         return SYNTAX_ERROR;
+      }
+      long multmin = limit / 10;
+      long acc = 0;
+      for (int i = from; i < to; i++)
+      {
+         int digit = s[i] - '0';
+         if (digit < 0 || digit > 9)
+         {
+            return SYNTAX_ERROR;
+         }
+         if (acc < multmin)
+         {
+            return OVERFLOW;
+         }
+         acc *= 10;
+         if (acc < limit + digit)
+         {
+            return OVERFLOW;
+         }
+         acc -= digit;
+      }
+      return acc;
+   }
+
+   private static int skipLeading(CharSequence s, int from, int to)
+   {
+      while (from < to && s.charAt(from) <= ' ')
+      {
+         from++;
+      }
+      return from;
+   }
+
+   private static int skipTrailing(CharSequence s, int from, int to)
+   {
+      while (to > from && s.charAt(to - 1) <= ' ')
+      {
+         to--;
+      }
+      return to;
+   }
+
+   private static int skipLeading(byte[] s, int from, int to)
+   {
+      while (from < to && s[from] >= 0 && s[from] <= ' ')
+      {
+         from++;
+      }
+      return from;
+   }
+
+   private static int skipTrailing(byte[] s, int from, int to)
+   {
+      while (to > from && s[to - 1] >= 0 && s[to - 1] <= ' ')
+      {
+         to--;
+      }
+      return to;
+   }
+
+   // ─────────────────────────────────────────────────────────────────
+   // Helpers
+   // ─────────────────────────────────────────────────────────────────
+
+   private static Result<Long, DomainError> combineMinorUnits(String field, long wholePart, long fraction, long scale,
+         Object input, int from, int to)
+   {
+      // wholePart >= -Long.MAX_VALUE / scale, so the multiplication cannot overflow; the addition still can.
+      long scaledWhole = wholePart * scale;
+      if (scaledWhole < -Long.MAX_VALUE - fraction)
+      {
+         return input instanceof byte[] bytes
+               ? error(field, bytes, from, to, OUT_OF_RANGE)
+               : error(field, (CharSequence) input, from, to, OUT_OF_RANGE);
+      }
+      return Result.ok(-(scaledWhole + fraction));
+   }
+
+   private static void checkFractionDigits(int fractionDigits)
+   {
+      if (fractionDigits < 0 || fractionDigits >= POWERS_OF_TEN.length)
+      {
+         throw new IllegalArgumentException("fractionDigits must be in [0, " + (POWERS_OF_TEN.length - 1) + "]: " + fractionDigits);
+      }
+   }
+
+   // Only the error path materializes the input as a String.
+   private static <T> Result<T, DomainError> error(String field, CharSequence input, int from, int to, String message)
+   {
+      return Result.err(new DomainError.ParseError(field, input.subSequence(from, to).toString(), message));
+   }
+
+   private static <T> Result<T, DomainError> error(String field, byte[] input, int from, int to, String message)
+   {
+      return Result.err(new DomainError.ParseError(field, new String(input, from, to - from, StandardCharsets.UTF_8), message));
+   }
+}
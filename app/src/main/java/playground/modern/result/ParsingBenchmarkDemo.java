@@ -0,0 +1,101 @@
+package playground.modern.result;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.result.models.DomainError;
+import playground.modern.result.models.Result;
+
+
+/**
+ * Compares the exception-based parse ({@code Integer.parseInt(input.trim())} + catch) against
+ * {@link NumberParsers} on an input set where half of the values are invalid.
+ */
+public class ParsingBenchmarkDemo implements Demo
+{
+   private static final int INPUTS = 200_000;
+   private static final int WARMUP_PASSES = 5;
+   private static final int MEASURED_PASSES = 5;
+
+   @Override
+   public String name()
+   {
+      return "Parsing Benchmark";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Exception-based parsing vs exception-free NumberParsers on 50% invalid input";
+   }
+
+   @Override
+   public void run()
+   {
+      String[] inputs = buildInputs();
+      Output.printf("Inputs: %d (50%% invalid), warmup passes: %d, measured passes: %d%n",
+            INPUTS, WARMUP_PASSES, MEASURED_PASSES);
+
+      double exceptionNs = measure("exception path (trim + catch)", inputs, true);
+      double parsersNs = measure("NumberParsers (no trim, no throw)", inputs, false);
+
+      Output.printf("Speedup: %.1fx%n", exceptionNs / parsersNs);
+   }
+
+   private static double measure(String label, String[] inputs, boolean exceptionPath)
+   {
+      long sink = 0;
+      for (int pass = 0; pass < WARMUP_PASSES; pass++)
+      {
+         sink += runPass(inputs, exceptionPath);
+      }
+
+      long start = System.nanoTime();
+      for (int pass = 0; pass < MEASURED_PASSES; pass++)
+      {
+         sink += runPass(inputs, exceptionPath);
+      }
+      double nsPerInput = (double) (System.nanoTime() - start) / ((long) MEASURED_PASSES * inputs.length);
+
+      Output.printf("%-36s | ns/input=%.1f | checksum=%d%n", label, nsPerInput, sink);
+      return nsPerInput;
+   }
+
+   private static long runPass(String[] inputs, boolean exceptionPath)
+   {
+      long checksum = 0;
+      for (String input : inputs)
+      {
+         Result<Integer, DomainError> r = exceptionPath
+               ? parseWithException("amount", input)
+               : NumberParsers.parseInt("amount", input);
+         checksum += r.isSuccess() ? r.getOrThrow() : -1;
+      }
+      return checksum;
+   }
+
+   // The original ResultDemo.parseInt, kept here as the baseline.
+   private static Result<Integer, DomainError> parseWithException(String field, String input)
+   {
+      try
+      {
+         return Result.ok(Integer.parseInt(input.trim()));
+      }
+      catch (NumberFormatException ex)
+      {
+         return Result.err(new DomainError.ParseError(field, input, "Not a valid integer"));
+      }
+   }
+
+   private static String[] buildInputs()
+   {
+      String[] invalid = { "abc", "12x", " ", "4.5", "--1", "99999999999", "N/A", "" };
+      String[] inputs = new String[INPUTS];
+      for (int i = 0; i < INPUTS; i++)
+      {
+         inputs[i] = (i % 2 == 0)
+               ? " " + (i * 37 % 100_000) + " "
+               : invalid[(i / 2) % invalid.length];
+      }
+      return inputs;
+   }
+}
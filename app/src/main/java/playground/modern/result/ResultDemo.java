@@ -1,6 +1,7 @@
 package playground.modern.result;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.result.models.DomainError;
 import playground.modern.result.models.Result;
 
@@ -9,6 +10,11 @@ import java.util.Objects;
 
 public class ResultDemo implements Demo
 {
+   private static final Result<String, DomainError> YOUNG = Result.ok("YOUNG");
+   private static final Result<String, DomainError> LOW_INCOME = Result.ok("LOW_INCOME");
+   private static final Result<String, DomainError> STANDARD = Result.ok("STANDARD");
+   private static final Result<String, DomainError> HIGH_INCOME = Result.ok("HIGH_INCOME");
+
    @Override
    public String name()
    {
@@ -36,7 +42,7 @@ public class ResultDemo implements Demo
    // scenario runner
    private void runScenario(String ageText, String salaryText)
    {
-      System.out.printf("Scenario: age=%s salary=%s%n", ageText, salaryText);
+      Output.printf("Scenario: age=%s salary=%s%n", ageText, salaryText);
 
       Result<CustomerProfile, DomainError> profileResult = parseInt("age", ageText).flatMap(
             age -> validateRange("age", age, 18, 120)).flatMap(
@@ -49,7 +55,7 @@ public class ResultDemo implements Demo
             ok -> "OK. Risk bucket: " + ok
       );
 
-      System.out.println(message);
+      Output.println(message);
    }
 
 
@@ -60,17 +66,10 @@ public class ResultDemo implements Demo
       Objects.requireNonNull(field);
       Objects.requireNonNull(input);
 
-      try
-      {
-         return Result.ok(Integer.parseInt(input.trim()));
-      }
-      catch (NumberFormatException ex)
-      {
-         return Result.err(new DomainError.ParseError(field, input, "Not a valid integer"));
-      }
+      return NumberParsers.parseInt(field, input);
    }
 
-   static Result<Integer, DomainError> validateRange(String field, int value, int minInclusive, int maxInclusive)
+   public static Result<Integer, DomainError> validateRange(String field, int value, int minInclusive, int maxInclusive)
    {
       Objects.requireNonNull(field);
 
@@ -79,10 +78,10 @@ public class ResultDemo implements Demo
          return Result.err(new DomainError.ValidationError(field,
                "Must be in range [" + minInclusive + ", " + maxInclusive + "], got " + value));
       }
-      return Result.ok(value);
+      return Result.okInt(value);
    }
 
-   static Result<Integer, DomainError> validateMin(String field, int value, int minInclusive)
+   public static Result<Integer, DomainError> validateMin(String field, int value, int minInclusive)
    {
       Objects.requireNonNull(field);
 
@@ -90,7 +89,7 @@ public class ResultDemo implements Demo
       {
          return Result.err(new DomainError.ValidationError(field, "Must be >= " + minInclusive + ", got " + value));
       }
-      return Result.ok(value);
+      return Result.okInt(value);
    }
 
    /**
@@ -118,10 +117,8 @@ public class ResultDemo implements Demo
          return Result.err(new DomainError.ComputationError("Risk engine rejected salary: " + salary + " (too large for demo rules)"));
       }
 
-      // Simple deterministic mapping to buckets
-      String bucket = (age < 25) ? "YOUNG" : (salary < 30_000) ? "LOW_INCOME" : (salary < 80_000) ? "STANDARD" : "HIGH_INCOME";
-
-      return Result.ok(bucket);
+      // Simple deterministic mapping to buckets (shared instances, nothing allocated per call)
+      return (age < 25) ? YOUNG : (salary < 30_000) ? LOW_INCOME : (salary < 80_000) ? STANDARD : HIGH_INCOME;
    }
 
    static String formatError(DomainError error)
@@ -136,7 +133,7 @@ public class ResultDemo implements Demo
 
 
    // records
-   record CustomerProfile(int age, int salary)
+   public record CustomerProfile(int age, int salary)
    {
    }
 }
@@ -27,4 +27,14 @@ public record Failure<T, E> (E error) implements Result<T, E>
    {
       throw new IllegalArgumentException("Error: " + error);
    }
+
+   /**
+    * Re-types this failure to a different success type without allocating.
+    * A failure never holds a {@code T}, so the same instance is valid for any {@code U}.
+    */
+   @SuppressWarnings("unchecked")
+   public <U> Failure<U, E> retype()
+   {
+      return (Failure<U, E>) this;
+   }
 }
@@ -53,7 +53,7 @@ public sealed interface Result<T, E> permits Success, Failure
             U mapped = Objects.requireNonNull(mapper.apply(s.value()), "map() returns null");
             yield Result.ok(mapped);
          }
-         case Failure<T, E> f-> Result.err(f.error());
+         case Failure<T, E> f-> f.retype();
       };
    }
 
@@ -64,7 +64,7 @@ public sealed interface Result<T, E> permits Success, Failure
       return switch (this) {
          case Success<T, E> s -> Objects.requireNonNull(mapper.apply(s.value()), "flatMap() returns null");
 
-         case Failure<T, E> f -> Result.err(f.error());
+         case Failure<T, E> f -> f.retype();
       };
    }
 
@@ -72,7 +72,7 @@ public sealed interface Result<T, E> permits Success, Failure
       Objects.requireNonNull(mapper);
 
       return switch (this){
-         case Success<T, E> s -> Result.ok(s.value());
+         case Success<T, E> s -> s.retype();
          case Failure<T, E> f -> {
             F mapped = Objects.requireNonNull(mapper.apply(f.error()), "mapError() returns null");
             yield Result.err(mapped);
@@ -112,6 +112,14 @@ public sealed interface Result<T, E> permits Success, Failure
       return new Failure<>(error);
    }
 
+   /**
+    * Like {@link #ok(Object)}, but returns a cached instance for small values.
+    */
+   static <E> Result<Integer, E> okInt(int value)
+   {
+      return Success.ofInt(value);
+   }
+
    // Boundary helper
 
    static <T, E> Result<T, E> fromOptional(Optional<T> optional, Supplier<? extends E> errorSupplier) {
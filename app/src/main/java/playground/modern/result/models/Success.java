@@ -27,4 +27,43 @@ public record Success<T, E>(T value) implements Result<T, E>
    {
       return value;
    }
+
+   /**
+    * Re-types this success to a different error type without allocating.
+    * A success never holds an {@code E}, so the same instance is valid for any {@code F}.
+    */
+   @SuppressWarnings("unchecked")
+   public <F> Success<T, F> retype()
+   {
+      return (Success<T, F>) this;
+   }
+
+   /**
+    * Returns a shared instance for small ints (the same idea as {@link Integer#valueOf(int)}),
+    * so hot validation chains don't allocate a wrapper for the common values.
+    */
+   @SuppressWarnings("unchecked")
+   static <E> Success<Integer, E> ofInt(int value)
+   {
+      if (value >= IntCache.LOW && value <= IntCache.HIGH)
+      {
+         return (Success<Integer, E>) IntCache.VALUES[value - IntCache.LOW];
+      }
+      return new Success<>(value);
+   }
+
+   private static final class IntCache
+   {
+      static final int LOW = -128;
+      static final int HIGH = 1023;
+      static final Success<?, ?>[] VALUES = new Success<?, ?>[HIGH - LOW + 1];
+
+      static
+      {
+         for (int i = 0; i < VALUES.length; i++)
+         {
+            VALUES[i] = new Success<>(LOW + i);
+         }
+      }
+   }
 }
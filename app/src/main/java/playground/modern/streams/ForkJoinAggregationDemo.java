@@ -0,0 +1,109 @@
+package playground.modern.streams;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.modern.streams.forkjoin.AggregationReport;
+import playground.modern.streams.forkjoin.ForkJoinAggregator;
+import playground.modern.streams.forkjoin.TransactionColumns;
+import playground.modern.streams.models.Transaction;
+import playground.modern.streams.models.TransactionFixtures;
+import playground.modern.streams.models.TransactionSummary;
+import playground.modern.streams.models.TransactionSummaryCollector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+
+/**
+ * {@link ForkJoinAggregator} (isolated pool, primitive leaves) vs {@code parallelStream().collect(...)}
+ * over the same random transactions, at several sequential thresholds.
+ * Row count: {@code -Dplayground.forkjoin.rows} (default 2,000,000).
+ */
+public final class ForkJoinAggregationDemo implements Demo
+{
+   private static final int ROWS = Integer.getInteger("playground.forkjoin.rows", 2_000_000);
+   private static final int[] THRESHOLDS = { 1_000, 10_000, 100_000 };
+   private static final int WARMUP = 3;
+   private static final int TRIALS = 5;
+
+   void main()
+   {
+      int parallelism = Runtime.getRuntime().availableProcessors();
+      Output.println("=== ForkJoinAggregationDemo ===");
+      Output.println("rows=" + ROWS + ", parallelism=" + parallelism + ", best of " + TRIALS + " after " + WARMUP + " warmups");
+      Output.println();
+
+      List<Transaction> txs = TransactionFixtures.randomTransactions(ROWS, 42);
+
+      long t0 = System.nanoTime();
+      TransactionColumns columns = TransactionColumns.of(txs);
+      Output.printf("%-36s | %8.1f ms (once, reused by every aggregation below)%n", "build TransactionColumns",
+            (System.nanoTime() - t0) / 1e6);
+
+      TransactionSummary expected = txs.stream().collect(new TransactionSummaryCollector());
+      double sequentialMs = bestMs(() -> txs.stream().collect(new TransactionSummaryCollector()));
+      double parallelMs = bestMs(() -> txs.parallelStream().collect(new TransactionSummaryCollector()));
+      Output.printf("%-36s | %8.1f ms%n", "stream().collect", sequentialMs);
+      Output.printf("%-36s | %8.1f ms%n", "parallelStream().collect", parallelMs);
+
+      for (int threshold : THRESHOLDS)
+      {
+         try (ForkJoinAggregator aggregator = new ForkJoinAggregator(parallelism, threshold))
+         {
+            AggregationReport[] last = new AggregationReport[1];
+            double ms = bestMs(() -> last[0] = aggregator.aggregate(columns));
+            AggregationReport report = last[0];
+
+            Output.printf("%-36s | %8.1f ms | %.1fx vs parallelStream | steals=%d | imbalance=%.2f | %s%n",
+                  "ForkJoinAggregator threshold=" + threshold,
+                  ms,
+                  parallelMs / ms,
+                  report.steals(),
+                  report.imbalance(),
+                  report.summary().equals(expected) ? "ok" : "MISMATCH");
+            Output.println("    rows per worker: " + Arrays.toString(report.rowsByWorker()));
+         }
+      }
+
+      Output.println();
+      Output.println("Note: the collector boxes into an EnumMap and a HashMap for every row; the leaves here add into long[]s.");
+      Output.println("Note: a small threshold means more tasks and steals (better balance, more overhead); a large one");
+      Output.println("      leaves workers idle once the few big leaves are handed out (imbalance > 1).");
+      Output.println("Note: the aggregator owns its ForkJoinPool, so it never competes with commonPool() users.");
+   }
+
+   private static double bestMs(Supplier<?> run)
+   {
+      for (int i = 0; i < WARMUP; i++)
+      {
+         run.get();
+      }
+      long best = Long.MAX_VALUE;
+      for (int i = 0; i < TRIALS; i++)
+      {
+         long t0 = System.nanoTime();
+         run.get();
+         best = Math.min(best, System.nanoTime() - t0);
+      }
+      return best / 1e6;
+   }
+
+   @Override
+   public String name()
+   {
+      return "Fork/Join Aggregation";
+   }
+
+   @Override
+   public String description()
+   {
+      return "RecursiveTask aggregation on an isolated pool vs parallelStream().collect(...)";
+   }
+
+   @Override
+   public void run()
+   {
+      this.main();
+   }
+}
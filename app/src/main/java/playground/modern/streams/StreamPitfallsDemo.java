@@ -1,6 +1,7 @@
 package playground.modern.streams;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.streams.models.Transaction;
 import playground.modern.streams.models.TransactionFixtures;
 
@@ -16,17 +17,17 @@ public final class StreamPitfallsDemo implements Demo
    {
       List<Transaction> txs = TransactionFixtures.sampleTransactions();
 
-      System.out.println("=== StreamPitfallsDemo ===");
-      System.out.println();
+      Output.println("=== StreamPitfallsDemo ===");
+      Output.println();
 
       pitfallBoxingVsPrimitive(txs);
-      System.out.println();
+      Output.println();
 
       pitfallIntermediateCollections(txs);
-      System.out.println();
+      Output.println();
 
       pitfallSideEffects(txs);
-      System.out.println();
+      Output.println();
 
       pitfallParallelMisuse(txs);
    }
@@ -36,7 +37,7 @@ public final class StreamPitfallsDemo implements Demo
    // -------------------------------------------------
    private static void pitfallBoxingVsPrimitive(List<Transaction> txs)
    {
-      System.out.println("[Pitfall 1] Boxing vs primitive streams");
+      Output.println("[Pitfall 1] Boxing vs primitive streams");
 
       // BAD: amountMinor() (long) gets boxed to Long due to map(...) returning Stream<Long>
       Long boxedTotal = txs.stream().map(Transaction::amountMinor) // boxing happens
@@ -45,9 +46,9 @@ public final class StreamPitfallsDemo implements Demo
       // GOOD: primitive stream, no boxing
       long primitiveTotal = txs.stream().mapToLong(Transaction::amountMinor).sum();
 
-      System.out.println("boxedTotal     = " + boxedTotal);
-      System.out.println("primitiveTotal = " + primitiveTotal);
-      System.out.println("Note: prefer mapToLong/mapToInt/mapToDouble for numeric aggregation.");
+      Output.println("boxedTotal     = " + boxedTotal);
+      Output.println("primitiveTotal = " + primitiveTotal);
+      Output.println("Note: prefer mapToLong/mapToInt/mapToDouble for numeric aggregation.");
    }
 
    // -------------------------------------------------
@@ -55,7 +56,7 @@ public final class StreamPitfallsDemo implements Demo
    // -------------------------------------------------
    private static void pitfallIntermediateCollections(List<Transaction> txs)
    {
-      System.out.println("[Pitfall 2] Intermediate collections");
+      Output.println("[Pitfall 2] Intermediate collections");
 
       // BAD: creates a temporary list and re-streams it
       List<Transaction> groceries = txs.stream().filter(t -> t.category() == Transaction.Category.GROCERIES).toList();
@@ -65,9 +66,9 @@ public final class StreamPitfallsDemo implements Demo
       long goodTotal = txs.stream().filter(t -> t.category() == Transaction.Category.GROCERIES)
             .mapToLong(Transaction::amountMinor).sum();
 
-      System.out.println("badTotal  (two pipelines) = " + badTotal);
-      System.out.println("goodTotal (one pipeline)  = " + goodTotal);
-      System.out.println("Note: intermediate lists add allocations and often reduce readability.");
+      Output.println("badTotal  (two pipelines) = " + badTotal);
+      Output.println("goodTotal (one pipeline)  = " + goodTotal);
+      Output.println("Note: intermediate lists add allocations and often reduce readability.");
    }
 
    // -------------------------------------------------
@@ -75,7 +76,7 @@ public final class StreamPitfallsDemo implements Demo
    // -------------------------------------------------
    private static void pitfallSideEffects(List<Transaction> txs)
    {
-      System.out.println("[Pitfall 3] Side effects (especially dangerous with parallel)");
+      Output.println("[Pitfall 3] Side effects (especially dangerous with parallel)");
 
       // BAD: mutating external state in a stream pipeline
       List<String> ids = new ArrayList<>();
@@ -84,9 +85,9 @@ public final class StreamPitfallsDemo implements Demo
       // GOOD: collect results via stream terminal ops
       List<String> safeIds = txs.stream().map(Transaction::id).toList();
 
-      System.out.println("ids.size()     = " + ids.size());
-      System.out.println("safeIds.size() = " + safeIds.size());
-      System.out.println("Note: side effects break referential transparency and become race-prone in parallel.");
+      Output.println("ids.size()     = " + ids.size());
+      Output.println("safeIds.size() = " + safeIds.size());
+      Output.println("Note: side effects break referential transparency and become race-prone in parallel.");
    }
 
    // -------------------------------------------------
@@ -94,7 +95,7 @@ public final class StreamPitfallsDemo implements Demo
    // -------------------------------------------------
    private static void pitfallParallelMisuse(List<Transaction> txs)
    {
-      System.out.println("[Pitfall 4] Parallel streams misuse");
+      Output.println("[Pitfall 4] Parallel streams misuse");
 
       // BAD (performance): parallel + shared mutable state => contention.
       // AtomicLong is thread-safe (no lost updates), but frequent atomic updates can erase any parallel benefit.
@@ -104,9 +105,10 @@ public final class StreamPitfallsDemo implements Demo
       // GOOD: use reduction (built-in is optimized and correct)
       long reducedTotal = txs.parallelStream().mapToLong(Transaction::amountMinor).sum();
 
-      System.out.println("atomicTotal  (thread-safe, but contended) = " + atomicTotal.get());
-      System.out.println("reducedTotal (parallel reduction)    = " + reducedTotal);
-      System.out.println("Note: with parallel streams, prefer stateless operations/reductions and avoid shared mutable state (even if atomic).");
+      Output.println("atomicTotal  (thread-safe, but contended) = " + atomicTotal.get());
+      Output.println("reducedTotal (parallel reduction)    = " + reducedTotal);
+      Output.println("Note: with parallel streams, prefer stateless operations/reductions and avoid shared mutable state (even if atomic).");
+      Output.println("Note: parallel streams share commonPool(); see \"Fork/Join Aggregation\" for an isolated pool with tuned splitting.");
    }
 
    @Override
@@ -1,6 +1,7 @@
 package playground.modern.streams;
 
 import playground.common.Demo;
+import playground.common.output.Output;
 import playground.modern.streams.models.Transaction;
 import playground.modern.streams.models.TransactionFixtures;
 import playground.modern.streams.models.TransactionSummary;
@@ -19,48 +20,48 @@ public final class StreamsDemo implements Demo
    {
       List<Transaction> txs = TransactionFixtures.sampleTransactions();
 
-      System.out.println("=== StreamsDemo: Custom Collector Summary ===");
+      Output.println("=== StreamsDemo: Custom Collector Summary ===");
       TransactionSummary summary = txs.stream().collect(new TransactionSummaryCollector());
       printSummary(summary);
 
-      System.out.println();
-      System.out.println("=== StreamsDemo: A few good stream patterns ===");
+      Output.println();
+      Output.println("=== StreamsDemo: A few good stream patterns ===");
 
       // 1) Total spend using primitive stream (avoid boxing)
       long total = txs.stream().mapToLong(Transaction::amountMinor).sum();
-      System.out.println("Total spend (minor units): " + total);
+      Output.println("Total spend (minor units): " + total);
 
       // 2) Top 3 transactions by amount (descending)
       List<Transaction> top3 = txs.stream().sorted(Comparator.comparingLong(Transaction::amountMinor).reversed()).limit(3)
             .toList();
-      System.out.println("Top 3 transactions:");
-      top3.forEach(t -> System.out.println("  " + formatTx(t)));
+      Output.println("Top 3 transactions:");
+      top3.forEach(t -> Output.println("  " + formatTx(t)));
 
       // 3) Spend per merchant using groupingBy + summingLong
       Map<String, Long> spendByMerchant = txs.stream()
             .collect(Collectors.groupingBy(Transaction::merchant, Collectors.summingLong(Transaction::amountMinor)));
-      System.out.println("Spend by merchant:");
-      spendByMerchant.forEach((m, amt) -> System.out.println("  " + m + " -> " + amt));
+      Output.println("Spend by merchant:");
+      spendByMerchant.forEach((m, amt) -> Output.println("  " + m + " -> " + amt));
 
       // 4) Count per category using groupingBy (Enum keys)
       Map<Transaction.Category, Long> countByCategory = txs.stream()
             .collect(Collectors.groupingBy(Transaction::category, Collectors.counting()));
-      System.out.println("Count by category:");
-      countByCategory.forEach((c, cnt) -> System.out.println("  " + c + " -> " + cnt));
+      Output.println("Count by category:");
+      countByCategory.forEach((c, cnt) -> Output.println("  " + c + " -> " + cnt));
    }
 
    private static void printSummary(TransactionSummary s)
    {
-      System.out.println("count = " + s.count());
-      System.out.println("totalAmountMinor = " + s.totalAmountMinor());
-      System.out.println("minAmountMinor = " + s.minAmountMinor());
-      System.out.println("maxAmountMinor = " + s.maxAmountMinor());
+      Output.println("count = " + s.count());
+      Output.println("totalAmountMinor = " + s.totalAmountMinor());
+      Output.println("minAmountMinor = " + s.minAmountMinor());
+      Output.println("maxAmountMinor = " + s.maxAmountMinor());
 
-      System.out.println("countByCategory:");
-      s.countByCategory().forEach((cat, cnt) -> System.out.println("  " + cat + " -> " + cnt));
+      Output.println("countByCategory:");
+      s.countByCategory().forEach((cat, cnt) -> Output.println("  " + cat + " -> " + cnt));
 
-      System.out.println("totalByMerchant:");
-      s.totalByMerchant().forEach((merchant, amt) -> System.out.println("  " + merchant + " -> " + amt));
+      Output.println("totalByMerchant:");
+      s.totalByMerchant().forEach((merchant, amt) -> Output.println("  " + merchant + " -> " + amt));
    }
 
    private static String formatTx(Transaction t)
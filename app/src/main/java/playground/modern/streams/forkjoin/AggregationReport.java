@@ -0,0 +1,37 @@
+package playground.modern.streams.forkjoin;
+
+import playground.modern.streams.models.TransactionSummary;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+
+/**
+ * Result of one {@link ForkJoinAggregator#aggregate} call.
+ *
+ * @param steals       tasks stolen between workers during this call (from {@code ForkJoinPool.getStealCount()})
+ * @param rowsByWorker rows accumulated in leaves, per worker slot
+ */
+public record AggregationReport(TransactionSummary summary, Duration elapsed, int threshold, long steals, long[] rowsByWorker)
+{
+   public AggregationReport
+   {
+      rowsByWorker = rowsByWorker.clone();
+   }
+
+   @Override
+   public long[] rowsByWorker()
+   {
+      return rowsByWorker.clone();
+   }
+
+   /**
+    * Busiest worker's rows divided by the mean over all workers: 1.0 is perfectly balanced.
+    */
+   public double imbalance()
+   {
+      long max = Arrays.stream(rowsByWorker).max().orElse(0);
+      double mean = Arrays.stream(rowsByWorker).average().orElse(0);
+      return mean == 0 ? Double.NaN : max / mean;
+   }
+}
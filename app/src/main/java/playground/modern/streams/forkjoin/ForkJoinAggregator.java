@@ -0,0 +1,76 @@
+package playground.modern.streams.forkjoin;
+
+import playground.modern.concurrency.slots.LongSlots;
+import playground.modern.concurrency.slots.SlotLayout;
+import playground.modern.streams.models.Transaction;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+
+/**
+ * Recursive, work-stealing transaction aggregation on its own {@link ForkJoinPool}.
+ * <p>
+ * - isolated pool: a long aggregation can't starve other {@code commonPool()} users (parallel streams,
+ *   {@code CompletableFuture} defaults), and its steal count is not mixed with theirs
+ * - configurable sequential threshold: below it a range is summed in one tight loop
+ * - leaves accumulate into primitive arrays ({@link PrimitiveSummary}) over {@link TransactionColumns}
+ * <p>
+ * Close it to shut the pool down.
+ */
+public final class ForkJoinAggregator implements AutoCloseable
+{
+   private final ForkJoinPool pool;
+   private final int threshold;
+
+   public ForkJoinAggregator(int parallelism, int threshold)
+   {
+      if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0");
+      if (threshold <= 0) throw new IllegalArgumentException("threshold must be > 0");
+      this.threshold = threshold;
+      this.pool = new ForkJoinPool(parallelism, pool -> {
+         ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+         worker.setName("fj-aggregator-" + worker.getPoolIndex());
+         return worker;
+      }, null, false);
+   }
+
+   public AggregationReport aggregate(List<Transaction> txs)
+   {
+      return aggregate(TransactionColumns.of(txs));
+   }
+
+   public AggregationReport aggregate(TransactionColumns columns)
+   {
+      Objects.requireNonNull(columns);
+      if (columns.size() == 0) throw new IllegalArgumentException("No transactions");
+
+      LongSlots rowsByWorker = new LongSlots(pool.getParallelism(), SlotLayout.PADDED);
+      long stealsBefore = pool.getStealCount();
+      long t0 = System.nanoTime();
+
+      PrimitiveSummary result = pool.invoke(new SummaryTask(columns, 0, columns.size(), threshold, rowsByWorker));
+
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - t0);
+      long[] rows = new long[rowsByWorker.slots()];
+      for (int i = 0; i < rows.length; i++)
+      {
+         rows[i] = rowsByWorker.get(i);
+      }
+      return new AggregationReport(result.finish(columns), elapsed, threshold, pool.getStealCount() - stealsBefore, rows);
+   }
+
+   public int parallelism()
+   {
+      return pool.getParallelism();
+   }
+
+   @Override
+   public void close()
+   {
+      pool.close();
+   }
+}
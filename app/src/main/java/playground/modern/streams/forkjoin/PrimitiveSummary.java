@@ -0,0 +1,98 @@
+package playground.modern.streams.forkjoin;
+
+import playground.modern.streams.models.Transaction;
+import playground.modern.streams.models.TransactionSummary;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+
+/**
+ * Leaf accumulator of {@link SummaryTask}: the same figures as {@code TransactionSummaryCollector.Accumulator},
+ * but counts per category and totals per merchant are {@code long[]} indexed by ordinal / merchant id,
+ * so accumulating a row is a few array stores instead of two map merges with boxing.
+ */
+final class PrimitiveSummary
+{
+   private static final Transaction.Category[] CATEGORIES = Transaction.Category.values();
+
+   long count;
+   long total;
+   long min = Long.MAX_VALUE;
+   long max = Long.MIN_VALUE;
+   final long[] countByCategory = new long[CATEGORIES.length];
+   final long[] totalByMerchant;
+
+   PrimitiveSummary(int merchants)
+   {
+      this.totalByMerchant = new long[merchants];
+   }
+
+   void accumulate(TransactionColumns columns, int from, int to)
+   {
+      long[] amounts = columns.amounts();
+      int[] categories = columns.categories();
+      int[] merchantIds = columns.merchantIds();
+
+      // locals keep the hot loop in registers; fields are written once at the end
+      long total = 0;
+      long min = this.min;
+      long max = this.max;
+      for (int i = from; i < to; i++)
+      {
+         long amount = amounts[i];
+         total += amount;
+         min = Math.min(min, amount);
+         max = Math.max(max, amount);
+         countByCategory[categories[i]]++;
+         totalByMerchant[merchantIds[i]] += amount;
+      }
+      this.count += to - from;
+      this.total += total;
+      this.min = min;
+      this.max = max;
+   }
+
+   PrimitiveSummary combine(PrimitiveSummary other)
+   {
+      count += other.count;
+      total += other.total;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      for (int i = 0; i < countByCategory.length; i++)
+      {
+         countByCategory[i] += other.countByCategory[i];
+      }
+      for (int i = 0; i < totalByMerchant.length; i++)
+      {
+         totalByMerchant[i] += other.totalByMerchant[i];
+      }
+      return this;
+   }
+
+   /**
+    * Same shape as the collector's result: only categories/merchants that occurred appear in the maps.
+    */
+   TransactionSummary finish(TransactionColumns columns)
+   {
+      EnumMap<Transaction.Category, Long> byCategory = new EnumMap<>(Transaction.Category.class);
+      for (int i = 0; i < countByCategory.length; i++)
+      {
+         if (countByCategory[i] > 0)
+         {
+            byCategory.put(CATEGORIES[i], countByCategory[i]);
+         }
+      }
+      Map<String, Long> byMerchant = new HashMap<>();
+      // every merchant id comes from at least one row of the columns, so all of them occurred
+      for (int i = 0; i < totalByMerchant.length; i++)
+      {
+         byMerchant.put(columns.merchant(i), totalByMerchant[i]);
+      }
+      OptionalLong minOpt = count == 0 ? OptionalLong.empty() : OptionalLong.of(min);
+      OptionalLong maxOpt = count == 0 ? OptionalLong.empty() : OptionalLong.of(max);
+      return new TransactionSummary(count, total, minOpt, maxOpt, Map.copyOf(byCategory), Map.copyOf(byMerchant));
+   }
+}
@@ -0,0 +1,58 @@
+package playground.modern.streams.forkjoin;
+
+import playground.modern.concurrency.slots.LongSlots;
+
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Splits {@code [from, to)} in halves until a range is at most {@code threshold} rows, then
+ * accumulates it sequentially into a fresh {@link PrimitiveSummary}.
+ * <p>
+ * Forks the left half and computes the right half itself, so the current worker keeps working while
+ * idle workers steal the forked halves; results are combined on the way back up.
+ */
+final class SummaryTask extends RecursiveTask<PrimitiveSummary>
+{
+   private final TransactionColumns columns;
+   private final int from;
+   private final int to;
+   private final int threshold;
+   private final LongSlots rowsByWorker;
+
+   SummaryTask(TransactionColumns columns, int from, int to, int threshold, LongSlots rowsByWorker)
+   {
+      this.columns = columns;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.rowsByWorker = rowsByWorker;
+   }
+
+   @Override
+   protected PrimitiveSummary compute()
+   {
+      if (to - from <= threshold)
+      {
+         PrimitiveSummary leaf = new PrimitiveSummary(columns.merchantCount());
+         leaf.accumulate(columns, from, to);
+         rowsByWorker.add(workerSlot(), to - from);
+         return leaf;
+      }
+
+      int mid = (from + to) >>> 1;
+      SummaryTask left = new SummaryTask(columns, from, mid, threshold, rowsByWorker);
+      SummaryTask right = new SummaryTask(columns, mid, to, threshold, rowsByWorker);
+      left.fork();
+      PrimitiveSummary rightResult = right.compute();
+      return left.join().combine(rightResult);
+   }
+
+   private int workerSlot()
+   {
+      // pool indexes can exceed parallelism when the pool adds compensation threads; fold them back in
+      int index = Thread.currentThread() instanceof ForkJoinWorkerThread worker ? worker.getPoolIndex() : 0;
+      return index % rowsByWorker.slots();
+   }
+}
@@ -0,0 +1,86 @@
+package playground.modern.streams.forkjoin;
+
+import playground.modern.streams.models.Transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Column-oriented, primitive copy of a transaction list: one array per field the aggregation needs,
+ * merchants dictionary-encoded to dense ids.
+ * <p>
+ * Built once (O(n), one map lookup per row) and then scanned many times without touching
+ * {@link Transaction} objects, so the leaves of {@link ForkJoinAggregator} run over contiguous
+ * {@code long[]}/{@code int[]} data.
+ */
+public final class TransactionColumns
+{
+   private final long[] amounts;
+   private final int[] categories;
+   private final int[] merchantIds;
+   private final List<String> merchants;
+
+   private TransactionColumns(long[] amounts, int[] categories, int[] merchantIds, List<String> merchants)
+   {
+      this.amounts = amounts;
+      this.categories = categories;
+      this.merchantIds = merchantIds;
+      this.merchants = merchants;
+   }
+
+   public static TransactionColumns of(List<Transaction> txs)
+   {
+      int n = txs.size();
+      long[] amounts = new long[n];
+      int[] categories = new int[n];
+      int[] merchantIds = new int[n];
+      Map<String, Integer> ids = new HashMap<>();
+      List<String> merchants = new ArrayList<>();
+
+      int i = 0;
+      for (Transaction t : txs)
+      {
+         amounts[i] = t.amountMinor();
+         categories[i] = t.category().ordinal();
+         merchantIds[i] = ids.computeIfAbsent(t.merchant(), m -> {
+            merchants.add(m);
+            return merchants.size() - 1;
+         });
+         i++;
+      }
+      return new TransactionColumns(amounts, categories, merchantIds, List.copyOf(merchants));
+   }
+
+   public int size()
+   {
+      return amounts.length;
+   }
+
+   public int merchantCount()
+   {
+      return merchants.size();
+   }
+
+   String merchant(int id)
+   {
+      return merchants.get(id);
+   }
+
+   long[] amounts()
+   {
+      return amounts;
+   }
+
+   int[] categories()
+   {
+      return categories;
+   }
+
+   int[] merchantIds()
+   {
+      return merchantIds;
+   }
+}
@@ -2,13 +2,40 @@ package playground.modern.streams.models;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
+import java.util.SplittableRandom;
 
 public final class TransactionFixtures {
 
+   private static final String[] MERCHANTS = { "ICA", "Rusta", "IKEA", "Elgiganten", "Apoteket", "Coop", "Clas Ohlson", "Hemköp" };
+   private static final Transaction.Category[] MERCHANT_CATEGORIES = {
+         Transaction.Category.GROCERIES, Transaction.Category.HOME, Transaction.Category.HOME, Transaction.Category.ELECTRONICS,
+         Transaction.Category.PHARMACY, Transaction.Category.GROCERIES, Transaction.Category.OTHER, Transaction.Category.GROCERIES
+   };
+
    private TransactionFixtures() {}
 
+   /**
+    * {@code count} reproducible pseudo-random transactions (same {@code seed}, same list) for benchmarks.
+    */
+   public static List<Transaction> randomTransactions(int count, long seed) {
+      if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+
+      Currency sek = Currency.getInstance("SEK");
+      Instant base = Instant.parse("2026-01-01T00:00:00Z");
+      SplittableRandom random = new SplittableRandom(seed);
+
+      List<Transaction> txs = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         int m = random.nextInt(MERCHANTS.length);
+         txs.add(tx("t-" + i, "c-" + random.nextInt(10_000), MERCHANTS[m], MERCHANT_CATEGORIES[m],
+               random.nextLong(100, 200_000), sek, base.plusSeconds(i)));
+      }
+      return txs;
+   }
+
    public static List<Transaction> sampleTransactions() {
       Currency sek = Currency.getInstance("SEK");
       Instant base = Instant.parse("2026-01-01T12:00:00Z");
@@ -1,5 +1,10 @@
 package playground.modern.streams.models;
 
+import playground.modern.metrics.CounterMetric;
+import playground.modern.metrics.MetricsRegistry;
+import playground.modern.metrics.TimerMetric;
+import playground.modern.observability.TransactionSummaryEvent;
+
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -15,6 +20,9 @@ import java.util.stream.Collector;
 
 public class TransactionSummaryCollector implements Collector<Transaction, TransactionSummaryCollector.Accumulator, TransactionSummary> {
 
+   private static final TimerMetric SUMMARY_TIME = MetricsRegistry.global().timer("transaction_summary_seconds");
+   private static final CounterMetric TRANSACTIONS = MetricsRegistry.global().counter("transactions_summarized_total");
+
    static final class Accumulator
    {
       long count = 0;
@@ -26,6 +34,17 @@ public class TransactionSummaryCollector implements Collector<Transaction, Trans
 
       final HashMap<String, Long> totalByMerchant = new HashMap<>();
 
+      // One run of the collector for JFR: begun with the accumulator, committed by the finisher.
+      // The accumulator already allocates two maps, so the event object adds nothing noticeable.
+      final TransactionSummaryEvent event = new TransactionSummaryEvent();
+      int accumulators = 1;
+      final long startNanos = SUMMARY_TIME.start();
+
+      Accumulator()
+      {
+         event.begin();
+      }
+
       void add(Transaction t) {
          count++;
          long amount = t.amountMinor();
@@ -49,10 +68,21 @@ public class TransactionSummaryCollector implements Collector<Transaction, Trans
          max = Math.max(this.max, other.max);
          other.countByCategory.forEach((k, v) -> this.countByCategory.merge(k, v, Long::sum));
          other.totalByMerchant.forEach((k, v) -> this.totalByMerchant.merge(k, v, Long::sum));
+         accumulators += other.accumulators;
          return this;
       }
 
       TransactionSummary finish() {
+         if (event.shouldCommit())
+         {
+            event.transactions = count;
+            event.merchants = totalByMerchant.size();
+            event.accumulators = accumulators;
+            event.commit();
+         }
+         SUMMARY_TIME.stop(startNanos);
+         TRANSACTIONS.add(count);
+
          OptionalLong minOpt = (count == 0) ? OptionalLong.empty() : OptionalLong.of(min);
 
          OptionalLong maxOpt = (count == 0) ? OptionalLong.empty() : OptionalLong.of(max);
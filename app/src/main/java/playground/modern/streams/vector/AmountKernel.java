@@ -0,0 +1,38 @@
+package playground.modern.streams.vector;
+
+import java.util.Objects;
+
+
+/**
+ * One pass over a column of amounts and the matching column of category ordinals ({@code 0 <= c < categoryCount}),
+ * producing an {@link AmountSummary}. Implementations differ only in how the pass is executed; both reject an
+ * ordinal outside that range with {@link IllegalArgumentException} (see {@link #checkCategory}).
+ */
+public sealed interface AmountKernel permits ScalarAmountKernel, VectorAmountKernel
+{
+   String name();
+
+   AmountSummary aggregate(long[] amounts, int[] categories, int categoryCount);
+
+   static void checkColumns(long[] amounts, int[] categories, int categoryCount)
+   {
+      Objects.requireNonNull(amounts);
+      Objects.requireNonNull(categories);
+      if (amounts.length != categories.length)
+      {
+         throw new IllegalArgumentException("amounts and categories differ in length: " + amounts.length + " vs " + categories.length);
+      }
+      if (categoryCount <= 0) throw new IllegalArgumentException("categoryCount must be > 0");
+   }
+
+   /**
+    * Checked inside each kernel's pass rather than in a separate one, so a valid column is read only once.
+    */
+   static void checkCategory(int index, int category, int categoryCount)
+   {
+      if (category < 0 || category >= categoryCount)
+      {
+         throw new IllegalArgumentException("categories[" + index + "] = " + category + " is outside [0, " + categoryCount + ")");
+      }
+   }
+}
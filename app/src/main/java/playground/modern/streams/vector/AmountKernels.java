@@ -0,0 +1,32 @@
+package playground.modern.streams.vector;
+
+
+/**
+ * Picks the {@link AmountKernel} for this JVM.
+ */
+public final class AmountKernels
+{
+   static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+   private AmountKernels()
+   {
+   }
+
+   /**
+    * The vector kernel if {@code jdk.incubator.vector} is in the boot layer and the CPU has vector registers,
+    * otherwise the scalar one. The vector class is only loaded after the module check.
+    */
+   public static AmountKernel best()
+   {
+      if (vectorModulePresent() && VectorAmountKernel.isSupported())
+      {
+         return VectorAmountKernel.INSTANCE;
+      }
+      return ScalarAmountKernel.INSTANCE;
+   }
+
+   public static boolean vectorModulePresent()
+   {
+      return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+   }
+}
@@ -0,0 +1,72 @@
+package playground.modern.streams.vector;
+
+import playground.modern.streams.models.Transaction;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * What an {@link AmountKernel} computes over an amount column: count, sum, min and max, plus count and total per
+ * category ordinal. {@code min}/{@code max} are {@code Long.MAX_VALUE}/{@code Long.MIN_VALUE} when {@code count == 0}.
+ */
+public record AmountSummary(long count, long total, long min, long max, long[] countByCategory, long[] totalByCategory)
+{
+   public AmountSummary
+   {
+      countByCategory = countByCategory.clone();
+      totalByCategory = totalByCategory.clone();
+   }
+
+   @Override
+   public long[] countByCategory()
+   {
+      return countByCategory.clone();
+   }
+
+   @Override
+   public long[] totalByCategory()
+   {
+      return totalByCategory.clone();
+   }
+
+   /**
+    * Totals keyed by {@link Transaction.Category}, for categories that occurred.
+    */
+   public Map<Transaction.Category, Long> totalsByCategory()
+   {
+      Map<Transaction.Category, Long> totals = new EnumMap<>(Transaction.Category.class);
+      Transaction.Category[] categories = Transaction.Category.values();
+      for (int c = 0; c < totalByCategory.length && c < categories.length; c++)
+      {
+         if (countByCategory[c] > 0)
+         {
+            totals.put(categories[c], totalByCategory[c]);
+         }
+      }
+      return totals;
+   }
+
+   // Arrays compare by identity in records; summaries compare by content
+   @Override
+   public boolean equals(Object o)
+   {
+      return o instanceof AmountSummary s && count == s.count && total == s.total && min == s.min && max == s.max
+            && Arrays.equals(countByCategory, s.countByCategory) && Arrays.equals(totalByCategory, s.totalByCategory);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return 31 * Long.hashCode(total) + Arrays.hashCode(totalByCategory);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "AmountSummary[count=" + count + ", total=" + total + ", min=" + min + ", max=" + max
+            + ", countByCategory=" + Arrays.toString(countByCategory)
+            + ", totalByCategory=" + Arrays.toString(totalByCategory) + "]";
+   }
+}
@@ -0,0 +1,45 @@
+package playground.modern.streams.vector;
+
+
+/**
+ * One element per iteration; the reference result and the fallback when the Vector API is not available.
+ */
+public final class ScalarAmountKernel implements AmountKernel
+{
+   public static final ScalarAmountKernel INSTANCE = new ScalarAmountKernel();
+
+   private ScalarAmountKernel()
+   {
+   }
+
+   @Override
+   public String name()
+   {
+      return "scalar";
+   }
+
+   @Override
+   public AmountSummary aggregate(long[] amounts, int[] categories, int categoryCount)
+   {
+      AmountKernel.checkColumns(amounts, categories, categoryCount);
+      long[] countByCategory = new long[categoryCount];
+      long[] totalByCategory = new long[categoryCount];
+
+      // locals keep the hot loop in registers
+      long total = 0;
+      long min = Long.MAX_VALUE;
+      long max = Long.MIN_VALUE;
+      for (int i = 0; i < amounts.length; i++)
+      {
+         long amount = amounts[i];
+         int category = categories[i];
+         AmountKernel.checkCategory(i, category, categoryCount);
+         total += amount;
+         min = Math.min(min, amount);
+         max = Math.max(max, amount);
+         countByCategory[category]++;
+         totalByCategory[category] += amount;
+      }
+      return new AmountSummary(amounts.length, total, min, max, countByCategory, totalByCategory);
+   }
+}
@@ -0,0 +1,160 @@
+package playground.modern.streams.vector;
+
+import playground.common.Demo;
+import playground.common.output.Output;
+import playground.common.random.RandomData;
+import playground.modern.concurrency.util.Harness;
+import playground.modern.streams.models.Transaction;
+import playground.modern.streams.models.TransactionFixtures;
+import playground.modern.streams.models.TransactionSummary;
+import playground.modern.streams.models.TransactionSummaryCollector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+
+/**
+ * Sum, min, max, count and per-category totals over a primitive amount column: {@link ScalarAmountKernel} vs
+ * {@link VectorAmountKernel}, and both against the per-object paths ({@link TransactionSummaryCollector},
+ * {@code mapToLong(Transaction::amountMinor).sum()}) in ns per element.
+ * <p>
+ * Column rows: {@code -Dplayground.vector.rows} (default 100,000,000, about 1.2 GB; reduced to what fits in the heap).
+ * The object paths run on {@value #OBJECT_ROWS} transactions, since 100M {@link Transaction}s do not fit.
+ */
+public class VectorAggregationDemo implements Demo
+{
+   private static final int ROWS = Integer.getInteger("playground.vector.rows", 100_000_000);
+   private static final int OBJECT_ROWS = 2_000_000;
+   private static final int BYTES_PER_ROW = Long.BYTES + Integer.BYTES;
+   // Transaction, its id/customer strings and Instant, plus the list slot and the two extracted columns
+   private static final int BYTES_PER_TRANSACTION = 220;
+   private static final int CATEGORIES = Transaction.Category.values().length;
+   private static final int WARMUP = 3;
+   private static final int TRIALS = 5;
+   private static final String ROW_HEADER = "%-46s | %10s | %9s | %s%n";
+   private static final String ROW = "%-46s | %10.3f | %8.2fx | %s%n";
+
+   @Override
+   public String name()
+   {
+      return "Vector API Aggregation";
+   }
+
+   @Override
+   public String description()
+   {
+      return "Sum/min/max/count/per-category totals in one SIMD pass (jdk.incubator.vector) vs scalar loop and collector";
+   }
+
+   @Override
+   public void run()
+   {
+      AmountKernel best = AmountKernels.best();
+      // Both sections are sized against the heap available now; they run one after the other
+      int rows = fittingRows(ROWS, BYTES_PER_ROW);
+      int objectRows = fittingRows(Math.min(rows, OBJECT_ROWS), BYTES_PER_TRANSACTION);
+      Harness.header("VectorAggregationDemo (LongVector, masked lanes per category)");
+      Harness.bullet("jdk.incubator.vector " + (AmountKernels.vectorModulePresent() ? "present" : "NOT present (run with --add-modules jdk.incubator.vector)")
+            + "; best kernel: " + best.name());
+      Harness.bullet(String.format("%,d amounts, %d categories, median of %d after %d warmups%s", rows, CATEGORIES, TRIALS, WARMUP,
+            rows < ROWS ? String.format(" (reduced from %,d to fit the heap)", ROWS) : ""));
+      Output.println();
+
+      // One method per section, so the columns are garbage before the transactions are built
+      compareKernels(best, rows);
+      Output.println();
+      compareWithCollector(best, objectRows);
+      Output.println();
+
+      Harness.bullet("Interpretation:");
+      Harness.bullet("The vector kernel handles a full register of amounts per iteration; each category costs a compare,");
+      Harness.bullet("  an AND and two adds, with no branch on the data. The scalar kernel is already branch-free, so the gap is modest.");
+      Harness.bullet("The collector boxes into an EnumMap and a HashMap per row and chases a pointer per Transaction;");
+      Harness.bullet("  most of the gap to the kernel comes from that layout, not from SIMD. mapToLong().sum() pays only the pointer chase.");
+      Harness.bullet("At 100M rows every pass streams 1.2 GB, so both kernels approach memory bandwidth and the SIMD gain narrows.");
+      Harness.bullet("Without --add-modules jdk.incubator.vector (./gradlew runVector, or -PvectorModule) AmountKernels.best() is the scalar kernel.");
+   }
+
+   private static void compareKernels(AmountKernel best, int rows)
+   {
+      long[] amounts = new long[rows];
+      int[] categories = new int[rows];
+      RandomData random = RandomData.seeded(42);
+      random.fill(amounts, 100, 200_000);
+      random.fill(categories, 0, CATEGORIES - 1);
+
+      Output.printf(ROW_HEADER, "path", "ns/elem", "speedup", "result");
+      AmountSummary[] expected = new AmountSummary[1];
+      double scalarNs = nsPerElement(rows, () -> expected[0] = ScalarAmountKernel.INSTANCE.aggregate(amounts, categories, CATEGORIES));
+      Output.printf(ROW, "scalar kernel (long[] + int[])", scalarNs, 1.0, "reference");
+      if (best != ScalarAmountKernel.INSTANCE)
+      {
+         AmountSummary[] actual = new AmountSummary[1];
+         double bestNs = nsPerElement(rows, () -> actual[0] = best.aggregate(amounts, categories, CATEGORIES));
+         Output.printf(ROW, best.name() + " kernel", bestNs, scalarNs / bestNs, actual[0].equals(expected[0]) ? "ok" : "MISMATCH");
+      }
+   }
+
+   /**
+    * The per-object paths on a list that fits; same amount distribution, so ns/element is comparable.
+    */
+   private static void compareWithCollector(AmountKernel best, int rows)
+   {
+      List<Transaction> txs = TransactionFixtures.randomTransactions(rows, 42);
+      long[] amounts = txs.stream().mapToLong(Transaction::amountMinor).toArray();
+      int[] categories = txs.stream().mapToInt(t -> t.category().ordinal()).toArray();
+
+      TransactionSummary[] summary = new TransactionSummary[1];
+      long[] sum = new long[1];
+      AmountSummary[] columns = new AmountSummary[1];
+      double collectorNs = nsPerElement(rows, () -> summary[0] = txs.stream().collect(new TransactionSummaryCollector()));
+      double sumNs = nsPerElement(rows, () -> sum[0] = txs.stream().mapToLong(Transaction::amountMinor).sum());
+      double kernelNs = nsPerElement(rows, () -> columns[0] = best.aggregate(amounts, categories, CATEGORIES));
+
+      Output.printf(ROW_HEADER, String.format("%,d transactions", rows), "ns/elem", "vs kernel", "result");
+      Output.printf(ROW, "stream().collect(TransactionSummaryCollector)", collectorNs, collectorNs / kernelNs,
+            matches(summary[0], columns[0]) ? "ok" : "MISMATCH");
+      Output.printf(ROW, "mapToLong(amountMinor).sum() (sum only)", sumNs, sumNs / kernelNs,
+            sum[0] == columns[0].total() ? "ok" : "MISMATCH");
+      Output.printf(ROW, best.name() + " kernel", kernelNs, 1.0, "");
+   }
+
+   /**
+    * {@code requested}, or fewer if that many rows would take more than 60% of the heap that is still available.
+    */
+   private static int fittingRows(int requested, int bytesPerRow)
+   {
+      Runtime runtime = Runtime.getRuntime();
+      long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+      long fitting = (long) (available * 0.6) / bytesPerRow;
+      return (int) Math.max(1, Math.min(requested, fitting));
+   }
+
+   private static boolean matches(TransactionSummary summary, AmountSummary columns)
+   {
+      long[] counts = new long[CATEGORIES];
+      summary.countByCategory().forEach((category, count) -> counts[category.ordinal()] = count);
+      return summary.count() == columns.count() && summary.totalAmountMinor() == columns.total()
+            && summary.minAmountMinor().orElse(Long.MAX_VALUE) == columns.min()
+            && summary.maxAmountMinor().orElse(Long.MIN_VALUE) == columns.max()
+            && Arrays.equals(counts, columns.countByCategory());
+   }
+
+   private static double nsPerElement(int elements, Supplier<?> run)
+   {
+      for (int i = 0; i < WARMUP; i++)
+      {
+         run.get();
+      }
+      long[] nanos = new long[TRIALS];
+      for (int i = 0; i < TRIALS; i++)
+      {
+         long t0 = System.nanoTime();
+         run.get();
+         nanos[i] = System.nanoTime() - t0;
+      }
+      Arrays.sort(nanos);
+      return (double) nanos[TRIALS / 2] / elements;
+   }
+}
@@ -0,0 +1,178 @@
+package playground.modern.streams.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+
+/**
+ * {@link AmountKernel} on the incubating Vector API: each iteration loads {@code LongVector.SPECIES_PREFERRED.length()}
+ * amounts (4 with AVX2, 8 with AVX-512) and as many category ordinals, widened to long lanes.
+ * <p>
+ * Sum, min and max are lane-wise; per category, {@code categories == c} is a lane mask that selects the amounts
+ * added to the category's total and the lanes added to its count. Lanes are only reduced after the loop, and the remainder that
+ * does not fill a vector goes through the scalar loop. Sums wrap exactly like the scalar kernel's, so both return
+ * identical results. Ordinals are range-checked with a lane-wise min and max, tested once after the loop, and one
+ * outside {@code [0, categoryCount)} is rejected exactly as the scalar kernel rejects it.
+ * <p>
+ * Needs {@code --add-modules jdk.incubator.vector}; use {@link AmountKernels#best()} instead of referring to this
+ * class directly, so a JVM without the module never loads it. Up to {@link #MAX_CATEGORIES} categories are kept in
+ * vector registers; more fall back to the scalar kernel.
+ */
+public final class VectorAmountKernel implements AmountKernel
+{
+   public static final VectorAmountKernel INSTANCE = new VectorAmountKernel();
+   static final int MAX_CATEGORIES = 8;
+
+   private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+   // Same lane count as LONGS at half the width, so one load of ordinals lines up with one load of amounts
+   private static final VectorSpecies<Integer> INTS = LONGS.length() >= 2
+         ? VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2))
+         : null;
+
+   private VectorAmountKernel()
+   {
+   }
+
+   /**
+    * False when the platform has no vector registers wider than one long (the API would run, but emulated).
+    */
+   public static boolean isSupported()
+   {
+      return INTS != null;
+   }
+
+   @Override
+   public String name()
+   {
+      return "vector (" + LONGS.length() + " x long, " + LONGS.vectorBitSize() + "-bit)";
+   }
+
+   @Override
+   public AmountSummary aggregate(long[] amounts, int[] categories, int categoryCount)
+   {
+      AmountKernel.checkColumns(amounts, categories, categoryCount);
+      if (!isSupported() || categoryCount > MAX_CATEGORIES)
+      {
+         return ScalarAmountKernel.INSTANCE.aggregate(amounts, categories, categoryCount);
+      }
+
+      LongVector zero = LongVector.zero(LONGS);
+      LongVector sum = zero;
+      LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+      LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+      IntVector lowestOrdinal = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+      IntVector highestOrdinal = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+      // Total and count per category as separate locals: vectors stored in an array escape and get boxed.
+      // A lane mask as a vector is -1 where it is set: AND selects the amounts, subtracting it counts. Measured
+      // faster on C2 than masked add(v, m) and mask.trueCount() (a mask-to-GPR move and popcount per category).
+      // The last category gets neither; it is the grand total minus the others.
+      LongVector t0 = zero, t1 = zero, t2 = zero, t3 = zero, t4 = zero, t5 = zero, t6 = zero;
+      LongVector n0 = zero, n1 = zero, n2 = zero, n3 = zero, n4 = zero, n5 = zero, n6 = zero;
+
+      int i = 0;
+      int upper = LONGS.loopBound(amounts.length);
+      for (; i < upper; i += LONGS.length())
+      {
+         LongVector v = LongVector.fromArray(LONGS, amounts, i);
+         IntVector ordinals = IntVector.fromArray(INTS, categories, i);
+         LongVector c = (LongVector) ordinals.convertShape(VectorOperators.I2L, LONGS, 0);
+         sum = sum.add(v);
+         min = min.min(v);
+         max = max.max(v);
+         lowestOrdinal = lowestOrdinal.min(ordinals);
+         highestOrdinal = highestOrdinal.max(ordinals);
+
+         // categoryCount is loop-invariant: these branches always go the same way and cost next to nothing
+         if (categoryCount > 1)
+         {
+            LongVector m = (LongVector) c.eq(0).toVector();
+            t0 = t0.add(v.and(m));
+            n0 = n0.sub(m);
+         }
+         if (categoryCount > 2)
+         {
+            LongVector m = (LongVector) c.eq(1).toVector();
+            t1 = t1.add(v.and(m));
+            n1 = n1.sub(m);
+         }
+         if (categoryCount > 3)
+         {
+            LongVector m = (LongVector) c.eq(2).toVector();
+            t2 = t2.add(v.and(m));
+            n2 = n2.sub(m);
+         }
+         if (categoryCount > 4)
+         {
+            LongVector m = (LongVector) c.eq(3).toVector();
+            t3 = t3.add(v.and(m));
+            n3 = n3.sub(m);
+         }
+         if (categoryCount > 5)
+         {
+            LongVector m = (LongVector) c.eq(4).toVector();
+            t4 = t4.add(v.and(m));
+            n4 = n4.sub(m);
+         }
+         if (categoryCount > 6)
+         {
+            LongVector m = (LongVector) c.eq(5).toVector();
+            t5 = t5.add(v.and(m));
+            n5 = n5.sub(m);
+         }
+         if (categoryCount > 7)
+         {
+            LongVector m = (LongVector) c.eq(6).toVector();
+            t6 = t6.add(v.and(m));
+            n6 = n6.sub(m);
+         }
+      }
+
+      if (upper > 0 && (lowestOrdinal.reduceLanes(VectorOperators.MIN) < 0
+            || highestOrdinal.reduceLanes(VectorOperators.MAX) >= categoryCount))
+      {
+         // The last category is derived from the totals, so it would silently absorb the bad rows: find one and throw
+         for (int j = 0; j < upper; j++)
+         {
+            AmountKernel.checkCategory(j, categories[j], categoryCount);
+         }
+      }
+      long total = sum.reduceLanes(VectorOperators.ADD);
+      long lo = min.reduceLanes(VectorOperators.MIN);
+      long hi = max.reduceLanes(VectorOperators.MAX);
+      long[] totalByCategory = Arrays.copyOf(new long[] {
+            t0.reduceLanes(VectorOperators.ADD), t1.reduceLanes(VectorOperators.ADD), t2.reduceLanes(VectorOperators.ADD),
+            t3.reduceLanes(VectorOperators.ADD), t4.reduceLanes(VectorOperators.ADD), t5.reduceLanes(VectorOperators.ADD),
+            t6.reduceLanes(VectorOperators.ADD), 0 }, categoryCount);
+      long[] countByCategory = Arrays.copyOf(new long[] {
+            n0.reduceLanes(VectorOperators.ADD), n1.reduceLanes(VectorOperators.ADD), n2.reduceLanes(VectorOperators.ADD),
+            n3.reduceLanes(VectorOperators.ADD), n4.reduceLanes(VectorOperators.ADD), n5.reduceLanes(VectorOperators.ADD),
+            n6.reduceLanes(VectorOperators.ADD), 0 }, categoryCount);
+      long otherTotal = total;
+      long otherCount = upper;
+      for (int k = 0; k < categoryCount - 1; k++)
+      {
+         otherTotal -= totalByCategory[k];
+         otherCount -= countByCategory[k];
+      }
+      totalByCategory[categoryCount - 1] = otherTotal;
+      countByCategory[categoryCount - 1] = otherCount;
+
+      // Tail: fewer elements than one vector
+      for (; i < amounts.length; i++)
+      {
+         long amount = amounts[i];
+         AmountKernel.checkCategory(i, categories[i], categoryCount);
+         total += amount;
+         lo = Math.min(lo, amount);
+         hi = Math.max(hi, amount);
+         countByCategory[categories[i]]++;
+         totalByCategory[categories[i]] += amount;
+      }
+      return new AmountSummary(amounts.length, total, lo, hi, countByCategory, totalByCategory);
+   }
+}